@@ -0,0 +1,88 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared setup for the gameplay benchmarks.
+ * Enemies are either plain entities attached to a standalone {@link GameWorld}, so they count
+ * as active without loading any textures, or complete game enemies living in a
+ * {@link HeadlessEnvironment}.
+ */
+final class BenchmarkFixtures {
+    static final double SCREEN_WIDTH = 1280;
+    static final double SCREEN_HEIGHT = 720;
+
+    private static final PrintStream SILENT = new PrintStream(OutputStream.nullOutputStream());
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Swallows the game's console logging so it does not dominate the measurements
+     */
+    static void silenceConsole() {
+        System.setOut(SILENT);
+    }
+
+    /**
+     * Creates enemies spread over the screen, cycling through all archetypes
+     *
+     * @param world World the enemies are attached to
+     * @param count Number of enemies
+     * @param random Source of positions and directions
+     * @return The created enemies
+     */
+    static List<Entity> createEnemies(GameWorld world, int count, Random random) {
+        List<EnemyArchetype> archetypes = EnemyFactory.getArchetypes();
+        List<Entity> enemies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Entity enemy = new Entity();
+            enemy.setType(archetypes.get(i % archetypes.size()).getType());
+            enemy.setPosition(300 + random.nextDouble() * 800, 100 + random.nextDouble() * 500);
+            enemy.setProperty("word", "enemy" + i);
+            enemy.setProperty("row", i % 4);
+            enemy.setProperty("movingRight", random.nextBoolean());
+            enemy.setProperty("hasBeenVisible", true);
+            enemy.setProperty("isActive", true);
+            world.addEntity(enemy);
+            enemies.add(enemy);
+        }
+        return enemies;
+    }
+
+    /**
+     * Creates enemies the way the game does, with sprite, animated texture and word label,
+     * and attaches them to a headless environment's world. The environment becomes the
+     * current {@link GameEnvironment}.
+     *
+     * @param environment Environment whose world the enemies are attached to
+     * @param count Number of enemies
+     * @param random Source of positions and directions
+     * @return The created enemies, not yet added to an entity manager
+     */
+    static List<Entity> createGameEnemies(HeadlessEnvironment environment, int count, Random random) {
+        GameEnvironment.set(environment);
+        List<EnemyArchetype> archetypes = EnemyFactory.getArchetypes();
+        WordFactory words = WordFactory.getInstance();
+        List<Entity> enemies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Entity enemy = EnemyFactory.createEnemy(archetypes.get(i % archetypes.size()));
+            double y = 100 + random.nextDouble() * 500;
+            EnemyFactory.spawnEnemy(enemy, i % 4, y, random.nextBoolean(), 100);
+            enemy.setX(300 + random.nextDouble() * 800);
+            EnemyFactory.configureEnemyWord(enemy, words.getWordForWave(1 + i % 10), y);
+            enemy.setProperty("hasBeenVisible", true);
+            enemy.setProperty("isActive", true);
+            environment.attachEntity(enemy);
+            enemies.add(enemy);
+        }
+        return enemies;
+    }
+}
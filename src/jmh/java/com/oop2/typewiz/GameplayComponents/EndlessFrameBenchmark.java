@@ -0,0 +1,92 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.almasb.fxgl.entity.Entity;
+import com.oop2.typewiz.Difficulty;
+import javafx.geometry.Rectangle2D;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the gameplay frame of an endless survival game with the screen full.
+ * The enemies are built by {@link EnemyFactory#createEnemy} like in the game, each with its
+ * view, animated texture and word label nodes, and live in a {@link HeadlessEnvironment} world.
+ * A frame moves every enemy through the spatial grid, advances the sprite animations,
+ * updates the FXGL world (which syncs each view's transform), processes removals, picks
+ * the next target and looks up the typed prefix.
+ *
+ * Rendering is not covered: the JavaFX pulse that applies CSS, lays out and paints the
+ * scene graph needs a stage and a graphics pipeline. The result is the game-side share of
+ * the 16,667 us a frame has at 60 FPS, not proof that the whole frame fits; in the running
+ * game, the key-to-pulse histogram of {@code InputLatencyTracker} covers the rest.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EndlessFrameBenchmark {
+    private static final double TPF = 1.0 / 60.0;
+    private static final double SPEED_MULTIPLIER = 3.0; // A late endless wave
+    // Enemies are moved back before any of them can leave the screen
+    private static final int FRAMES_PER_RESET = 50;
+
+    @Param({"200", "400", "800"})
+    public int enemyCount;
+
+    private HeadlessEnvironment environment;
+    private EntityManager entityManager;
+    private double[] startX;
+    private int frame;
+    private Rectangle2D queryArea;
+    private List<Entity> nearby;
+    private Entity target;
+    private String typedPrefix;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.silenceConsole();
+        DifficultySettings settings = DifficultySettings.forDifficulty(Difficulty.ENDLESS)
+                .withEntityScale((enemyCount + 199) / 200);
+        entityManager = new EntityManager(BenchmarkFixtures.SCREEN_WIDTH, BenchmarkFixtures.SCREEN_HEIGHT,
+                settings.getMaxActiveEntities(), false);
+        environment = new HeadlessEnvironment(BenchmarkFixtures.SCREEN_WIDTH, BenchmarkFixtures.SCREEN_HEIGHT);
+        List<Entity> enemies = BenchmarkFixtures.createGameEnemies(environment, enemyCount, new Random(42));
+        for (Entity enemy : enemies) {
+            entityManager.addActiveEntity(enemy);
+        }
+        String word = enemies.get(1).getString("word");
+        typedPrefix = word.substring(0, Math.min(2, word.length()));
+
+        EnemyStore store = entityManager.getEnemyStore();
+        startX = new double[store.size];
+        System.arraycopy(store.x, 0, startX, 0, store.size);
+        queryArea = new Rectangle2D(400, 200, 300, 250);
+        nearby = new ArrayList<>(enemyCount);
+    }
+
+    @Benchmark
+    public void frame(Blackhole blackhole) {
+        if (++frame == FRAMES_PER_RESET) {
+            EnemyStore store = entityManager.getEnemyStore();
+            System.arraycopy(startX, 0, store.x, 0, store.size);
+            frame = 0;
+        }
+        entityManager.updateEntities(TPF, SPEED_MULTIPLIER);
+        environment.advance(TPF);
+        entityManager.processRemovals();
+
+        target = entityManager.getMostUrgentEnemy();
+        blackhole.consume(entityManager.getNextEnemyByUrgency(target));
+        blackhole.consume(entityManager.getWordTrie().find(typedPrefix));
+
+        nearby.clear();
+        entityManager.getSpatialPartitioning().getEntitiesInArea(queryArea, nearby);
+        blackhole.consume(nearby.size());
+    }
+}
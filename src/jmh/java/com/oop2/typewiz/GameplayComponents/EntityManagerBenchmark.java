@@ -0,0 +1,70 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the per-frame enemy update loop and the active enemy queries.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityManagerBenchmark {
+    private static final double TPF = 1.0 / 60.0;
+    // Enemies are moved back before any of them can leave the screen
+    private static final int FRAMES_PER_RESET = 150;
+
+    @Param({"25", "100", "200"})
+    public int enemyCount;
+
+    private EntityManager entityManager;
+    private double[] startX;
+    private int frame;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.silenceConsole();
+        entityManager = new EntityManager(BenchmarkFixtures.SCREEN_WIDTH, BenchmarkFixtures.SCREEN_HEIGHT,
+                enemyCount, false);
+        List<Entity> enemies = BenchmarkFixtures.createEnemies(new GameWorld(), enemyCount, new Random(42));
+        for (Entity enemy : enemies) {
+            entityManager.addActiveEntity(enemy);
+        }
+
+        EnemyStore store = entityManager.getEnemyStore();
+        startX = new double[store.size];
+        System.arraycopy(store.x, 0, startX, 0, store.size);
+    }
+
+    @Benchmark
+    public void updateEntities() {
+        if (++frame == FRAMES_PER_RESET) {
+            EnemyStore store = entityManager.getEnemyStore();
+            System.arraycopy(startX, 0, store.x, 0, store.size);
+            frame = 0;
+        }
+        entityManager.updateEntities(TPF, 1.0);
+    }
+
+    @Benchmark
+    public List<Entity> getActiveEnemies() {
+        return entityManager.getActiveEnemies();
+    }
+
+    @Benchmark
+    public void iterateActiveEnemiesView(Blackhole blackhole) {
+        List<Entity> enemies = entityManager.getActiveEnemiesView();
+        for (int i = 0; i < enemies.size(); i++) {
+            blackhole.consume(enemies.get(i).getX());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the end-of-game typing consistency calculation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerManagerBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int keystrokes;
+
+    private PlayerManager playerManager;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.silenceConsole();
+        playerManager = new PlayerManager();
+        Random random = new Random(42);
+        for (int i = 0; i < keystrokes; i++) {
+            // Roughly 60-90 WPM with the occasional pause
+            long timing = random.nextInt(20) == 0 ? 600 + random.nextInt(800) : 120 + random.nextInt(120);
+            playerManager.recordKeystrokeTiming(timing);
+        }
+    }
+
+    @Benchmark
+    public double calculateConsistency() {
+        return playerManager.calculateConsistency();
+    }
+}
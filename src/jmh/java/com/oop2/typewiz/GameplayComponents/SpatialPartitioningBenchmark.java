@@ -0,0 +1,60 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+import javafx.geometry.Rectangle2D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks moving entities through the spatial grid and querying it by area.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpatialPartitioningBenchmark {
+    @Param({"25", "100", "200"})
+    public int enemyCount;
+
+    private SpatialPartitioning spatialPartitioning;
+    private List<Entity> enemies;
+    private Rectangle2D queryArea;
+    private List<Entity> result;
+    private double step;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.silenceConsole();
+        spatialPartitioning = new SpatialPartitioning(100, BenchmarkFixtures.SCREEN_WIDTH, BenchmarkFixtures.SCREEN_HEIGHT);
+        enemies = BenchmarkFixtures.createEnemies(new GameWorld(), enemyCount, new Random(42));
+        spatialPartitioning.batchUpdate(enemies);
+        queryArea = new Rectangle2D(400, 200, 300, 250);
+        result = new ArrayList<>(enemyCount);
+        step = 7;
+    }
+
+    @Benchmark
+    public void updateEntity() {
+        // Slide every enemy back and forth so some of them cross cell borders each call
+        step = -step;
+        for (int i = 0; i < enemies.size(); i++) {
+            Entity enemy = enemies.get(i);
+            enemy.translateX(step);
+            spatialPartitioning.updateEntity(enemy);
+        }
+    }
+
+    @Benchmark
+    public List<Entity> getEntitiesInArea() {
+        result.clear();
+        spatialPartitioning.getEntitiesInArea(queryArea, result);
+        return result;
+    }
+}
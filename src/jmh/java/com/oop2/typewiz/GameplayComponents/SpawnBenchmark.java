@@ -0,0 +1,43 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the work done per spawned group: spacing the spawn heights and drawing words.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnBenchmark {
+    @Param({"3", "8"})
+    public int groupSize;
+
+    private Random random;
+    private WordFactory wordFactory;
+    private int wave;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.silenceConsole();
+        random = new Random(7);
+        wordFactory = WordFactory.getInstance();
+    }
+
+    @Benchmark
+    public List<Double> generateSpawnPositions() {
+        return WaveManager.generateSpawnPositions(random, 50, BenchmarkFixtures.SCREEN_HEIGHT - 150, groupSize);
+    }
+
+    @Benchmark
+    public String getWordForWave() {
+        wave = wave % 10 + 1;
+        return wordFactory.getWordForWave(wave);
+    }
+}
@@ -0,0 +1,113 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks picking the next target: the maintained urgency ranking against
+ * a linear scan over the active enemies. The ranking has to be restored every frame
+ * after the enemies move, so the fair comparison is {@link #moveAndScan} against
+ * {@link #moveRankAndPick}: both move every enemy one frame's worth first, and the
+ * second one also pays for {@link EnemyStore#sortByUrgency}. The lookups on their own
+ * show what a pick costs between frames, e.g. when the player cycles targets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetingBenchmark {
+    private static final double TPF = 1.0 / 60.0;
+    private static final double SPEED_MULTIPLIER = 3.0; // A late endless wave
+    // Enemies are moved back before any of them can leave the screen
+    private static final int FRAMES_PER_RESET = 50;
+
+    @Param({"25", "100", "200"})
+    public int enemyCount;
+
+    private EntityManager entityManager;
+    private EnemyStore store;
+    private List<Entity> enemies;
+    private Entity current;
+    private double[] startX;
+    private int frame;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.silenceConsole();
+        entityManager = new EntityManager(BenchmarkFixtures.SCREEN_WIDTH, BenchmarkFixtures.SCREEN_HEIGHT,
+                enemyCount, false);
+        enemies = BenchmarkFixtures.createEnemies(new GameWorld(), enemyCount, new Random(42));
+        for (Entity enemy : enemies) {
+            entityManager.addActiveEntity(enemy);
+        }
+        current = entityManager.getMostUrgentEnemy();
+        store = entityManager.getEnemyStore();
+        startX = new double[store.size];
+        System.arraycopy(store.x, 0, startX, 0, store.size);
+    }
+
+    /**
+     * Moves every enemy one frame, the way {@link EntityManager#updateEntities} does,
+     * without the ranking that method restores at the end
+     */
+    private void moveEnemies() {
+        if (++frame == FRAMES_PER_RESET) {
+            System.arraycopy(startX, 0, store.x, 0, store.size);
+            frame = 0;
+        }
+        for (int i = 0; i < store.size; i++) {
+            double movement = Math.max(store.speed[i] * SPEED_MULTIPLIER * TPF, 1.0);
+            double x = store.x[i] + (store.movingRight[i] ? movement : -movement);
+            store.x[i] = x;
+            store.entities[i].setX(x);
+        }
+    }
+
+    @Benchmark
+    public Entity moveAndScan() {
+        moveEnemies();
+        return scanForMostUrgentEnemy();
+    }
+
+    @Benchmark
+    public Entity moveRankAndPick() {
+        moveEnemies();
+        store.sortByUrgency();
+        return entityManager.getMostUrgentEnemy();
+    }
+
+    @Benchmark
+    public Entity scanForMostUrgentEnemy() {
+        // Linear scan the targeting code used before the urgency ranking
+        Entity mostUrgent = null;
+        double minDistance = Double.MAX_VALUE;
+        for (Entity enemy : enemies) {
+            double distance = enemy.getBoolean("movingRight")
+                    ? BenchmarkFixtures.SCREEN_WIDTH - enemy.getX()
+                    : enemy.getX();
+            if (distance < minDistance) {
+                minDistance = distance;
+                mostUrgent = enemy;
+            }
+        }
+        return mostUrgent;
+    }
+
+    @Benchmark
+    public Entity getMostUrgentEnemy() {
+        return entityManager.getMostUrgentEnemy();
+    }
+
+    @Benchmark
+    public Entity cycleByUrgency() {
+        current = entityManager.getNextEnemyByUrgency(current);
+        return current;
+    }
+}
@@ -0,0 +1,82 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks picking a random word by tier from the in-heap {@link WordCorpus} and the
+ * memory-mapped {@link MappedDictionary}. Both picks do a fixed amount of work whatever the
+ * size; what grows is the share of cache misses. Run with {@code -prof gc} to see that each
+ * pick allocates only the returned String.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordSourceBenchmark {
+    private static final WordCorpus.Tier[] TIERS = WordCorpus.Tier.values();
+
+    @Param({"100000", "1000000"})
+    public int wordCount;
+
+    private WordCorpus corpus;
+    private MappedDictionary dictionary;
+    private Path file;
+    private Random random;
+    private int pick;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random words = new Random(11);
+        Map<WordCorpus.Tier, List<String>> tiers = new EnumMap<>(WordCorpus.Tier.class);
+        MappedDictionaryBuilder builder = new MappedDictionaryBuilder(1.0 / 3, 2.0 / 3);
+        for (WordCorpus.Tier tier : TIERS) {
+            tiers.put(tier, new ArrayList<>());
+        }
+        for (int i = 0; i < wordCount; i++) {
+            WordCorpus.Tier tier = TIERS[i % TIERS.length];
+            StringBuilder word = new StringBuilder();
+            int length = 3 + words.nextInt(4 + 4 * tier.ordinal());
+            for (int k = 0; k < length; k++) {
+                word.append((char) ('a' + words.nextInt(26)));
+            }
+            tiers.get(tier).add(word.toString());
+            // Zipf-like frequencies, as in real word lists
+            builder.add(word.toString(), 1_000_000.0 / (i + 1), (tier.ordinal() + 0.5) / TIERS.length);
+        }
+        corpus = WordCorpus.of(tiers, "benchmark");
+        file = Files.createTempFile("words", ".twd");
+        builder.write(file);
+        dictionary = MappedDictionary.open(file);
+        random = new Random(3);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        dictionary = null;
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public String corpusRandomWord() {
+        pick = pick == TIERS.length - 1 ? 0 : pick + 1;
+        return corpus.randomWord(TIERS[pick], random);
+    }
+
+    @Benchmark
+    public String dictionaryRandomWord() {
+        pick = pick == TIERS.length - 1 ? 0 : pick + 1;
+        return dictionary.randomWord(TIERS[pick], random);
+    }
+}
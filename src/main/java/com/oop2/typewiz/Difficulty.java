@@ -3,5 +3,6 @@ package com.oop2.typewiz;
 public enum Difficulty {
     APPRENTICE,  // Easy
     WIZARD,      // Medium
-    ARCHMAGE     // Hard
+    ARCHMAGE,    // Hard
+    ENDLESS      // Survival, waves never end
 }
\ No newline at end of file
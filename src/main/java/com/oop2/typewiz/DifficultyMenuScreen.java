@@ -20,11 +20,13 @@ import javafx.util.Duration;
 
 public class DifficultyMenuScreen extends FXGLMenu {
 
-    public static Node create(Runnable backAction, Runnable easyAction, Runnable mediumAction, Runnable hardAction) {
-        return new DifficultyMenuScreen(backAction, easyAction, mediumAction, hardAction).getContentRoot();
+    public static Node create(Runnable backAction, Runnable easyAction, Runnable mediumAction, Runnable hardAction,
+                              Runnable endlessAction) {
+        return new DifficultyMenuScreen(backAction, easyAction, mediumAction, hardAction, endlessAction).getContentRoot();
     }
 
-    DifficultyMenuScreen(Runnable backAction, Runnable easyAction, Runnable mediumAction, Runnable hardAction) {
+    DifficultyMenuScreen(Runnable backAction, Runnable easyAction, Runnable mediumAction, Runnable hardAction,
+                         Runnable endlessAction) {
         super(MenuType.MAIN_MENU);
 
         FXGL.getAssetLoader().loadSound("sound-library/click.wav");
@@ -40,7 +42,7 @@ public class DifficultyMenuScreen extends FXGLMenu {
         );
 
         // Glass panel effect
-        Rectangle panel = new Rectangle(500, 500);
+        Rectangle panel = new Rectangle(500, 590);
         panel.setArcHeight(30);
         panel.setArcWidth(30);
         panel.setFill(Color.web("rgba(60, 0, 90, 0.5)"));
@@ -58,6 +60,7 @@ public class DifficultyMenuScreen extends FXGLMenu {
         Button easyButton = createDifficultyButton("Apprentice", "Slow incantations", easyAction);
         Button mediumButton = createDifficultyButton("Wizard", "Standard spells", mediumAction);
         Button hardButton = createDifficultyButton("Archmage", "Lightning-fast charms", hardAction);
+        Button endlessButton = createDifficultyButton("Endless", "Survive the never-ending horde", endlessAction);
 
 //        easyButton.setOnAction(e -> {
 //            FXGL.play("sound-library/click.wav"); // plays the sound
@@ -94,7 +97,7 @@ public class DifficultyMenuScreen extends FXGLMenu {
         });
 
         // Layout
-        VBox menuBox = new VBox(20, title, easyButton, mediumButton, hardButton, backButton);
+        VBox menuBox = new VBox(20, title, easyButton, mediumButton, hardButton, endlessButton, backButton);
         menuBox.setAlignment(Pos.CENTER);
         menuBox.setMaxWidth(400);
 
@@ -10,101 +10,87 @@ import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextFlow;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Retained-mode renderer for word blocks.
+ * Keeps one render node per visible entity and only pushes the properties that
+ * changed since the last frame. Nodes of entities that leave the view are
+ * recycled for the next entity that enters it.
+ */
 public class BatchRenderer {
     private final Group renderGroup;
     private final List<Entity> visibleEntities;
     private final SpatialPartitioning spatialPartitioning;
 
+    // Render nodes currently in the scene graph, plus a lookup by entity
+    private final List<RenderNode> activeNodes;
+    private final Map<Entity, RenderNode> nodesByEntity;
+    // Detached render nodes waiting to be reused
+    private final Deque<RenderNode> freeNodes;
+    private long frame;
+
     public BatchRenderer(SpatialPartitioning spatialPartitioning) {
         this.spatialPartitioning = spatialPartitioning;
         this.renderGroup = new Group();
         this.visibleEntities = new ArrayList<>();
-        
+        this.activeNodes = new ArrayList<>();
+        this.nodesByEntity = new HashMap<>();
+        this.freeNodes = new ArrayDeque<>();
+
         // Add the render group to the game world
         FXGL.getGameScene().addUINode(renderGroup);
     }
 
     public void update() {
-        // Clear previous frame
-        renderGroup.getChildren().clear();
+        frame++;
         visibleEntities.clear();
 
         // Get visible entities from spatial partitioning
         List<Entity> entities = spatialPartitioning.getVisibleEntities();
-        if (entities == null || entities.isEmpty()) {
-            return;
-        }
-        
         visibleEntities.addAll(entities);
 
-        // Batch render all visible entities
-        for (Entity entity : entities) {
+        for (int i = 0; i < visibleEntities.size(); i++) {
+            Entity entity = visibleEntities.get(i);
             if (entity == null || entity.getViewComponent() == null) {
                 continue;
             }
-            
+
             List<Node> viewChildren = entity.getViewComponent().getChildren();
             if (viewChildren == null || viewChildren.isEmpty()) {
                 continue;
             }
-            
+
             Node view = viewChildren.get(0);
             if (!(view instanceof StackPane)) {
                 continue;
             }
-            
+
             StackPane stackPane = (StackPane) view;
             List<Node> stackPaneChildren = stackPane.getChildren();
             if (stackPaneChildren == null || stackPaneChildren.size() < 2) {
                 continue;
             }
-            
-            // Create a copy of the view for rendering
-            StackPane renderView = new StackPane();
-            renderView.setLayoutX(entity.getX());
-            renderView.setLayoutY(entity.getY());
-            
-            // Copy the block rectangle
+
             Node blockNode = stackPaneChildren.get(0);
-            if (!(blockNode instanceof Rectangle)) {
-                continue;
-            }
-            
-            Rectangle blockRect = (Rectangle) blockNode;
-            Rectangle renderRect = new Rectangle(
-                blockRect.getWidth(),
-                blockRect.getHeight(),
-                blockRect.getFill()
-            );
-            
-            // Copy the text flow
             Node textNode = stackPaneChildren.get(1);
-            if (!(textNode instanceof TextFlow)) {
+            if (!(blockNode instanceof Rectangle) || !(textNode instanceof TextFlow)) {
                 continue;
             }
-            
-            TextFlow textFlow = (TextFlow) textNode;
-            TextFlow renderTextFlow = new TextFlow();
-            renderTextFlow.setTextAlignment(textFlow.getTextAlignment());
-            renderTextFlow.setTranslateY(textFlow.getTranslateY());
-            
-            // Copy all text nodes
-            for (Node node : textFlow.getChildren()) {
-                if (node instanceof Text) {
-                    Text originalText = (Text) node;
-                    Text renderText = new Text(originalText.getText());
-                    renderText.setFont(originalText.getFont());
-                    renderText.setFill(originalText.getFill());
-                    renderTextFlow.getChildren().add(renderText);
-                }
+
+            // Reuse the entity's render node, or bring one in when it enters view
+            RenderNode renderNode = nodesByEntity.get(entity);
+            if (renderNode == null) {
+                renderNode = acquireNode(entity);
             }
-            
-            // Add to render group
-            renderView.getChildren().addAll(renderRect, renderTextFlow);
-            renderGroup.getChildren().add(renderView);
+            renderNode.lastSeenFrame = frame;
+
+            syncNode(renderNode, entity, (Rectangle) blockNode, (TextFlow) textNode);
 
             Boolean entered = entity.getPropertyOptional("hasEnteredScreen").map(v -> (Boolean) v).orElse(false);
             if (!entered && entity.getX() < FXGL.getAppWidth()) {
@@ -117,6 +103,114 @@ public class BatchRenderer {
                 // ... rest of removal logic ...
             }
         }
+
+        // Recycle nodes whose entity was not visible this frame
+        for (int i = activeNodes.size() - 1; i >= 0; i--) {
+            RenderNode renderNode = activeNodes.get(i);
+            if (renderNode.lastSeenFrame != frame) {
+                releaseNode(i);
+            }
+        }
+    }
+
+    /**
+     * Takes a render node from the free list (or creates one) and attaches it for an entity
+     */
+    private RenderNode acquireNode(Entity entity) {
+        RenderNode renderNode = freeNodes.isEmpty() ? new RenderNode() : freeNodes.pop();
+        renderNode.entity = entity;
+        activeNodes.add(renderNode);
+        nodesByEntity.put(entity, renderNode);
+        renderGroup.getChildren().add(renderNode.view);
+        return renderNode;
+    }
+
+    /**
+     * Detaches the render node at the given index and returns it to the free list
+     */
+    private void releaseNode(int index) {
+        // Swap with the last node so removal from the active list is O(1)
+        int last = activeNodes.size() - 1;
+        RenderNode renderNode = activeNodes.get(index);
+        activeNodes.set(index, activeNodes.get(last));
+        activeNodes.remove(last);
+
+        nodesByEntity.remove(renderNode.entity);
+        renderGroup.getChildren().remove(renderNode.view);
+        renderNode.entity = null;
+        freeNodes.push(renderNode);
+    }
+
+    /**
+     * Copies only the properties that changed from the entity's view to its render node
+     */
+    private void syncNode(RenderNode renderNode, Entity entity, Rectangle blockRect, TextFlow textFlow) {
+        StackPane renderView = renderNode.view;
+        if (renderView.getLayoutX() != entity.getX()) {
+            renderView.setLayoutX(entity.getX());
+        }
+        if (renderView.getLayoutY() != entity.getY()) {
+            renderView.setLayoutY(entity.getY());
+        }
+
+        // Block rectangle
+        Rectangle renderRect = renderNode.rect;
+        if (renderRect.getWidth() != blockRect.getWidth()) {
+            renderRect.setWidth(blockRect.getWidth());
+        }
+        if (renderRect.getHeight() != blockRect.getHeight()) {
+            renderRect.setHeight(blockRect.getHeight());
+        }
+        if (renderRect.getFill() != blockRect.getFill()) {
+            renderRect.setFill(blockRect.getFill());
+        }
+
+        // Text flow layout
+        TextFlow renderTextFlow = renderNode.textFlow;
+        if (renderTextFlow.getTextAlignment() != textFlow.getTextAlignment()) {
+            renderTextFlow.setTextAlignment(textFlow.getTextAlignment());
+        }
+        if (renderTextFlow.getTranslateY() != textFlow.getTranslateY()) {
+            renderTextFlow.setTranslateY(textFlow.getTranslateY());
+        }
+
+        // Letters - grow or shrink the retained Text nodes to match, then patch changes
+        List<Node> sourceLetters = textFlow.getChildren();
+        List<Text> renderLetters = renderNode.letters;
+        int letterCount = 0;
+        for (int i = 0; i < sourceLetters.size(); i++) {
+            Node node = sourceLetters.get(i);
+            if (!(node instanceof Text)) {
+                continue;
+            }
+
+            Text originalText = (Text) node;
+            Text renderText;
+            if (letterCount < renderLetters.size()) {
+                renderText = renderLetters.get(letterCount);
+            } else {
+                renderText = new Text();
+                renderLetters.add(renderText);
+                renderTextFlow.getChildren().add(renderText);
+            }
+
+            if (!renderText.getText().equals(originalText.getText())) {
+                renderText.setText(originalText.getText());
+            }
+            if (renderText.getFont() != originalText.getFont()) {
+                renderText.setFont(originalText.getFont());
+            }
+            if (renderText.getFill() != originalText.getFill()) {
+                renderText.setFill(originalText.getFill());
+            }
+            letterCount++;
+        }
+
+        // Drop letters left over from a longer previous word
+        while (renderLetters.size() > letterCount) {
+            Text extra = renderLetters.remove(renderLetters.size() - 1);
+            renderTextFlow.getChildren().remove(extra);
+        }
     }
 
     public List<Entity> getVisibleEntities() {
@@ -124,7 +218,29 @@ public class BatchRenderer {
     }
 
     public void clear() {
+        for (int i = activeNodes.size() - 1; i >= 0; i--) {
+            releaseNode(i);
+        }
         renderGroup.getChildren().clear();
         visibleEntities.clear();
     }
-} 
\ No newline at end of file
+
+    /**
+     * Retained scene graph for a single rendered entity
+     */
+    private static final class RenderNode {
+        final StackPane view;
+        final Rectangle rect;
+        final TextFlow textFlow;
+        final List<Text> letters;
+        Entity entity;
+        long lastSeenFrame;
+
+        RenderNode() {
+            rect = new Rectangle(0, 0, Color.TRANSPARENT);
+            textFlow = new TextFlow();
+            letters = new ArrayList<>();
+            view = new StackPane(rect, textFlow);
+        }
+    }
+}
\ No newline at end of file
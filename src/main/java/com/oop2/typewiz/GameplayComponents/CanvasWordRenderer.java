@@ -0,0 +1,231 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.List;
+
+/**
+ * Alternative word renderer that draws every enemy word onto a single Canvas layer.
+ * Glyphs are rasterized once per font size and letter state into an atlas image,
+ * so each frame is just a handful of image blits instead of one Text node (with its
+ * own effect pass) per letter.
+ *
+ * Enable with the system property {@code -Dtypewiz.canvasWords=true}.
+ */
+public class CanvasWordRenderer {
+    private static final boolean ENABLED = Boolean.getBoolean("typewiz.canvasWords");
+
+    // Glyph range covered by the atlas (printable ASCII)
+    private static final char FIRST_GLYPH = ' ';
+    private static final char LAST_GLYPH = '~';
+    private static final int GLYPH_COUNT = LAST_GLYPH - FIRST_GLYPH + 1;
+
+    // Letter states, one atlas row each
+    private static final int STATE_DEFAULT = 0;
+    private static final int STATE_SELECTED = 1;
+    private static final int STATE_TYPED = 2;
+    private static final Color[] STATE_COLORS = {
+            WordStyles.LetterState.DEFAULT.getFill(),
+            WordStyles.LetterState.SELECTED.getFill(),
+            WordStyles.LetterState.TYPED.getFill()
+    };
+
+    // Word layout, matching the node-based enemy words
+    private static final double LONG_WORD_SCALE = WordLayout.LONG_WORD_SCALE;
+    private static final int LONG_WORD_LENGTH = WordLayout.LONG_WORD_LENGTH;
+    private static final double LETTER_SPACING = WordLayout.LETTER_SPACING;
+    private static final double PADDING = WordLayout.PADDING;
+    private static final double GLOW_PADDING = 6; // Room around each glyph for the baked-in glow
+
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private final GlyphAtlas normalAtlas;
+    private final GlyphAtlas longWordAtlas;
+    private Entity layer;
+
+    /**
+     * Checks whether canvas word rendering was requested for this run
+     *
+     * @return true if enemy words should be drawn by this renderer
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Creates a renderer and rasterizes its glyph atlases.
+     * Must be called on the JavaFX application thread.
+     *
+     * @param width Width of the canvas layer
+     * @param height Height of the canvas layer
+     * @param fontFamily Font family for the words (e.g. "Arial" for enemies, "Papyrus" for blocks)
+     * @param fontSize Base font size; long words use a smaller atlas
+     */
+    public CanvasWordRenderer(double width, double height, String fontFamily, double fontSize) {
+        this.canvas = new Canvas(width, height);
+        this.canvas.setMouseTransparent(true);
+        this.gc = canvas.getGraphicsContext2D();
+        this.normalAtlas = new GlyphAtlas(WordStyles.font(fontFamily, fontSize));
+        this.longWordAtlas = new GlyphAtlas(WordStyles.font(fontFamily, fontSize * LONG_WORD_SCALE));
+    }
+
+    /**
+     * Attaches the canvas layer to the game world above the enemy sprites
+     */
+    public void attach() {
+        if (layer == null) {
+            layer = FXGL.entityBuilder()
+                    .at(0, 0)
+                    .view(canvas)
+                    .zIndex(30)
+                    .buildAndAttach();
+        }
+    }
+
+    /**
+     * Removes the canvas layer from the game world
+     */
+    public void detach() {
+        if (layer != null) {
+            layer.removeFromWorld();
+            layer = null;
+        }
+    }
+
+    /**
+     * Redraws all enemy words for this frame
+     *
+     * @param enemies The active enemies
+     * @param selected The enemy currently targeted by the player, may be null
+     * @param typedCount Number of correctly typed letters of the selected word
+     */
+    public void render(List<Entity> enemies, Entity selected, int typedCount) {
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        for (int i = 0; i < enemies.size(); i++) {
+            Entity enemy = enemies.get(i);
+            String word = enemy.getString("word");
+            if (word.isEmpty()) {
+                continue;
+            }
+
+            EnemyArchetype archetype = EnemyFactory.getArchetype(enemy);
+            if (archetype == null) {
+                continue;
+            }
+
+            int row = enemy.getInt("row");
+            boolean isSelected = enemy == selected;
+            drawWord(word, row, enemy.getX() + enemy.getWidth() / 2, enemy.getY() + archetype.getWordOffset() * 0.8,
+                    isSelected, isSelected ? typedCount : 0);
+        }
+    }
+
+    /**
+     * Clears everything drawn on the canvas
+     */
+    public void clear() {
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    }
+
+    private void drawWord(String word, int row, double centerX, double top, boolean isSelected, int typedCount) {
+        GlyphAtlas atlas = word.length() > LONG_WORD_LENGTH ? longWordAtlas : normalAtlas;
+
+        // Measure the word from the atlas advances
+        double textWidth = 0;
+        for (int i = 0; i < word.length(); i++) {
+            textWidth += atlas.advance(word.charAt(i)) + LETTER_SPACING;
+        }
+        double backgroundWidth = textWidth + PADDING * 2;
+        double backgroundHeight = atlas.lineHeight + PADDING * 1.5;
+        double left = centerX - backgroundWidth / 2;
+
+        // Background with row theme and golden border
+        gc.setFill(WordStyles.labelFill(row));
+        gc.fillRoundRect(left, top, backgroundWidth, backgroundHeight, 20, 20);
+        gc.setStroke(WordStyles.LABEL_BORDER);
+        gc.setLineWidth(2.0);
+        gc.strokeRoundRect(left, top, backgroundWidth, backgroundHeight, 20, 20);
+
+        // Letters blitted from the atlas row matching their state
+        double x = left + PADDING;
+        double y = top + (backgroundHeight - atlas.cellHeight) / 2;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            int state = !isSelected ? STATE_DEFAULT : i < typedCount ? STATE_TYPED : STATE_SELECTED;
+            atlas.draw(gc, c, state, x, y);
+            x += atlas.advance(c) + LETTER_SPACING;
+        }
+    }
+
+    /**
+     * Pre-rasterized glyphs for one font, one atlas row per letter state
+     */
+    private static final class GlyphAtlas {
+        final WritableImage image;
+        final double[] advances = new double[GLYPH_COUNT];
+        final double[] offsets = new double[GLYPH_COUNT];
+        final double cellHeight;
+        final double lineHeight;
+
+        GlyphAtlas(Font font) {
+            // Measure glyphs with real font metrics
+            Text probe = new Text();
+            probe.setFont(font);
+            double totalWidth = 0;
+            for (int i = 0; i < GLYPH_COUNT; i++) {
+                probe.setText(String.valueOf((char) (FIRST_GLYPH + i)));
+                advances[i] = probe.getLayoutBounds().getWidth();
+                offsets[i] = totalWidth;
+                totalWidth += advances[i] + GLOW_PADDING * 2;
+            }
+            probe.setText("Hg");
+            lineHeight = probe.getLayoutBounds().getHeight();
+            cellHeight = lineHeight + GLOW_PADDING * 2;
+
+            // Rasterize every glyph once per state, with stroke and glow baked in
+            Canvas atlasCanvas = new Canvas(Math.ceil(totalWidth), Math.ceil(cellHeight * STATE_COLORS.length));
+            GraphicsContext atlasGc = atlasCanvas.getGraphicsContext2D();
+            atlasGc.setFont(font);
+            atlasGc.setLineWidth(1.0);
+            atlasGc.setStroke(WordStyles.LETTER_OUTLINE);
+            atlasGc.setEffect(WordStyles.LetterState.DEFAULT.getEffect());
+
+            double baseline = GLOW_PADDING + probe.getBaselineOffset();
+            for (int state = 0; state < STATE_COLORS.length; state++) {
+                atlasGc.setFill(STATE_COLORS[state]);
+                for (int i = 0; i < GLYPH_COUNT; i++) {
+                    String glyph = String.valueOf((char) (FIRST_GLYPH + i));
+                    double gx = offsets[i] + GLOW_PADDING;
+                    double gy = state * cellHeight + baseline;
+                    atlasGc.fillText(glyph, gx, gy);
+                    atlasGc.strokeText(glyph, gx, gy);
+                }
+            }
+
+            SnapshotParameters params = new SnapshotParameters();
+            params.setFill(Color.TRANSPARENT);
+            image = atlasCanvas.snapshot(params, null);
+        }
+
+        double advance(char c) {
+            return c >= FIRST_GLYPH && c <= LAST_GLYPH ? advances[c - FIRST_GLYPH] : advances[0];
+        }
+
+        void draw(GraphicsContext target, char c, int state, double x, double y) {
+            int index = c >= FIRST_GLYPH && c <= LAST_GLYPH ? c - FIRST_GLYPH : 0;
+            double width = advances[index] + GLOW_PADDING * 2;
+            target.drawImage(image,
+                    offsets[index], state * cellHeight, width, cellHeight,
+                    x - GLOW_PADDING, y, width, cellHeight);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.oop2.typewiz.Difficulty;
+
+import java.util.function.Supplier;
+
+/**
+ * Wave and spawn parameters for a difficulty level.
+ * Shared by the game and the headless simulation so both play the same waves.
+ */
+public class DifficultySettings {
+    private final int maxActiveEntities;
+    private final WaveProgression progression;
+
+    private DifficultySettings(int maxActiveEntities, WaveProgression progression) {
+        this.maxActiveEntities = maxActiveEntities;
+        this.progression = progression;
+    }
+
+    private static DifficultySettings table(int maxWaves, int maxActiveEntities, int[] waveSpawnsPerWave,
+                                            double[] waveSpeedMultipliers, int[] minSpawnsPerGroupByWave,
+                                            int[] maxSpawnsPerGroupByWave, double[] spawnDelayMultipliers) {
+        return new DifficultySettings(maxActiveEntities, new TableWaveProgression(maxWaves, waveSpawnsPerWave,
+                waveSpeedMultipliers, minSpawnsPerGroupByWave, maxSpawnsPerGroupByWave, spawnDelayMultipliers));
+    }
+
+    /**
+     * Gets the settings for a difficulty level
+     *
+     * @param difficulty The difficulty level
+     * @return New settings for that difficulty
+     */
+    public static DifficultySettings forDifficulty(Difficulty difficulty) {
+        return switch (difficulty) {
+            case APPRENTICE -> table(
+                    5,
+                    10,
+                    new int[]{6, 7, 8, 9, 10},
+                    new double[]{0.5, 0.6, 0.7, 0.8, 0.9}, // super slow
+                    new int[]{1, 1, 1, 1, 1},
+                    new int[]{1, 1, 2, 2, 3}, // max follow up entity is 1, increase per 3 waves
+                    new double[]{1.2, 1.1, 1.0, 0.95, 0.9});
+            case WIZARD -> table(
+                    8,
+                    14,
+                    new int[]{8, 10, 12, 14, 16, 18, 20, 22},
+                    new double[]{0.8, 0.9, 1.0, 1.1, 1.2, 1.3, 1.4, 1.5},
+                    new int[]{1, 1, 2, 2, 2, 3, 3, 3},
+                    new int[]{2, 2, 3, 3, 4, 4, 5, 5},
+                    new double[]{1.0, 0.95, 0.9, 0.85, 0.8, 0.75, 0.7, 0.65});
+            case ARCHMAGE -> table(
+                    12,
+                    18,
+                    new int[]{10, 12, 14, 16, 18, 20, 22, 24, 26, 28, 30, 32},
+                    new double[]{1.0, 1.1, 1.2, 1.3, 1.4, 1.5, 1.6, 1.7, 1.8, 1.9, 2.0, 2.2},
+                    new int[]{1, 2, 2, 2, 3, 3, 3, 4, 4, 4, 5, 5},
+                    new int[]{2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8},
+                    new double[]{0.9, 0.85, 0.8, 0.75, 0.7, 0.65, 0.6, 0.55, 0.5, 0.45, 0.4, 0.35});
+            // Stress scenario: waves never end and the screen can fill with hundreds of enemies
+            case ENDLESS -> new DifficultySettings(200, new EndlessWaveProgression());
+        };
+    }
+
+    /**
+     * Creates a copy with the active enemy limit multiplied, for stress testing
+     *
+     * @param factor Multiplier for the active enemy limit
+     * @return The scaled settings
+     */
+    public DifficultySettings withEntityScale(int factor) {
+        return new DifficultySettings(maxActiveEntities * factor, progression);
+    }
+
+    /**
+     * Creates a wave manager that plays these settings
+     *
+     * @param entityManager The entity manager
+     * @param stateManager The game state manager
+     * @param wordSupplier Function that supplies random words
+     * @param screenHeight Height of the game screen
+     * @return The wave manager
+     */
+    public WaveManager createWaveManager(EntityManager entityManager, GameStateManager stateManager,
+                                         Supplier<String> wordSupplier, double screenHeight) {
+        return new WaveManager(entityManager, stateManager, wordSupplier, screenHeight, progression);
+    }
+
+    public int getMaxWaves() {
+        return progression.getMaxWaves();
+    }
+
+    public WaveProgression getProgression() {
+        return progression;
+    }
+
+    public int getMaxActiveEntities() {
+        return maxActiveEntities;
+    }
+}
@@ -0,0 +1,49 @@
+package com.oop2.typewiz.GameplayComponents;
+
+/**
+ * Wave parameters for endless survival, computed from the wave number.
+ * Spawn count and group size grow linearly, speed grows linearly and the delay between
+ * groups shrinks geometrically to a floor, so every wave is harder than the last without
+ * any table to run out of.
+ *
+ * Group size has no cap of its own: {@code WaveManager} spawns a group taller than the screen
+ * as several columns of the same type, and only the active enemy limit bounds it.
+ */
+public class EndlessWaveProgression implements WaveProgression {
+    private static final int BASE_SPAWNS = 10;
+    private static final int SPAWNS_PER_WAVE = 4;
+    private static final double SPEED_PER_WAVE = 0.1;
+    private static final double BASE_DELAY = 0.9;
+    private static final double DELAY_DECAY = 0.93;       // each wave's groups come 7% sooner
+    private static final double MIN_DELAY_MULTIPLIER = 0.1;
+
+    @Override
+    public int getMaxWaves() {
+        return UNLIMITED;
+    }
+
+    @Override
+    public int getSpawnsForWave(int wave) {
+        return BASE_SPAWNS + SPAWNS_PER_WAVE * (wave - 1);
+    }
+
+    @Override
+    public double getSpeedMultiplier(int wave) {
+        return 1.0 + SPEED_PER_WAVE * (wave - 1);
+    }
+
+    @Override
+    public int getMinGroupSize(int wave) {
+        return 1 + (wave - 1) / 3;
+    }
+
+    @Override
+    public int getMaxGroupSize(int wave) {
+        return 2 + (wave - 1) / 2;
+    }
+
+    @Override
+    public double getSpawnDelayMultiplier(int wave) {
+        return Math.max(MIN_DELAY_MULTIPLIER, BASE_DELAY * Math.pow(DELAY_DECAY, wave - 1));
+    }
+}
@@ -0,0 +1,174 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.oop2.typewiz.util.GameLogger;
+import com.almasb.fxgl.texture.AnimationChannel;
+import javafx.util.Duration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Data definition of an enemy type: sprite sheet, frame layout, scale, speed and word placement.
+ * Archetypes are loaded from a properties resource so new enemies only need a sprite sheet
+ * and an entry in that file, not a new factory.
+ */
+public class EnemyArchetype {
+    private static final GameLogger LOG = GameLogger.getLogger(EnemyArchetype.class);
+    private final String id;
+    private final Game.EntityType type;
+    private final String texturePath;
+    private final int framesPerRow;
+    private final int frameWidth;
+    private final int frameHeight;
+    private final int startFrame;
+    private final int endFrame;
+    private final double animationDuration;
+    private final double scale;
+    private final double speed;
+    private final double wordOffset;
+
+    // Built lazily, since textures can only be loaded once the game environment is up
+    private AnimationChannel animation;
+
+    /**
+     * Creates an archetype
+     *
+     * @param id Name of the archetype, e.g. "gargoyle"
+     * @param type Entity type enemies of this archetype are registered under
+     * @param texturePath Sprite sheet path relative to assets/textures
+     * @param framesPerRow Number of frames per sprite sheet row
+     * @param frameWidth Width of a single frame in pixels
+     * @param frameHeight Height of a single frame in pixels
+     * @param startFrame First frame of the movement animation
+     * @param endFrame Last frame (inclusive) of the movement animation
+     * @param animationDuration Seconds for one loop of the movement animation
+     * @param scale Scale applied to the sprite
+     * @param speed Movement speed in pixels per second
+     * @param wordOffset Distance from the top of the sprite to the word label
+     */
+    public EnemyArchetype(String id, Game.EntityType type, String texturePath,
+                          int framesPerRow, int frameWidth, int frameHeight,
+                          int startFrame, int endFrame, double animationDuration,
+                          double scale, double speed, double wordOffset) {
+        this.id = id;
+        this.type = type;
+        this.texturePath = texturePath;
+        this.framesPerRow = framesPerRow;
+        this.frameWidth = frameWidth;
+        this.frameHeight = frameHeight;
+        this.startFrame = startFrame;
+        this.endFrame = endFrame;
+        this.animationDuration = animationDuration;
+        this.scale = scale;
+        this.speed = speed;
+        this.wordOffset = wordOffset;
+    }
+
+    /**
+     * Loads all archetypes listed in a properties resource.
+     * The "archetypes" key holds a comma-separated list of ids, and each id has its
+     * own "id.field" entries.
+     *
+     * @param resource Classpath resource to load, e.g. "/assets/data/enemies.properties"
+     * @return The archetypes in the order they are listed
+     */
+    public static List<EnemyArchetype> loadAll(String resource) {
+        Properties properties = new Properties();
+        try (InputStream in = EnemyArchetype.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Enemy archetype resource not found: " + resource);
+            }
+            properties.load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read enemy archetypes from " + resource, e);
+        }
+
+        List<EnemyArchetype> archetypes = new ArrayList<>();
+        for (String id : properties.getProperty("archetypes", "").split(",")) {
+            id = id.trim();
+            if (id.isEmpty()) {
+                continue;
+            }
+            archetypes.add(new EnemyArchetype(
+                    id,
+                    Game.EntityType.valueOf(require(properties, id, "type")),
+                    require(properties, id, "texture"),
+                    Integer.parseInt(require(properties, id, "framesPerRow")),
+                    Integer.parseInt(require(properties, id, "frameWidth")),
+                    Integer.parseInt(require(properties, id, "frameHeight")),
+                    Integer.parseInt(require(properties, id, "startFrame")),
+                    Integer.parseInt(require(properties, id, "endFrame")),
+                    Double.parseDouble(require(properties, id, "animationDuration")),
+                    Double.parseDouble(require(properties, id, "scale")),
+                    Double.parseDouble(require(properties, id, "speed")),
+                    Double.parseDouble(require(properties, id, "wordOffset"))));
+        }
+        LOG.info(() -> "Loaded " + archetypes.size() + " enemy archetypes from " + resource);
+        return Collections.unmodifiableList(archetypes);
+    }
+
+    private static String require(Properties properties, String id, String field) {
+        String value = properties.getProperty(id + "." + field);
+        if (value == null) {
+            throw new IllegalStateException("Enemy archetype '" + id + "' is missing " + field);
+        }
+        return value.trim();
+    }
+
+    /**
+     * Gets the movement animation, creating it from the sprite sheet on first use
+     *
+     * @return The animation channel for this archetype
+     */
+    public AnimationChannel getAnimation() {
+        if (animation == null) {
+            animation = new AnimationChannel(
+                    GameEnvironment.get().loadImage(texturePath),
+                    framesPerRow,
+                    frameWidth, frameHeight,
+                    Duration.seconds(animationDuration),
+                    startFrame, endFrame);
+        }
+        return animation;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Game.EntityType getType() {
+        return type;
+    }
+
+    public int getFrameWidth() {
+        return frameWidth;
+    }
+
+    public int getFrameHeight() {
+        return frameHeight;
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    public double getScaledWidth() {
+        return frameWidth * scale;
+    }
+
+    public double getScaledHeight() {
+        return frameHeight * scale;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public double getWordOffset() {
+        return wordOffset;
+    }
+}
@@ -0,0 +1,477 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.oop2.typewiz.util.GameLogger;
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.physics.BoundingShape;
+import com.almasb.fxgl.physics.HitBox;
+import com.almasb.fxgl.texture.AnimatedTexture;
+import javafx.geometry.Insets;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
+import javafx.geometry.Pos;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Factory class for creating and configuring enemy entities.
+ * Every enemy type goes through the same spawn/configure pipeline; what differs
+ * between them (sprite sheet, frame size, scale, speed, word offset) comes from
+ * the {@link EnemyArchetype} definitions in assets/data/enemies.properties.
+ */
+public class EnemyFactory {
+    private static final GameLogger LOG = GameLogger.getLogger(EnemyFactory.class);
+    private static final String ARCHETYPES_RESOURCE = "/assets/data/enemies.properties";
+
+    // Archetypes in spawn order, plus a lookup by entity type
+    private static final List<EnemyArchetype> ARCHETYPES = EnemyArchetype.loadAll(ARCHETYPES_RESOURCE);
+    private static final Map<Game.EntityType, EnemyArchetype> ARCHETYPES_BY_TYPE = new EnumMap<>(Game.EntityType.class);
+
+    static {
+        for (EnemyArchetype archetype : ARCHETYPES) {
+            ARCHETYPES_BY_TYPE.put(archetype.getType(), archetype);
+        }
+    }
+
+    // One-character strings for letters, so reassigning a word does not allocate them
+    private static final String[] LETTER_STRINGS = new String[128];
+
+    static {
+        for (char c = 0; c < LETTER_STRINGS.length; c++) {
+            LETTER_STRINGS[c] = String.valueOf(c);
+        }
+    }
+
+    // Random generator
+    private static final Random random = new Random();
+
+    /**
+     * Gets all enemy archetypes in spawn order
+     *
+     * @return Read-only list of archetypes
+     */
+    public static List<EnemyArchetype> getArchetypes() {
+        return ARCHETYPES;
+    }
+
+    /**
+     * Gets the archetype registered for an entity type
+     *
+     * @param type The entity type
+     * @return The archetype, or null if the type is not an enemy
+     */
+    public static EnemyArchetype getArchetype(Game.EntityType type) {
+        return type == null ? null : ARCHETYPES_BY_TYPE.get(type);
+    }
+
+    /**
+     * Gets the archetype of an enemy entity
+     *
+     * @param entity The entity
+     * @return The archetype, or null if the entity is not an enemy
+     */
+    public static EnemyArchetype getArchetype(Entity entity) {
+        Object type = entity.getType();
+        return type instanceof Game.EntityType ? ARCHETYPES_BY_TYPE.get(type) : null;
+    }
+
+    private static String letterString(char c) {
+        return c < LETTER_STRINGS.length ? LETTER_STRINGS[c] : String.valueOf(c);
+    }
+
+    /**
+     * Initializes the enemy animations.
+     * Must be called before using the factory to create enemies.
+     */
+    public static void initializeAnimations() {
+        for (EnemyArchetype archetype : ARCHETYPES) {
+            try {
+                archetype.getAnimation();
+            } catch (Exception e) {
+                LOG.warn("Error initializing " + archetype.getId() + " animations", e);
+            }
+        }
+    }
+
+    /**
+     * Builds a complete enemy entity, including its sprite, hit box and word view,
+     * without attaching it to the world. Enemies are created up front by the
+     * {@link EntityManager} pools and reused through {@link #spawnEnemy}.
+     *
+     * @param archetype The kind of enemy to create
+     * @return The created enemy entity
+     */
+    public static Entity createEnemy(EnemyArchetype archetype) {
+        StackPane wordBlockView = new StackPane();
+        AnimatedTexture texture = new AnimatedTexture(archetype.getAnimation());
+        texture.loop();
+        texture.setScaleX(archetype.getScale());
+        texture.setScaleY(archetype.getScale());
+        TextFlow textFlow = new TextFlow();
+        textFlow.setMaxWidth(archetype.getScaledWidth());
+        textFlow.setMaxHeight(archetype.getScaledHeight());
+        wordBlockView.getChildren().addAll(texture, textFlow);
+
+        // Word nodes are built once here and only updated when a new word is assigned
+        EnemyWordView wordView = null;
+        if (!CanvasWordRenderer.isEnabled()) {
+            wordView = new EnemyWordView(archetype);
+            textFlow.getChildren().add(wordView.container);
+            textFlow.setTextAlignment(javafx.scene.text.TextAlignment.CENTER);
+            // Add to view before the text to keep text on top
+            wordBlockView.getChildren().add(1, wordView.connectionLine);
+        }
+
+        Entity enemy = FXGL.entityBuilder()
+                .type(archetype.getType())
+                .view(wordBlockView)
+                .scale(archetype.getScale(), archetype.getScale())
+                .bbox(new HitBox(BoundingShape.box(archetype.getScaledWidth(), archetype.getScaledHeight())))
+                .zIndex(25)
+                .with("word", "") // Initialize with empty string
+                .with("letterNodes", new ArrayList<Text>())
+                .with("row", 0)
+                .with("animationTime", 0.0)
+                .with("textFlow", textFlow)
+                .with("texture", texture)
+                .with("hasBeenVisible", false)
+                .with("isActive", false)
+                .with("movingRight", false)
+                .build();
+
+        if (wordView != null) {
+            enemy.setProperty("wordView", wordView);
+        }
+
+        // Keep the view and components when the entity leaves the world so it can be pooled
+        enemy.setReusable(true);
+        return enemy;
+    }
+
+    /**
+     * Resets a pooled enemy entity for a new spawn at the specified position.
+     *
+     * @param enemy      A pooled enemy created by {@link #createEnemy}
+     * @param index      Index of the enemy for positioning
+     * @param yPos       Y-position of the enemy
+     * @param fromRight  Whether the enemy should spawn from the right side
+     * @param spawnPerimeterRight Distance from right edge where enemies spawn
+     * @return The reset enemy entity
+     */
+    public static Entity spawnEnemy(Entity enemy, int index, double yPos, boolean fromRight, double spawnPerimeterRight) {
+        EnemyArchetype archetype = getArchetype(enemy);
+
+        // Calculate spawn position
+        double xPos;
+        if (fromRight) {
+            xPos = GameEnvironment.get().getAppWidth() - spawnPerimeterRight;
+        } else {
+            xPos = spawnPerimeterRight;
+        }
+        enemy.setPosition(xPos, yPos);
+
+        // Flip sprite if spawning from left
+        AnimatedTexture texture = enemy.getObject("texture");
+        texture.setScaleX(fromRight ? archetype.getScale() : -archetype.getScale());
+
+        // Reset per-spawn state
+        enemy.setProperty("word", "");
+        enemy.setProperty("row", index);
+        enemy.setProperty("animationTime", 0.0);
+        enemy.setProperty("hasBeenVisible", false);
+        enemy.setProperty("isActive", false);
+        enemy.setProperty("movingRight", !fromRight);
+        enemy.getProperties().remove("processed");
+
+        LOG.debug(() -> "Spawned " + archetype.getId() + " entity at position: (" + xPos + ", " + yPos + ")");
+        return enemy;
+    }
+
+    /**
+     * Configures a word for an enemy entity.
+     *
+     * @param enemy The enemy entity
+     * @param word     The word to assign to the enemy
+     * @param yPos     Y-position for calculation purposes
+     */
+    public static void configureEnemyWord(Entity enemy, String word, double yPos) {
+        if (enemy == null || word == null || word.isEmpty()) {
+            return;
+        }
+
+        // Set word property
+        enemy.setProperty("word", word);
+
+        List<Text> letterNodes = enemy.getObject("letterNodes");
+        letterNodes.clear();
+
+        // Words are drawn by the canvas layer instead of per-letter nodes
+        if (!enemy.getProperties().exists("wordView")) {
+            return;
+        }
+
+        EnemyWordView wordView = enemy.getObject("wordView");
+        wordView.setWord(WordFactory.getInstance().getLayout(word), enemy.getInt("row"), letterNodes);
+    }
+
+    /**
+     * Spawns a group of enemies with random positions and words, taking the entities
+     * from the entity manager's pools.
+     *
+     * @param archetype The kind of enemy to spawn
+     * @param entityManager The entity manager whose pools supply the entities
+     * @param currentGroupSize Number of enemies to spawn in this group
+     * @param minY Minimum Y position for spawning
+     * @param maxY Maximum Y position for spawning
+     * @param fromRight Whether to spawn from right side
+     * @param spawnPerimeterRight Distance from right edge where enemies spawn
+     * @param wordSupplier Function to get a random word
+     * @return List of spawned enemy entities
+     */
+    public static List<Entity> spawnEnemyGroup(EnemyArchetype archetype, EntityManager entityManager,
+                                               int currentGroupSize, double minY, double maxY,
+                                               boolean fromRight, double spawnPerimeterRight,
+                                               java.util.function.Supplier<String> wordSupplier) {
+        List<Entity> newEnemies = new ArrayList<>();
+
+        // Calculate spawn area
+        double availableHeight = maxY - minY;
+
+        // Generate random positions with minimal spacing checks
+        List<Double> spawnPositions = new ArrayList<>();
+
+        // Generate random positions
+        for (int i = 0; i < currentGroupSize; i++) {
+            double yPos = minY + random.nextDouble() * availableHeight;
+            spawnPositions.add(yPos);
+        }
+
+        // Sort positions to keep some visual order
+        Collections.sort(spawnPositions);
+
+        // Spawn enemies at positions
+        int spawned = 0;
+        for (double yPos : spawnPositions) {
+            String word = wordSupplier.get();
+            Entity enemy = spawnEnemy(entityManager.getFromPool(archetype.getType()), spawned, yPos, fromRight, spawnPerimeterRight);
+            configureEnemyWord(enemy, word, yPos);
+            newEnemies.add(enemy);
+            spawned++;
+        }
+
+        return newEnemies;
+    }
+
+    /**
+     * Highlights the selected enemy's word.
+     *
+     * @param enemy The enemy entity to select
+     */
+    public static void selectWordBlock(Entity enemy) {
+        if (enemy == null) return;
+
+        try {
+            List<Text> letterNodes = enemy.getObject("letterNodes");
+            if (letterNodes != null) {
+                for (Text letter : letterNodes) {
+                    // Brighter glow for better visibility when selected
+                    WordStyles.LetterState.SELECTED.applyTo(letter);
+                }
+            }
+        } catch (Exception e) {
+            // Property may not exist yet, ignore the error
+            LOG.warn("Error selecting word block: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Resets the enemy's word to default white color.
+     *
+     * @param enemy The enemy entity to reset
+     */
+    public static void resetBlockToDefaultColor(Entity enemy) {
+        if (enemy == null) return;
+
+        try {
+            List<Text> letterNodes = enemy.getObject("letterNodes");
+            if (letterNodes != null) {
+                for (Text letter : letterNodes) {
+                    letter.setFill(WordStyles.LetterState.DEFAULT.getFill());
+                    // Preserve the stroke and glow effect for visibility
+                }
+            }
+        } catch (Exception e) {
+            // Property may not exist yet, ignore the error
+            LOG.warn("Error resetting block color: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Updates all letter colors based on typing progress.
+     * Used when a word becomes the target part-way through the input; single keystrokes
+     * only change one letter and go through {@link #setLetterState}.
+     *
+     * @param enemy The enemy entity
+     * @param typedCount Number of letters typed so far
+     */
+    public static void updateLetterColors(Entity enemy, int typedCount) {
+        // Typed letters get a stronger glow than the rest
+        setLetterStates(enemy, 0, typedCount, WordStyles.LetterState.TYPED);
+        setLetterStates(enemy, typedCount, Integer.MAX_VALUE, WordStyles.LetterState.SELECTED);
+    }
+
+    /**
+     * Changes the state of one letter of the enemy's word, leaving the others untouched.
+     *
+     * @param enemy The enemy entity
+     * @param index Position of the letter in the word
+     * @param state The letter's new state
+     */
+    public static void setLetterState(Entity enemy, int index, WordStyles.LetterState state) {
+        setLetterStates(enemy, index, index + 1, state);
+    }
+
+    /**
+     * Changes the state of a run of letters of the enemy's word, leaving the others untouched.
+     *
+     * @param enemy The enemy entity
+     * @param from Position of the first letter
+     * @param to Position after the last letter; clamped to the word length
+     * @param state The letters' new state
+     */
+    public static void setLetterStates(Entity enemy, int from, int to, WordStyles.LetterState state) {
+        if (enemy == null) return;
+
+        try {
+            List<Text> letterNodes = enemy.getObject("letterNodes");
+            if (letterNodes == null) return;
+
+            int end = Math.min(to, letterNodes.size());
+            for (int i = Math.max(0, from); i < end; i++) {
+                state.applyTo(letterNodes.get(i));
+            }
+        } catch (Exception e) {
+            // Property may not exist yet, ignore the error
+            LOG.warn("Error updating letter colors: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Marks all letters in the enemy's word as complete (all blue).
+     *
+     * @param enemy The enemy entity
+     */
+    public static void markWordAsComplete(Entity enemy) {
+        if (enemy == null) return;
+
+        try {
+            List<Text> letterNodes = enemy.getObject("letterNodes");
+            if (letterNodes != null) {
+                for (Text letter : letterNodes) {
+                    // Strong glow for completed words
+                    WordStyles.LetterState.COMPLETE.applyTo(letter);
+                }
+            }
+        } catch (Exception e) {
+            // Property may not exist yet, ignore the error
+            LOG.warn("Error marking word as complete: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Retained word label of a pooled enemy: background, letters and the line to the sprite.
+     * Letter nodes are kept between words and hidden when a shorter word is assigned.
+     */
+    private static final class EnemyWordView {
+        private static final int INITIAL_LETTERS = 24;
+
+        final StackPane container;
+        final Rectangle background;
+        final HBox wordBox;
+        final Line connectionLine;
+        final List<Text> letters;
+        private final double minBackgroundWidth;
+
+        EnemyWordView(EnemyArchetype archetype) {
+            // Word background with golden border and drop shadow
+            background = new Rectangle();
+            background.setArcWidth(20);  // More rounded corners
+            background.setArcHeight(20);
+            background.setStroke(WordStyles.LABEL_BORDER);
+            background.setStrokeWidth(2.0);
+            background.setEffect(WordStyles.LABEL_SHADOW);
+            minBackgroundWidth = archetype.getScaledWidth() * 0.6;
+
+            // Create compact HBox for text with center alignment
+            wordBox = new HBox(WordLayout.LETTER_SPACING);
+            wordBox.setAlignment(Pos.CENTER);
+            wordBox.setPadding(new Insets(0, 5, 0, 5)); // Add some horizontal padding
+
+            letters = new ArrayList<>(INITIAL_LETTERS);
+            for (int i = 0; i < INITIAL_LETTERS; i++) {
+                addLetter();
+            }
+
+            container = new StackPane(background, wordBox);
+            container.setAlignment(Pos.CENTER); // Ensure container is centered
+
+            // Connecting line from enemy to word
+            connectionLine = new Line();
+            connectionLine.setStartX(archetype.getScaledWidth() / 2);
+            connectionLine.setStartY(archetype.getScaledHeight() / 2);
+            connectionLine.setEndX(archetype.getScaledWidth() / 2);
+            connectionLine.setEndY(archetype.getWordOffset() * 0.8);
+            connectionLine.setStroke(WordStyles.CONNECTION_LINE);
+            connectionLine.setStrokeWidth(1.5);
+            connectionLine.getStrokeDashArray().addAll(5.0, 5.0);
+        }
+
+        private Text addLetter() {
+            Text letterText = new Text();
+            // Add stronger text outline
+            letterText.setStroke(WordStyles.LETTER_OUTLINE);
+            letterText.setStrokeWidth(1.0);
+            letterText.setVisible(false);
+            letterText.setManaged(false);
+            letters.add(letterText);
+            wordBox.getChildren().add(letterText);
+            return letterText;
+        }
+
+        void setWord(WordLayout layout, int row, List<Text> letterNodes) {
+            // Size and font come from the cached layout; longer words get a smaller font
+            Font font = layout.getFont();
+            background.setWidth(Math.max(minBackgroundWidth, layout.getBackgroundWidth()));
+            background.setHeight(layout.getBackgroundHeight());
+            background.setFill(WordStyles.labelFill(row));
+
+            int length = layout.length();
+            for (int i = 0; i < length; i++) {
+                Text letterText = i < letters.size() ? letters.get(i) : addLetter();
+                letterText.setText(letterString(layout.charAt(i)));
+                letterText.setFont(font);
+                WordStyles.LetterState.DEFAULT.applyTo(letterText);
+                letterText.setVisible(true);
+                letterText.setManaged(true);
+                letterNodes.add(letterText);
+            }
+
+            // Hide letters left over from a longer previous word
+            for (int i = length; i < letters.size(); i++) {
+                Text letterText = letters.get(i);
+                letterText.setVisible(false);
+                letterText.setManaged(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.texture.AnimatedTexture;
+import javafx.scene.Node;
+import javafx.scene.layout.StackPane;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Struct-of-arrays storage for the per-frame state of active enemies.
+ * The hot movement loop in {@link EntityManager} reads and writes these primitive
+ * arrays directly instead of going through FXGL's string-keyed property map,
+ * and only pushes the final position back to the {@link Entity} once per frame.
+ * The store also keeps its enemies ranked by distance to the edge they are heading for,
+ * so the most urgent target and the next one after it can be read without a scan.
+ */
+public class EnemyStore {
+    private static final int INITIAL_CAPACITY = 32;
+
+    // Parallel arrays, one slot per active enemy in [0, size)
+    Entity[] entities;
+    AnimatedTexture[] textures;
+    double[] x;
+    double[] speed;
+    double[] exitOffset;
+    double[] animationTime;
+    boolean[] movingRight;
+    boolean[] hasBeenVisible;
+    boolean[] active;
+    int size;
+
+    // Slots ordered by distance to exit, most urgent first, and each slot's position in that order
+    int[] urgencyOrder;
+    int[] urgencyRank;
+    double[] distanceToExit;
+
+    private final Map<Entity, Integer> indices;
+    private final double screenWidth;
+
+    /**
+     * Creates an empty store
+     *
+     * @param screenWidth Width of the screen, used for the distance of right-moving enemies to their exit
+     */
+    public EnemyStore(double screenWidth) {
+        this.screenWidth = screenWidth;
+        entities = new Entity[INITIAL_CAPACITY];
+        textures = new AnimatedTexture[INITIAL_CAPACITY];
+        x = new double[INITIAL_CAPACITY];
+        speed = new double[INITIAL_CAPACITY];
+        exitOffset = new double[INITIAL_CAPACITY];
+        animationTime = new double[INITIAL_CAPACITY];
+        movingRight = new boolean[INITIAL_CAPACITY];
+        hasBeenVisible = new boolean[INITIAL_CAPACITY];
+        active = new boolean[INITIAL_CAPACITY];
+        urgencyOrder = new int[INITIAL_CAPACITY];
+        urgencyRank = new int[INITIAL_CAPACITY];
+        distanceToExit = new double[INITIAL_CAPACITY];
+        indices = new HashMap<>();
+    }
+
+    /**
+     * Adds an enemy, reading its initial state from the entity once
+     *
+     * @param entity The enemy entity
+     * @param baseSpeed Movement speed in pixels per second before the wave multiplier
+     * @param exitOffset How far past the left edge the enemy may travel before it counts as escaped
+     */
+    public void add(Entity entity, double baseSpeed, double exitOffset) {
+        if (indices.containsKey(entity)) {
+            return;
+        }
+        ensureCapacity(size + 1);
+
+        int i = size++;
+        entities[i] = entity;
+        textures[i] = findTexture(entity);
+        x[i] = entity.getX();
+        speed[i] = baseSpeed;
+        this.exitOffset[i] = exitOffset;
+        animationTime[i] = 0.0;
+        movingRight[i] = entity.getProperties().exists("movingRight") && entity.getBoolean("movingRight");
+        hasBeenVisible[i] = entity.getProperties().exists("hasBeenVisible") && entity.getBoolean("hasBeenVisible");
+        active[i] = entity.getProperties().exists("isActive") && entity.getBoolean("isActive");
+        indices.put(entity, i);
+
+        // Append to the urgency order, then move forward to its place
+        distanceToExit[i] = computeDistanceToExit(i);
+        urgencyOrder[i] = i;
+        urgencyRank[i] = i;
+        for (int rank = i; rank > 0 && distanceToExit[urgencyOrder[rank - 1]] > distanceToExit[urgencyOrder[rank]]; rank--) {
+            swapRanks(rank - 1, rank);
+        }
+    }
+
+    /**
+     * Removes an enemy by moving the last slot into its place
+     *
+     * @param entity The enemy entity
+     */
+    public void remove(Entity entity) {
+        Integer index = indices.remove(entity);
+        if (index == null) {
+            return;
+        }
+
+        int i = index;
+
+        // Close the gap in the urgency order
+        for (int rank = urgencyRank[i]; rank < size - 1; rank++) {
+            urgencyOrder[rank] = urgencyOrder[rank + 1];
+            urgencyRank[urgencyOrder[rank]] = rank;
+        }
+
+        int last = --size;
+        if (i != last) {
+            entities[i] = entities[last];
+            textures[i] = textures[last];
+            x[i] = x[last];
+            speed[i] = speed[last];
+            exitOffset[i] = exitOffset[last];
+            animationTime[i] = animationTime[last];
+            movingRight[i] = movingRight[last];
+            hasBeenVisible[i] = hasBeenVisible[last];
+            active[i] = active[last];
+            distanceToExit[i] = distanceToExit[last];
+            urgencyRank[i] = urgencyRank[last];
+            urgencyOrder[urgencyRank[i]] = i;
+            indices.put(entities[i], i);
+        }
+        entities[last] = null;
+        textures[last] = null;
+    }
+
+    /**
+     * Checks whether an entity is tracked by the store
+     *
+     * @param entity The entity to check
+     * @return true if the entity is stored
+     */
+    public boolean contains(Entity entity) {
+        return indices.containsKey(entity);
+    }
+
+    /**
+     * Gets the number of stored enemies
+     *
+     * @return The number of stored enemies
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Recomputes every enemy's distance to its exit and restores the urgency order.
+     * Enemies only move a little per frame, so the order is nearly sorted already and
+     * the insertion sort stays close to a single pass.
+     */
+    public void sortByUrgency() {
+        for (int i = 0; i < size; i++) {
+            distanceToExit[i] = computeDistanceToExit(i);
+        }
+        for (int rank = 1; rank < size; rank++) {
+            int slot = urgencyOrder[rank];
+            double distance = distanceToExit[slot];
+            int target = rank;
+            while (target > 0 && distanceToExit[urgencyOrder[target - 1]] > distance) {
+                urgencyOrder[target] = urgencyOrder[target - 1];
+                urgencyRank[urgencyOrder[target]] = target;
+                target--;
+            }
+            urgencyOrder[target] = slot;
+            urgencyRank[slot] = target;
+        }
+    }
+
+    /**
+     * Gets the enemy closest to the edge it is moving toward
+     *
+     * @return The most urgent enemy, or null if the store is empty
+     */
+    public Entity getMostUrgent() {
+        return size == 0 ? null : entities[urgencyOrder[0]];
+    }
+
+    /**
+     * Gets the enemy that follows the given one in urgency order, wrapping around
+     *
+     * @param current The current enemy
+     * @return The next enemy, the most urgent one if current is not stored, or null if the store is empty
+     */
+    public Entity getNextByUrgency(Entity current) {
+        Integer index = current == null ? null : indices.get(current);
+        if (index == null) {
+            return getMostUrgent();
+        }
+        return entities[urgencyOrder[(urgencyRank[index] + 1) % size]];
+    }
+
+    /**
+     * Removes all enemies from the store
+     */
+    public void clear() {
+        Arrays.fill(entities, 0, size, null);
+        Arrays.fill(textures, 0, size, null);
+        indices.clear();
+        size = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= entities.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, entities.length * 2);
+        entities = Arrays.copyOf(entities, newCapacity);
+        textures = Arrays.copyOf(textures, newCapacity);
+        x = Arrays.copyOf(x, newCapacity);
+        speed = Arrays.copyOf(speed, newCapacity);
+        exitOffset = Arrays.copyOf(exitOffset, newCapacity);
+        animationTime = Arrays.copyOf(animationTime, newCapacity);
+        movingRight = Arrays.copyOf(movingRight, newCapacity);
+        hasBeenVisible = Arrays.copyOf(hasBeenVisible, newCapacity);
+        active = Arrays.copyOf(active, newCapacity);
+        urgencyOrder = Arrays.copyOf(urgencyOrder, newCapacity);
+        urgencyRank = Arrays.copyOf(urgencyRank, newCapacity);
+        distanceToExit = Arrays.copyOf(distanceToExit, newCapacity);
+    }
+
+    private double computeDistanceToExit(int i) {
+        return movingRight[i] ? screenWidth - x[i] : x[i];
+    }
+
+    private void swapRanks(int a, int b) {
+        int slot = urgencyOrder[a];
+        urgencyOrder[a] = urgencyOrder[b];
+        urgencyOrder[b] = slot;
+        urgencyRank[urgencyOrder[a]] = a;
+        urgencyRank[urgencyOrder[b]] = b;
+    }
+
+    /**
+     * Looks up the animated sprite inside an enemy's view once, so the update loop does not have to
+     */
+    private static AnimatedTexture findTexture(Entity entity) {
+        if (entity.getViewComponent() == null || entity.getViewComponent().getChildren().isEmpty()) {
+            return null;
+        }
+        Node view = entity.getViewComponent().getChildren().get(0);
+        Node viewNode = view instanceof StackPane && !((StackPane) view).getChildren().isEmpty()
+                ? ((StackPane) view).getChildren().get(0) : view;
+        return viewNode instanceof AnimatedTexture ? (AnimatedTexture) viewNode : null;
+    }
+}
@@ -1,11 +1,16 @@
 package com.oop2.typewiz.GameplayComponents;
 
+import com.oop2.typewiz.util.GameLogger;
 import com.almasb.fxgl.entity.Entity;
-import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.texture.AnimatedTexture;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import javafx.scene.Node;
@@ -15,42 +20,30 @@ import javafx.scene.Node;
  * This class implements the Object Pool pattern to efficiently reuse entities.
  */
 public class EntityManager {
+    private static final GameLogger LOG = GameLogger.getLogger(EntityManager.class);
 
     private List<Entity> activeEntities;
-    private List<Entity> gargoylePool;
-    private List<Entity> grimougePool;
-    private List<Entity> vyleyePool;
+    // Active entities indexed by type, plus the enemies of all types, kept in sync on add/remove
+    private Map<Game.EntityType, List<Entity>> activeByType;
+    private Map<Game.EntityType, List<Entity>> activeByTypeViews;
+    private List<Entity> activeEnemies;
+    private List<Entity> activeEnemiesView;
+    // One pool of fully built, reusable entities per enemy type
+    private Map<Game.EntityType, Deque<Entity>> pools;
     private List<Entity> entitiesToRemove;
     private SpatialPartitioning spatialPartitioning;
+    private EnemyStore enemyStore;
+    // Prefix index of the active enemies' words for prefix targeting
+    private WordTrie wordTrie;
     private double width;
     private double height;
     private int maxActiveEntities;
+    private boolean prewarmed;
 
     private static final int BATCH_SIZE = 50;
-    private static final int MAX_GARGOYLES = 10;
-    private static final int MAX_GRIMOUGES = 10;
-    private static final int MAX_VYLEYES = 10;
-
-    // Constants for entity movement
-    private static final double GARGOYLE_SPEED = 50.0;
-    private static final double GARGOYLE_FRAME_WIDTH = 288;
-    private static final double GARGOYLE_FRAME_HEIGHT = 312;
-    private static final double GARGOYLE_SCALE = 0.6;
-
-    private static final double GRIMOUGE_SPEED = 50.0;
-    private static final int GRIMOUGE_SPRITE_SHEET_WIDTH = 7200;
-    private static final int GRIMOUGE_FRAME_COUNT = 9;
-    private static final double GRIMOUGE_FRAME_WIDTH = GRIMOUGE_SPRITE_SHEET_WIDTH / GRIMOUGE_FRAME_COUNT; // 800px per frame
-    private static final double GRIMOUGE_FRAME_HEIGHT = 400;
-    private static final double GRIMOUGE_SCALE = 0.6;
-
-    private static final double VYLEYE_SPEED = 50.0;
-    private static final int VYLEYE_SPRITE_SHEET_WIDTH = 5600;
-    private static final int VYLEYE_FRAME_COUNT = 7;
-    private static final double VYLEYE_FRAME_WIDTH = VYLEYE_SPRITE_SHEET_WIDTH / VYLEYE_FRAME_COUNT; // 800px per frame
-    private static final double VYLEYE_FRAME_HEIGHT = 400;
-    private static final double VYLEYE_SCALE = 0.6;
-
+    // Pooled enemies per type on top of an even share of the active limit, so a whole
+    // group of one type fits (spawn columns hold at most 12 enemies)
+    private static final int POOL_GROUP_HEADROOM = 12;
     /**
      * Creates a new EntityManager with initialized pools and spatial partitioning
      *
@@ -59,166 +52,151 @@ public class EntityManager {
      * @param maxActiveEntities Maximum number of active entities allowed
      */
     public EntityManager(double width, double height, int maxActiveEntities) {
+        this(width, height, maxActiveEntities, true);
+    }
+
+    /**
+     * Creates a new EntityManager, optionally without pre-building the enemy pools.
+     * Skipping the pools lets the manager run without loading any textures,
+     * e.g. in benchmarks.
+     *
+     * @param width Width of the game area
+     * @param height Height of the game area
+     * @param maxActiveEntities Maximum number of active entities allowed
+     * @param prewarmPools Whether to build the enemy pools up front
+     */
+    EntityManager(double width, double height, int maxActiveEntities, boolean prewarmPools) {
         this.width = width;
         this.height = height;
         this.maxActiveEntities = maxActiveEntities;
         activeEntities = new ArrayList<>();
-        gargoylePool = new ArrayList<>(MAX_GARGOYLES);
-        grimougePool = new ArrayList<>(MAX_GRIMOUGES);
-        vyleyePool = new ArrayList<>(MAX_VYLEYES);
+        activeByType = new EnumMap<>(Game.EntityType.class);
+        activeByTypeViews = new EnumMap<>(Game.EntityType.class);
+        for (Game.EntityType type : Game.EntityType.values()) {
+            List<Entity> entities = new ArrayList<>();
+            activeByType.put(type, entities);
+            activeByTypeViews.put(type, Collections.unmodifiableList(entities));
+        }
+        activeEnemies = new ArrayList<>(maxActiveEntities);
+        activeEnemiesView = Collections.unmodifiableList(activeEnemies);
+        pools = new EnumMap<>(Game.EntityType.class);
         entitiesToRemove = new ArrayList<>(BATCH_SIZE);
         spatialPartitioning = new SpatialPartitioning(100, width, height);
+        enemyStore = new EnemyStore(width);
+        wordTrie = new WordTrie();
 
         // Pre-initialize the entity pools
-        initializeGargoylePool();
-        initializeGrimougePool();
-        initializeVyleyePool();
-    }
-
-    /**
-     * Initializes the gargoyle entity pool
-     */
-    private void initializeGargoylePool() {
-        for (int i = 0; i < MAX_GARGOYLES; i++) {
-            Entity gargoyleEntity = FXGL.entityBuilder()
-                    .type(Game.EntityType.GARGOYLE)
-                    .zIndex(25)
-                    .build();
-
-            // Add to pool
-            gargoylePool.add(gargoyleEntity);
+        prewarmed = prewarmPools;
+        if (prewarmPools) {
+            initializePools();
+        } else {
+            for (EnemyArchetype archetype : EnemyFactory.getArchetypes()) {
+                pools.put(archetype.getType(), new ArrayDeque<>());
+            }
         }
     }
 
     /**
-     * Initializes the grimouge entity pool
+     * Pre-warms one entity pool for every enemy archetype.
+     * The active limit is shared by all types, so the pools split it between them: each
+     * holds an even share plus room for a whole group, and together they always hold at
+     * least the limit. {@code WaveManager} only spawns as many enemies of a type as its
+     * pool has ready ({@link #getReadyInPool}), so no entity or node is built during a wave.
      */
-    private void initializeGrimougePool() {
-        for (int i = 0; i < MAX_GRIMOUGES; i++) {
-            Entity grimougeEntity = FXGL.entityBuilder()
-                    .type(Game.EntityType.GRIMOUGE)
-                    .zIndex(25)
-                    .build();
-
-            // Add to pool
-            grimougePool.add(grimougeEntity);
+    private void initializePools() {
+        List<EnemyArchetype> archetypes = EnemyFactory.getArchetypes();
+        int poolSize = getPoolSizePerType(maxActiveEntities, archetypes.size());
+        for (EnemyArchetype archetype : archetypes) {
+            Deque<Entity> pool = new ArrayDeque<>(poolSize);
+            for (int i = 0; i < poolSize; i++) {
+                pool.addLast(EnemyFactory.createEnemy(archetype));
+            }
+            pools.put(archetype.getType(), pool);
         }
+        LOG.debug(() -> "Pre-warmed " + pools.size() + " enemy pools with " + poolSize + " entities each");
     }
 
     /**
-     * Initializes the vyleye entity pool
+     * Gets the number of enemies pre-built for each archetype
+     *
+     * @param maxActiveEntities Maximum number of active enemies of all types together
+     * @param archetypeCount Number of enemy archetypes
+     * @return An even share of the limit plus room for one group, at most the limit itself
      */
-    private void initializeVyleyePool() {
-        for (int i = 0; i < MAX_VYLEYES; i++) {
-            Entity vyleyeEntity = FXGL.entityBuilder()
-                    .type(Game.EntityType.VYLEYE)
-                    .zIndex(25)
-                    .build();
-
-            // Add to pool
-            vyleyePool.add(vyleyeEntity);
-        }
+    static int getPoolSizePerType(int maxActiveEntities, int archetypeCount) {
+        int share = (maxActiveEntities + archetypeCount - 1) / archetypeCount;
+        return Math.min(maxActiveEntities, share + POOL_GROUP_HEADROOM);
     }
 
     /**
-     * Gets a gargoyle entity from the pool or creates a new one if needed
+     * Gets how many enemies of a type can be spawned without building new ones
      *
-     * @return An available gargoyle entity
-     */
-    public Entity getGargoyleFromPool() {
-        if (gargoylePool.isEmpty()) {
-            // If pool is empty, create a new entity
-            Entity gargoyleEntity = FXGL.entityBuilder()
-                    .type(Game.EntityType.GARGOYLE)
-                    .zIndex(25)
-                    .build();
-            return gargoyleEntity;
+     * @param type The enemy type
+     * @return Pooled enemies that are detached from the world, or
+     *         {@link Integer#MAX_VALUE} if the pools are built on demand
+     */
+    public int getReadyInPool(Game.EntityType type) {
+        if (!prewarmed) {
+            return Integer.MAX_VALUE;
         }
-
-        // Get and remove the last entity from the pool
-        return gargoylePool.remove(gargoylePool.size() - 1);
-    }
-
-    /**
-     * Gets a grimouge entity from the pool or creates a new one if needed
-     *
-     * @return An available grimouge entity
-     */
-    public Entity getGrimougeFromPool() {
-        if (grimougePool.isEmpty()) {
-            // If pool is empty, create a new entity
-            Entity grimougeEntity = FXGL.entityBuilder()
-                    .type(Game.EntityType.GRIMOUGE)
-                    .zIndex(25)
-                    .build();
-            return grimougeEntity;
+        Deque<Entity> pool = pools.get(type);
+        if (pool == null) {
+            return 0;
         }
-
-        // Get and remove the last entity from the pool
-        return grimougePool.remove(grimougePool.size() - 1);
-    }
-
-    /**
-     * Gets a vyleye entity from the pool or creates a new one if needed
-     *
-     * @return An available vyleye entity
-     */
-    public Entity getVyleyeFromPool() {
-        if (vyleyePool.isEmpty()) {
-            // If pool is empty, create a new entity
-            Entity vyleyeEntity = FXGL.entityBuilder()
-                    .type(Game.EntityType.VYLEYE)
-                    .zIndex(25)
-                    .build();
-            return vyleyeEntity;
+        int ready = 0;
+        for (Entity entity : pool) {
+            // Removed this frame but still attached until the world's next update
+            if (!entity.isActive()) {
+                ready++;
+            }
         }
-
-        // Get and remove the last entity from the pool
-        return vyleyePool.remove(vyleyePool.size() - 1);
+        return ready;
     }
 
     /**
-     * Returns an entity to the gargoyle pool for reuse
+     * Gets an enemy entity of the given type from the pool or creates a new one if needed
      *
-     * @param entity The entity to return to the pool
-     */
-    public void returnGargoyleToPool(Entity entity) {
-        if (entity != null) {
-            if (entity.isActive()) {
-                entity.removeFromWorld();
+     * @param type The enemy type
+     * @return An available entity of that type, not yet attached to the world
+     */
+    public Entity getFromPool(Game.EntityType type) {
+        Deque<Entity> pool = pools.get(type);
+        if (pool != null) {
+            // Entities are reused oldest first. One removed this frame is still attached
+            // until the world's next update, so skip it for now.
+            for (int i = pool.size(); i > 0; i--) {
+                Entity entity = pool.pollFirst();
+                if (!entity.isActive()) {
+                    return entity;
+                }
+                pool.addLast(entity);
             }
-            spatialPartitioning.removeEntity(entity);
-            gargoylePool.add(entity);
         }
+
+        // If pool is empty, create a new entity
+        LOG.debug(() -> "Enemy pool for " + type + " exhausted, creating a new entity");
+        return EnemyFactory.createEnemy(EnemyFactory.getArchetype(type));
     }
 
     /**
-     * Returns an entity to the grimouge pool for reuse
+     * Returns an enemy entity to the pool of its type for reuse
      *
      * @param entity The entity to return to the pool
      */
-    public void returnGrimougeToPool(Entity entity) {
+    public void returnToPool(Entity entity) {
         if (entity != null) {
             if (entity.isActive()) {
                 entity.removeFromWorld();
             }
             spatialPartitioning.removeEntity(entity);
-            grimougePool.add(entity);
+            addToPool(entity);
         }
     }
 
-    /**
-     * Returns an entity to the vyleye pool for reuse
-     *
-     * @param entity The entity to return to the pool
-     */
-    public void returnVyleyeToPool(Entity entity) {
-        if (entity != null) {
-            if (entity.isActive()) {
-                entity.removeFromWorld();
-            }
-            spatialPartitioning.removeEntity(entity);
-            vyleyePool.add(entity);
+    private void addToPool(Entity entity) {
+        Deque<Entity> pool = pools.get(getEntityType(entity));
+        if (pool != null) {
+            pool.addLast(entity);
         }
     }
 
@@ -230,30 +208,91 @@ public class EntityManager {
      */
     public boolean addActiveEntity(Entity entity) {
         if (entity != null) {
-            if (getActiveEnemies().size() >= maxActiveEntities) {
-                System.out.println("Maximum active entities limit reached, not adding new entity");
+            if (activeEnemies.size() >= maxActiveEntities) {
+                LOG.debug("Maximum active entities limit reached, not adding new entity");
                 return false;
             }
             activeEntities.add(entity);
+            registerActive(entity);
+            addToEnemyStore(entity);
             spatialPartitioning.updateEntity(entity);
             if (!entity.isActive()) {
-                System.out.println("Entity was not active, attaching to world: " + entity);
-                FXGL.getGameWorld().addEntity(entity);
+                LOG.debug(() -> "Entity was not active, attaching to world: " + entity);
+                GameEnvironment.get().attachEntity(entity);
             } else {
-                System.out.println("Entity is already active in the world: " + entity);
+                LOG.debug(() -> "Entity is already active in the world: " + entity);
             }
             return true;
         }
         return false;
     }
 
+    /**
+     * Adds an entity to the type index and, for enemies, the combined enemy list
+     *
+     * @param entity The entity to index
+     */
+    private void registerActive(Entity entity) {
+        Game.EntityType type = getEntityType(entity);
+        if (type == null) {
+            return;
+        }
+        activeByType.get(type).add(entity);
+        if (isEnemyType(type)) {
+            activeEnemies.add(entity);
+            wordTrie.insert(getWord(entity), entity);
+        }
+    }
+
+    /**
+     * Removes an entity from the type index and the combined enemy list
+     *
+     * @param entity The entity to remove from the index
+     */
+    private void unregisterActive(Entity entity) {
+        Game.EntityType type = getEntityType(entity);
+        if (type == null) {
+            return;
+        }
+        activeByType.get(type).remove(entity);
+        if (isEnemyType(type)) {
+            activeEnemies.remove(entity);
+            wordTrie.remove(getWord(entity), entity);
+        }
+    }
+
+    private static Game.EntityType getEntityType(Entity entity) {
+        Object type = entity.getType();
+        return type instanceof Game.EntityType ? (Game.EntityType) type : null;
+    }
+
+    private static String getWord(Entity entity) {
+        return entity.getProperties().exists("word") ? entity.getString("word") : null;
+    }
+
+    private static boolean isEnemyType(Game.EntityType type) {
+        return EnemyFactory.getArchetype(type) != null;
+    }
+
+    /**
+     * Registers an enemy's movement state in the enemy store
+     *
+     * @param entity The entity to register
+     */
+    private void addToEnemyStore(Entity entity) {
+        EnemyArchetype archetype = EnemyFactory.getArchetype(entity);
+        if (archetype != null) {
+            enemyStore.add(entity, archetype.getSpeed(), archetype.getScaledWidth());
+        }
+    }
+
     /**
      * Checks if adding more entities is possible
      *
      * @return true if more entities can be added, false if at max capacity
      */
     public boolean canAddMoreEntities() {
-        return getActiveEnemies().size() < maxActiveEntities;
+        return activeEnemies.size() < maxActiveEntities;
     }
 
     /**
@@ -271,7 +310,7 @@ public class EntityManager {
      * @return Number of available entity slots
      */
     public int getAvailableEntitySlots() {
-        return Math.max(0, maxActiveEntities - getActiveEnemies().size());
+        return Math.max(0, maxActiveEntities - activeEnemies.size());
     }
 
     /**
@@ -281,7 +320,12 @@ public class EntityManager {
      */
     public void removeEntity(Entity entity) {
         if (entity != null) {
-            activeEntities.remove(entity);
+            // Entities marked for removal twice must only go back to the pool once
+            boolean wasActive = activeEntities.remove(entity);
+            if (wasActive) {
+                unregisterActive(entity);
+            }
+            enemyStore.remove(entity);
 
             if (entity.isActive()) {
                 entity.removeFromWorld();
@@ -290,12 +334,8 @@ public class EntityManager {
             spatialPartitioning.removeEntity(entity);
 
             // Return entity to appropriate pool based on type
-            if (entity.isType(Game.EntityType.GARGOYLE)) {
-                gargoylePool.add(entity);
-            } else if (entity.isType(Game.EntityType.GRIMOUGE)) {
-                grimougePool.add(entity);
-            } else if (entity.isType(Game.EntityType.VYLEYE)) {
-                vyleyePool.add(entity);
+            if (wasActive) {
+                addToPool(entity);
             }
         }
     }
@@ -334,56 +374,75 @@ public class EntityManager {
      * Gets active entities of a specific type
      *
      * @param type The entity type to filter by
-     * @return List of active entities of the specified type
+     * @return Read-only view of the active entities of the specified type
      */
     public List<Entity> getActiveEntitiesByType(Game.EntityType type) {
-        List<Entity> result = new ArrayList<>();
-        for (Entity entity : activeEntities) {
-            if (entity.isType(type)) {
-                result.add(entity);
-            }
-        }
-        return result;
+        return activeByTypeViews.get(type);
     }
 
     /**
-     * Gets the active gargoyle entities
+     * Gets the number of active entities of a specific type
      *
-     * @return List of active gargoyle entities
+     * @param type The entity type to count
+     * @return Number of active entities of the specified type
      */
-    public List<Entity> getActiveGargoyles() {
-        return getActiveEntitiesByType(Game.EntityType.GARGOYLE);
+    public int getActiveCount(Game.EntityType type) {
+        return activeByType.get(type).size();
     }
 
     /**
-     * Gets the active grimouge entities
+     * Gets all active enemy entities, of every archetype
      *
-     * @return List of active grimouge entities
+     * @return A new list of all active enemy entities that the caller may modify
      */
-    public List<Entity> getActiveGrimouges() {
-        return getActiveEntitiesByType(Game.EntityType.GRIMOUGE);
+    public List<Entity> getActiveEnemies() {
+        return new ArrayList<>(activeEnemies);
     }
 
     /**
-     * Gets the active vyleye entities
+     * Gets all active enemy entities without copying
      *
-     * @return List of active vyleye entities
+     * @return Read-only view of all active enemy entities
      */
-    public List<Entity> getActiveVyleyes() {
-        return getActiveEntitiesByType(Game.EntityType.VYLEYE);
+    public List<Entity> getActiveEnemiesView() {
+        return activeEnemiesView;
     }
 
     /**
-     * Gets all active enemy entities (gargoyles, grimouges, and vyleyes)
+     * Gets the number of active enemy entities
      *
-     * @return List of all active enemy entities
+     * @return Number of active enemies
      */
-    public List<Entity> getActiveEnemies() {
-        List<Entity> enemies = new ArrayList<>();
-        enemies.addAll(getActiveGargoyles());
-        enemies.addAll(getActiveGrimouges());
-        enemies.addAll(getActiveVyleyes());
-        return enemies;
+    public int getActiveEnemyCount() {
+        return activeEnemies.size();
+    }
+
+    /**
+     * Checks whether any enemies are still active
+     *
+     * @return true if at least one enemy is active
+     */
+    public boolean hasActiveEnemies() {
+        return !activeEnemies.isEmpty();
+    }
+
+    /**
+     * Gets the enemy closest to the edge it is moving toward
+     *
+     * @return The most urgent enemy, or null if there are no active enemies
+     */
+    public Entity getMostUrgentEnemy() {
+        return enemyStore.getMostUrgent();
+    }
+
+    /**
+     * Gets the enemy after the given one in urgency order, wrapping around to the most urgent
+     *
+     * @param current The current enemy, or null to start with the most urgent one
+     * @return The next enemy, or null if there are no active enemies
+     */
+    public Entity getNextEnemyByUrgency(Entity current) {
+        return enemyStore.getNextByUrgency(current);
     }
 
     /**
@@ -392,7 +451,8 @@ public class EntityManager {
      * @param type The entity type to remove
      */
     public void removeAllEntitiesOfType(Game.EntityType type) {
-        List<Entity> entities = getActiveEntitiesByType(type);
+        // Copy first, since removing entities modifies the type index
+        List<Entity> entities = new ArrayList<>(getActiveEntitiesByType(type));
         for (Entity entity : entities) {
             removeEntity(entity);
         }
@@ -430,307 +490,140 @@ public class EntityManager {
         return spatialPartitioning;
     }
 
+    /**
+     * Gets the prefix trie of the active enemies' words
+     *
+     * @return The word trie
+     */
+    public WordTrie getWordTrie() {
+        return wordTrie;
+    }
+
+    /**
+     * Gets the struct-of-arrays store backing the enemy update loop
+     *
+     * @return The enemy store
+     */
+    EnemyStore getEnemyStore() {
+        return enemyStore;
+    }
+
     /**
      * Clears all entities and resets the manager
      */
     public void clear() {
-        // Remove all active entities from the world
+        // Remove all active entities from the world and return them to their pools
         for (Entity entity : activeEntities) {
             if (entity.isActive()) {
                 entity.removeFromWorld();
             }
+            addToPool(entity);
         }
 
         // Clear all lists
         activeEntities.clear();
+        for (List<Entity> entities : activeByType.values()) {
+            entities.clear();
+        }
+        activeEnemies.clear();
         entitiesToRemove.clear();
-
-        // Reinitialize the pools
-        gargoylePool.clear();
-        grimougePool.clear();
-        vyleyePool.clear();
-        initializeGargoylePool();
-        initializeGrimougePool();
-        initializeVyleyePool();
+        enemyStore.clear();
+        wordTrie.clear();
 
         // Reset spatial partitioning
         spatialPartitioning.clear();
     }
 
     /**
-     * Updates all active entities
+     * Updates all active enemies in a single pass over the enemy store.
+     * Movement, visibility and animation state live in primitive arrays; the
+     * FXGL entity only receives its new position once per frame.
+     *
      * @param tpf Time per frame
      * @param speedMultiplier Speed multiplier for the current wave
      */
     public void updateEntities(double tpf, double speedMultiplier) {
-        // Process all active gargoyles
-        updateGargoyles(tpf, speedMultiplier);
-
-        // Process all active grimouges
-        updateGrimouges(tpf, speedMultiplier);
-
-        // Process all active vyleyes
-        updateVyleyes(tpf, speedMultiplier);
-    }
-
-    /**
-     * Updates all active gargoyle entities
-     * @param tpf Time per frame
-     * @param speedMultiplier Speed multiplier for the current wave
-     */
-    private void updateGargoyles(double tpf, double speedMultiplier) {
-        List<Entity> gargoyles = getActiveGargoyles();
-        for (Entity gargoyle : gargoyles) {
-            if (gargoyle == null) continue;
-
-            // Check visibility and activity state
-            boolean isVisible = isEntityVisible(gargoyle);
-            boolean hasBeenVisible = gargoyle.getBoolean("hasBeenVisible");
-            boolean isActive = gargoyle.getBoolean("isActive");
-            boolean movingRight = gargoyle.getBoolean("movingRight");
-
-            // Mark as visible once it enters the screen
-            if (isVisible && !hasBeenVisible) {
-                gargoyle.setProperty("hasBeenVisible", true);
-                hasBeenVisible = true;
+        EnemyStore store = enemyStore;
+        // Walk backwards so escaped enemies can be dropped from the store mid-loop
+        for (int i = store.size - 1; i >= 0; i--) {
+            Entity enemy = store.entities[i];
+            double x = store.x[i];
+
+            // Consider the enemy visible only when it's within the actual screen bounds
+            boolean isVisible = x >= 0 && x <= this.width;
+
+            // Mark as visible once it enters the screen, and activate it
+            if (isVisible && !store.hasBeenVisible[i]) {
+                store.hasBeenVisible[i] = true;
+                enemy.setProperty("hasBeenVisible", true);
             }
-
-            // Activate when fully visible
-            if (isVisible && !isActive) {
-                gargoyle.setProperty("isActive", true);
-                isActive = true;
+            if (isVisible && !store.active[i]) {
+                store.active[i] = true;
+                enemy.setProperty("isActive", true);
             }
 
-            // Only move and check for removal if the gargoyle is active
-            if (isActive) {
-                // Update position
-                double movement = GARGOYLE_SPEED * speedMultiplier * tpf;
+            // Only move and check for removal if the enemy is active
+            if (store.active[i]) {
+                double movement = store.speed[i] * speedMultiplier * tpf;
                 movement = Math.max(movement, 1.0); // Prevent micro-stuttering
-                gargoyle.translateX(movingRight ? movement : -movement);
-
-                // Check if gargoyle has left the screen
-                if ((movingRight && gargoyle.getX() > this.width) ||
-                        (!movingRight && gargoyle.getX() < -GARGOYLE_FRAME_WIDTH * GARGOYLE_SCALE)) {
-                    if (hasBeenVisible) {
-                        // Decrease player health when gargoyle leaves screen
-                        PlayerManager playerManager = FXGL.getWorldProperties().getObject("playerManager");
-                        if (playerManager != null) {
-                            playerManager.decreaseHealth();
-                        }
-                    }
-                    // Mark for removal in the next cycle
-                    markForRemoval(gargoyle);
-
-                    // Update selection if needed
-                    InputManager inputManager = FXGL.getWorldProperties().getObject("inputManager");
-                    if (inputManager != null && gargoyle == inputManager.getSelectedWordBlock()) {
-                        Entity closest = GargoyleFactory.findClosestGargoyleToCenter(getActiveGargoyles());
-                        if (closest != null) {
-                            inputManager.selectWordBlock(closest);
-                        }
-                    }
+                boolean movingRight = store.movingRight[i];
+                x += movingRight ? movement : -movement;
+                store.x[i] = x;
+
+                // Check if the enemy has left the screen
+                if ((movingRight && x > this.width) || (!movingRight && x < -store.exitOffset[i])) {
+                    enemy.setX(x);
+                    handleEnemyEscaped(enemy, store.hasBeenVisible[i]);
                     continue;
                 }
             }
 
-            // Update animation
-            updateEntityAnimation(gargoyle, tpf);
-
-            // Update spatial partitioning
-            spatialPartitioning.updateEntity(gargoyle);
-        }
-    }
-
-    /**
-     * Updates all active grimouge entities
-     * @param tpf Time per frame
-     * @param speedMultiplier Speed multiplier for the current wave
-     */
-    private void updateGrimouges(double tpf, double speedMultiplier) {
-        List<Entity> grimouges = getActiveGrimouges();
-        for (Entity grimouge : grimouges) {
-            if (grimouge == null) continue;
-
-            // Check visibility and activity state
-            boolean isVisible = isEntityVisible(grimouge);
-            boolean hasBeenVisible = grimouge.getBoolean("hasBeenVisible");
-            boolean isActive = grimouge.getBoolean("isActive");
-            boolean movingRight = grimouge.getBoolean("movingRight");
-
-            // Mark as visible once it enters the screen
-            if (isVisible && !hasBeenVisible) {
-                grimouge.setProperty("hasBeenVisible", true);
-                hasBeenVisible = true;
+            // Advance the animation timer and frame
+            double animationTime = store.animationTime[i] + tpf;
+            store.animationTime[i] = animationTime >= 0.2 ? 0 : animationTime;
+            AnimatedTexture texture = store.textures[i];
+            if (texture != null) {
+                texture.onUpdate(tpf);
             }
 
-            // Activate when fully visible
-            if (isVisible && !isActive) {
-                grimouge.setProperty("isActive", true);
-                isActive = true;
-            }
-
-            // Only move and check for removal if the grimouge is active
-            if (isActive) {
-                // Update position
-                double movement = GRIMOUGE_SPEED * speedMultiplier * tpf;
-                movement = Math.max(movement, 1.0); // Prevent micro-stuttering
-                grimouge.translateX(movingRight ? movement : -movement);
-
-                // Check if grimouge has left the screen
-                if ((movingRight && grimouge.getX() > this.width) ||
-                        (!movingRight && grimouge.getX() < -GRIMOUGE_FRAME_WIDTH * GRIMOUGE_SCALE)) {
-                    if (hasBeenVisible) {
-                        // Decrease player health when grimouge leaves screen
-                        PlayerManager playerManager = FXGL.getWorldProperties().getObject("playerManager");
-                        if (playerManager != null) {
-                            playerManager.decreaseHealth();
-                        }
-                    }
-                    // Mark for removal in the next cycle
-                    markForRemoval(grimouge);
-
-                    // Update selection if needed
-                    InputManager inputManager = FXGL.getWorldProperties().getObject("inputManager");
-                    if (inputManager != null && grimouge == inputManager.getSelectedWordBlock()) {
-                        Entity closest = GrimougeFactory.findClosestGrimougeToCenter(getActiveGrimouges());
-                        if (closest != null) {
-                            inputManager.selectWordBlock(closest);
-                        }
-                    }
-                    continue;
-                }
-            }
-
-            // Update animation
-            updateEntityAnimation(grimouge, tpf);
-
-            // Update spatial partitioning
-            spatialPartitioning.updateEntity(grimouge);
+            // Sync position to the entity and the spatial grid once per frame
+            enemy.setX(x);
+            spatialPartitioning.updateEntity(enemy);
         }
-    }
-
-    /**
-     * Updates all active vyleye entities
-     * @param tpf Time per frame
-     * @param speedMultiplier Speed multiplier for the current wave
-     */
-    private void updateVyleyes(double tpf, double speedMultiplier) {
-        List<Entity> vyleyes = getActiveVyleyes();
-        for (Entity vyleye : vyleyes) {
-            if (vyleye == null) continue;
-
-            // Check visibility and activity state
-            boolean isVisible = isEntityVisible(vyleye);
-            boolean hasBeenVisible = vyleye.getBoolean("hasBeenVisible");
-            boolean isActive = vyleye.getBoolean("isActive");
-            boolean movingRight = vyleye.getBoolean("movingRight");
-
-            // Mark as visible once it enters the screen
-            if (isVisible && !hasBeenVisible) {
-                vyleye.setProperty("hasBeenVisible", true);
-                hasBeenVisible = true;
-            }
 
-            // Activate when fully visible
-            if (isVisible && !isActive) {
-                vyleye.setProperty("isActive", true);
-                isActive = true;
-            }
-
-            // Only move and check for removal if the vyleye is active
-            if (isActive) {
-                // Update position
-                double movement = VYLEYE_SPEED * speedMultiplier * tpf;
-                movement = Math.max(movement, 1.0); // Prevent micro-stuttering
-                vyleye.translateX(movingRight ? movement : -movement);
-
-                // Check if vyleye has left the screen
-                if ((movingRight && vyleye.getX() > this.width) ||
-                        (!movingRight && vyleye.getX() < -VYLEYE_FRAME_WIDTH * VYLEYE_SCALE)) {
-                    if (hasBeenVisible) {
-                        // Decrease player health when vyleye leaves screen
-                        PlayerManager playerManager = FXGL.getWorldProperties().getObject("playerManager");
-                        if (playerManager != null) {
-                            playerManager.decreaseHealth();
-                        }
-                    }
-                    // Mark for removal in the next cycle
-                    markForRemoval(vyleye);
-
-                    // Update selection if needed
-                    InputManager inputManager = FXGL.getWorldProperties().getObject("inputManager");
-                    if (inputManager != null && vyleye == inputManager.getSelectedWordBlock()) {
-                        Entity closest = VyleyeFactory.findClosestVyleyeToCenter(getActiveVyleyes());
-                        if (closest != null) {
-                            inputManager.selectWordBlock(closest);
-                        }
-                    }
-                    continue;
-                }
-            }
-
-            // Update animation
-            updateEntityAnimation(vyleye, tpf);
-
-            // Update spatial partitioning
-            spatialPartitioning.updateEntity(vyleye);
-        }
+        // Keep the urgency ranking in step with the new positions
+        store.sortByUrgency();
     }
 
     /**
-     * Updates animation for an entity
-     * @param entity The entity to update
-     * @param tpf Time per frame
-     */
-    private void updateEntityAnimation(Entity entity, double tpf) {
-        if (entity.getViewComponent() != null && !entity.getViewComponent().getChildren().isEmpty()) {
-            Node view = entity.getViewComponent().getChildren().get(0);
-            if (view != null) {
-                Node viewNode = view instanceof javafx.scene.layout.StackPane ?
-                        ((javafx.scene.layout.StackPane) view).getChildren().get(0) : view;
-
-                if (viewNode instanceof AnimatedTexture) {
-                    AnimatedTexture texture = (AnimatedTexture) viewNode;
-                    double animationTime = 0.0;
-                    if (entity.getProperties().exists("animationTime")) {
-                        animationTime = entity.getDouble("animationTime");
-                    }
-                    animationTime += tpf;
-
-                    // Remove wing flap sound - we'll use BGM instead
-                    if (animationTime >= 0.2) {
-                        animationTime = 0; // Reset animation timer
-                    }
-
-                    entity.setProperty("animationTime", animationTime);
-
-                    // Update the animation frame
-                    texture.onUpdate(tpf);
-                }
+     * Handles an enemy that moved past the edge of the screen
+     *
+     * @param enemy The enemy that escaped
+     * @param hasBeenVisible Whether the player had a chance to see the enemy
+     */
+    private void handleEnemyEscaped(Entity enemy, boolean hasBeenVisible) {
+        if (hasBeenVisible) {
+            // Decrease player health when an enemy leaves the screen
+            PlayerManager playerManager = GameEnvironment.get().getPlayerManager();
+            if (playerManager != null) {
+                playerManager.decreaseHealth();
             }
         }
-
-        // Update visibility flag once entity is on screen
-        try {
-            if (!entity.getBoolean("hasBeenVisible")) {
-                if (isEntityVisible(entity)) {
-                    entity.setProperty("hasBeenVisible", true);
-                }
+        // Mark for removal in the next cycle, but stop ranking it as a target right away
+        markForRemoval(enemy);
+        enemyStore.remove(enemy);
+
+        // Update selection if needed
+        InputManager inputManager = GameEnvironment.get().getInputManager();
+        if (inputManager != null && enemy == inputManager.getSelectedWordBlock()) {
+            Entity mostUrgent = enemyStore.getMostUrgent();
+            if (mostUrgent != null) {
+                inputManager.selectWordBlock(mostUrgent);
+            } else {
+                // The escaped enemy goes back to the pool and returns with a new word,
+                // so neither it nor the input typed at it may stay selected
+                inputManager.reset();
             }
-        } catch (Exception e) {
-            // Skip visibility update if properties are missing
-            System.err.println("Error updating entity visibility: " + e.getMessage());
         }
     }
-
-    /**
-     * Checks if an entity is visible on screen
-     * @param entity The entity to check
-     * @return True if the entity is within screen bounds
-     */
-    private boolean isEntityVisible(Entity entity) {
-        double x = entity.getX();
-        // Consider entity visible only when it's within the actual screen bounds
-        return x >= 0 && x <= this.width;
-    }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,226 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Times each stage of the game's frame update over a rolling window of recent frames
+ * and counts garbage collections while it is on.
+ * When disabled, {@link #begin()} returns 0 and {@link #end(Stage, long)} returns at once,
+ * so the timing calls can stay in the frame loop permanently.
+ *
+ * Starts enabled if the system property {@code typewiz.profiler} is true.
+ */
+public class FrameProfiler {
+    /**
+     * Stages of the frame update, in the order Game.onUpdate runs them
+     */
+    public enum Stage {
+        WAVES("Waves"),
+        ENTITIES("Entities"),
+        REMOVALS("Removals"),
+        WORDS("Words"),
+        UI("UI"),
+        FRAME("Frame");
+
+        private final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final int WINDOW = 300;          // Samples kept per stage, five seconds at 60 FPS
+    private static final int REPORT_INTERVAL = 30;  // Frames between overlay refreshes
+
+    private final long[][] samples = new long[Stage.values().length][WINDOW];
+    private final int[] sampleCounts = new int[Stage.values().length];
+    private final int[] nextSample = new int[Stage.values().length];
+    private final long[] sorted = new long[WINDOW];
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private boolean enabled;
+    private int framesSinceReport;
+    private long gcCountAtStart;
+    private long gcMillisAtStart;
+
+    public FrameProfiler() {
+        setEnabled(Boolean.getBoolean("typewiz.profiler"));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns timing on or off. Turning it on clears the window and restarts the GC counts.
+     *
+     * @param enabled true to start timing
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            Arrays.fill(sampleCounts, 0);
+            Arrays.fill(nextSample, 0);
+            framesSinceReport = 0;
+            gcCountAtStart = totalGcCount();
+            gcMillisAtStart = totalGcMillis();
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * Toggles timing
+     *
+     * @return true if timing is now on
+     */
+    public boolean toggle() {
+        setEnabled(!enabled);
+        return enabled;
+    }
+
+    /**
+     * Starts timing a stage
+     *
+     * @return The start timestamp, or 0 if the profiler is off
+     */
+    public long begin() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time since {@link #begin()} for a stage
+     *
+     * @param stage The stage that just finished
+     * @param startNanos The value returned by {@link #begin()}
+     */
+    public void end(Stage stage, long startNanos) {
+        if (startNanos == 0) return;
+        int index = stage.ordinal();
+        samples[index][nextSample[index]] = System.nanoTime() - startNanos;
+        nextSample[index] = (nextSample[index] + 1) % WINDOW;
+        if (sampleCounts[index] < WINDOW) {
+            sampleCounts[index]++;
+        }
+    }
+
+    /**
+     * Marks the end of a frame
+     *
+     * @return true if it is time to refresh whatever displays the figures
+     */
+    public boolean endFrame() {
+        if (!enabled) return false;
+        if (++framesSinceReport < REPORT_INTERVAL) return false;
+        framesSinceReport = 0;
+        return true;
+    }
+
+    public int getSampleCount(Stage stage) {
+        return sampleCounts[stage.ordinal()];
+    }
+
+    /**
+     * Gets the shortest time of a stage in the window
+     *
+     * @param stage The stage
+     * @return Time in microseconds
+     */
+    public double getMinMicros(Stage stage) {
+        int count = sampleCounts[stage.ordinal()];
+        if (count == 0) return 0;
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, samples[stage.ordinal()][i]);
+        }
+        return min / 1000.0;
+    }
+
+    /**
+     * Gets the average time of a stage in the window
+     *
+     * @param stage The stage
+     * @return Time in microseconds
+     */
+    public double getAverageMicros(Stage stage) {
+        int count = sampleCounts[stage.ordinal()];
+        if (count == 0) return 0;
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += samples[stage.ordinal()][i];
+        }
+        return total / 1000.0 / count;
+    }
+
+    /**
+     * Gets a percentile of the time of a stage in the window
+     *
+     * @param stage The stage
+     * @param percentile Percentile from 0 to 100
+     * @return Time in microseconds
+     */
+    public double getPercentileMicros(Stage stage, double percentile) {
+        int count = sampleCounts[stage.ordinal()];
+        if (count == 0) return 0;
+        System.arraycopy(samples[stage.ordinal()], 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))] / 1000.0;
+    }
+
+    /**
+     * Gets the number of garbage collections since the profiler was turned on
+     *
+     * @return Collection count across all collectors
+     */
+    public long getGcCount() {
+        return totalGcCount() - gcCountAtStart;
+    }
+
+    /**
+     * Gets the time spent in garbage collection since the profiler was turned on
+     *
+     * @return Collection time in milliseconds across all collectors
+     */
+    public long getGcMillis() {
+        return totalGcMillis() - gcMillisAtStart;
+    }
+
+    /**
+     * Formats the figures as a fixed-width table, one line per stage
+     *
+     * @return The report text
+     */
+    public String formatReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "%-9s %7s %7s %7s%n", "us", "min", "avg", "p99"));
+        for (Stage stage : Stage.values()) {
+            if (getSampleCount(stage) == 0) continue;
+            report.append(String.format(Locale.ROOT, "%-9s %7.1f %7.1f %7.1f%n", stage.getLabel(),
+                    getMinMicros(stage), getAverageMicros(stage), getPercentileMicros(stage, 99)));
+        }
+        report.append(String.format(Locale.ROOT, "GC %d pauses, %d ms", getGcCount(), getGcMillis()));
+        return report.toString();
+    }
+
+    private long totalGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    private long totalGcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return millis;
+    }
+}
@@ -19,7 +19,6 @@ import javafx.util.Duration;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.Node;
-import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.layout.StackPane;
 import javafx.scene.Parent;
@@ -32,7 +31,7 @@ import java.util.ArrayList;
 /**
  * Main Game class implementing MVC pattern:
  * - Model: GameStateManager, EntityManager, PlayerManager, WaveManager
- * - View: UIFactory, GamePromptFactory, GargoyleFactory
+ * - View: UIFactory, GamePromptFactory, EnemyFactory
  * - Controller: InputManager, Game (as coordinator)
  *
  * @implNote This class should not be launched directly.
@@ -46,7 +45,9 @@ public class Game extends GameApplication {
         MOVING_BLOCK,
         GARGOYLE,
         GRIMOUGE,
-        VYLEYE
+        VYLEYE,
+        DRACOFROG,
+        EVIL_SLIME
     }
 
     // Core game constants
@@ -62,6 +63,11 @@ public class Game extends GameApplication {
     private WaveManager waveManager;           // Model
     private PlayerManager playerManager;       // Model
     private InputManager inputManager;         // Controller
+    private CanvasWordRenderer wordRenderer;   // View (optional canvas word layer)
+    private Difficulty difficulty;
+    private final FrameProfiler profiler = new FrameProfiler();
+    private VBox profilerOverlay;              // View (shown while the profiler is on)
+    private GameHud hud;                       // View (health, score, wave and performance widgets)
 
     @Override
     protected void initSettings(GameSettings settings) {
@@ -112,12 +118,22 @@ public class Game extends GameApplication {
         UIFactory.createWizard();
 
         // Initialize animations for entities
-        GargoyleFactory.initializeAnimations();
-        GrimougeFactory.initializeAnimations();
-        VyleyeFactory.initializeAnimations();
+        EnemyFactory.initializeAnimations();
+
+        // Draw enemy words on a single canvas layer if requested
+        if (CanvasWordRenderer.isEnabled()) {
+            wordRenderer = new CanvasWordRenderer(FXGL.getAppWidth(), FXGL.getAppHeight(), "Arial", 40);
+            wordRenderer.attach();
+        }
 
         // Set up UI elements
-        UIFactory.createUI(this);
+        hud = UIFactory.createUI(playerManager, waveManager.getMaxWaves());
+        if (profiler.isEnabled()) {
+            showProfilerOverlay();
+        }
+
+        // Time keystrokes up to the pulse that draws them
+        InputLatencyTracker.getInstance().attachTo(FXGL.getPrimaryStage().getScene());
 
 //        // Add controls text guide
 //        Node controlsGuide = UIFactory.createControlsText();
@@ -130,65 +146,23 @@ public class Game extends GameApplication {
      */
     private void initializeManagers() {
         // Get selected difficulty
-        Difficulty difficulty = FXGL.getWorldProperties().getObject("difficulty");
+        difficulty = FXGL.getWorldProperties().getObject("difficulty");
         if (difficulty == null) difficulty = Difficulty.APPRENTICE;
+        InputLatencyTracker.getInstance().reset(difficulty.name());
 
         // Set parameters based on difficulty
-        int maxWaves;
-        int maxActiveEntities;
-        int[] waveSpawnsPerWave;
-        double[] waveSpeedMultipliers;
-        int[] minSpawnsPerGroupByWave;
-        int[] maxSpawnsPerGroupByWave;
-        double[] spawnDelayMultipliers;
-
-        switch (difficulty) {
-            case APPRENTICE -> {
-                maxWaves = 5;
-                maxActiveEntities = 10;
-                waveSpawnsPerWave = new int[]{6, 7, 8, 9, 10};
-                waveSpeedMultipliers = new double[]{0.5, 0.6, 0.7, 0.8, 0.9}; // super slow
-                minSpawnsPerGroupByWave = new int[]{1, 1, 1, 1, 1};
-                maxSpawnsPerGroupByWave = new int[]{1, 1, 2, 2, 3}; // max follow up entity is 1, increase per 3 waves
-                spawnDelayMultipliers = new double[]{1.2, 1.1, 1.0, 0.95, 0.9};
-            }
-            case WIZARD -> {
-                maxWaves = 8;
-                maxActiveEntities = 14;
-                waveSpawnsPerWave = new int[]{8, 10, 12, 14, 16, 18, 20, 22};
-                waveSpeedMultipliers = new double[]{0.8, 0.9, 1.0, 1.1, 1.2, 1.3, 1.4, 1.5};
-                minSpawnsPerGroupByWave = new int[]{1, 1, 2, 2, 2, 3, 3, 3};
-                maxSpawnsPerGroupByWave = new int[]{2, 2, 3, 3, 4, 4, 5, 5};
-                spawnDelayMultipliers = new double[]{1.0, 0.95, 0.9, 0.85, 0.8, 0.75, 0.7, 0.65};
-            }
-            case ARCHMAGE -> {
-                maxWaves = 12;
-                maxActiveEntities = 18;
-                waveSpawnsPerWave = new int[]{10, 12, 14, 16, 18, 20, 22, 24, 26, 28, 30, 32};
-                waveSpeedMultipliers = new double[]{1.0, 1.1, 1.2, 1.3, 1.4, 1.5, 1.6, 1.7, 1.8, 1.9, 2.0, 2.2};
-                minSpawnsPerGroupByWave = new int[]{1, 2, 2, 2, 3, 3, 3, 4, 4, 4, 5, 5};
-                maxSpawnsPerGroupByWave = new int[]{2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8};
-                spawnDelayMultipliers = new double[]{0.9, 0.85, 0.8, 0.75, 0.7, 0.65, 0.6, 0.55, 0.5, 0.45, 0.4, 0.35};
-            }
-            default -> throw new IllegalStateException("Unknown difficulty: " + difficulty);
-        }
+        DifficultySettings settings = DifficultySettings.forDifficulty(difficulty);
 
         // Create model components
         stateManager = new GameStateManager();
-        entityManager = new EntityManager(FXGL.getAppWidth(), FXGL.getAppHeight(), maxActiveEntities);
+        entityManager = new EntityManager(FXGL.getAppWidth(), FXGL.getAppHeight(), settings.getMaxActiveEntities());
         playerManager = new PlayerManager();
         inputManager = new InputManager(entityManager, playerManager, stateManager);
-        waveManager = new WaveManager(
+        waveManager = settings.createWaveManager(
             entityManager,
             stateManager,
             this::getRandomWordForWave,
-            FXGL.getAppHeight(),
-            maxWaves,
-            waveSpawnsPerWave,
-            waveSpeedMultipliers,
-            minSpawnsPerGroupByWave,
-            maxSpawnsPerGroupByWave,
-            spawnDelayMultipliers
+            FXGL.getAppHeight()
         );
         FXGL.getWorldProperties().setValue("playerManager", playerManager);
         FXGL.getWorldProperties().setValue("inputManager", inputManager);
@@ -289,6 +263,9 @@ public class Game extends GameApplication {
             FXGL.removeUINode(node);
         }
 
+        // Save this game's keystroke latencies if a dump directory was given
+        InputLatencyTracker.getInstance().dumpIfRequested();
+
         // Pass character count to statistics factory
         StatsUIFactory.setTotalCharactersTyped(playerManager.getTotalCharactersTyped());
 
@@ -318,6 +295,26 @@ public class Game extends GameApplication {
 
     @Override
     protected void onUpdate(double tpf) {
+        long frameStart = profiler.begin();
+        updateGameplay(tpf);
+
+        // Push this frame's HUD changes in one batch
+        long stageStart = profiler.begin();
+        hud.setFrameTime(tpf);
+        hud.flush();
+        profiler.end(FrameProfiler.Stage.UI, stageStart);
+
+        profiler.end(FrameProfiler.Stage.FRAME, frameStart);
+        if (profiler.endFrame()) {
+            UIFactory.updateProfilerOverlay(profilerOverlay, profiler.formatReport());
+        }
+    }
+
+    /**
+     * Runs the game logic of one frame while the game is being played
+     * @param tpf Time per frame
+     */
+    private void updateGameplay(double tpf) {
         // Skip update if game is not active
         if (!stateManager.isInState(GameStateManager.GameState.PLAYING)) {
             return;
@@ -330,7 +327,9 @@ public class Game extends GameApplication {
         }
 
         // Update wave spawning
+        long stageStart = profiler.begin();
         boolean waveCompleted = waveManager.update();
+        profiler.end(FrameProfiler.Stage.WAVES, stageStart);
         if (waveCompleted) {
             if (waveManager.areAllWavesCompleted()) {
                 stateManager.victory(null);
@@ -341,13 +340,39 @@ public class Game extends GameApplication {
         }
 
         // Update entity positions
+        stageStart = profiler.begin();
         entityManager.updateEntities(tpf, waveManager.getCurrentWaveSpeedMultiplier());
+        profiler.end(FrameProfiler.Stage.ENTITIES, stageStart);
 
         // Process entity removals
+        stageStart = profiler.begin();
         entityManager.processRemovals();
+        profiler.end(FrameProfiler.Stage.REMOVALS, stageStart);
+
+        // Redraw enemy words when the canvas word layer is in use
+        if (wordRenderer != null) {
+            stageStart = profiler.begin();
+            wordRenderer.render(entityManager.getActiveEnemiesView(),
+                    inputManager.getSelectedWordBlock(), inputManager.getCurrentInputLength());
+            profiler.end(FrameProfiler.Stage.WORDS, stageStart);
+        }
+    }
 
-        // Update performance display
-        UIFactory.updatePerformanceDisplay(tpf);
+    /**
+     * Turns the frame profiler and its overlay on or off
+     */
+    private void toggleProfiler() {
+        if (profiler.toggle()) {
+            showProfilerOverlay();
+        } else if (profilerOverlay != null) {
+            FXGL.removeUINode(profilerOverlay);
+            profilerOverlay = null;
+        }
+    }
+
+    private void showProfilerOverlay() {
+        profilerOverlay = UIFactory.createProfilerOverlay();
+        FXGL.addUINode(profilerOverlay);
     }
 
     /**
@@ -395,9 +420,13 @@ public class Game extends GameApplication {
         System.out.println("Resetting all managers...");
         // Reset all managers
         entityManager.clear();
+        if (wordRenderer != null) {
+            wordRenderer.clear();
+        }
         playerManager.reset();
         playerManager.resetHealth();
         inputManager.reset();
+        InputLatencyTracker.getInstance().reset(difficulty.name());
         waveManager.reset();
 
         // Reset UI to wave 1
@@ -446,26 +475,8 @@ public class Game extends GameApplication {
      * @param wave Current wave number
      */
     private void updateWaveUI(int wave) {
-        // Find the top bar HBox in the UI
-        for (Node node : FXGL.getGameScene().getUINodes()) {
-            if (node instanceof HBox) {
-                HBox topBar = (HBox) node;
-
-                // Check if this is the top bar by looking for wave display
-                for (Node child : topBar.getChildren()) {
-                    if (child instanceof VBox) {
-                        VBox box = (VBox) child;
-                        if (!box.getChildren().isEmpty() && box.getChildren().get(0) instanceof Text) {
-                            Text label = (Text) box.getChildren().get(0);
-                            if (label.getText().equals("WAVE")) {
-                                // Found the wave display, update it
-                                UIFactory.updateWave(topBar, wave);
-                                return;
-                            }
-                        }
-                    }
-                }
-            }
+        if (hud != null) {
+            hud.setWave(wave);
         }
     }
 
@@ -490,6 +501,10 @@ public class Game extends GameApplication {
                     }
                     event.consume(); // Prevent event from being processed further
                 }
+            } else if (event.getCode() == javafx.scene.input.KeyCode.F3) {
+                // Show or hide the frame profiler
+                toggleProfiler();
+                event.consume();
             } else if (event.getCode() == javafx.scene.input.KeyCode.ESCAPE) {
                 // Handle ESC key for pause menu
                 System.out.println("ESC key pressed - Current state: " + stateManager.getCurrentState());
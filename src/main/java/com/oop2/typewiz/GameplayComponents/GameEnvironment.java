@@ -0,0 +1,125 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.time.LocalTimer;
+import javafx.scene.image.Image;
+
+/**
+ * Engine services used by the gameplay managers: screen size, timers, textures,
+ * the game world and the shared managers. The default environment forwards to FXGL;
+ * {@link HeadlessEnvironment} replaces it so the managers can run without a stage.
+ */
+public abstract class GameEnvironment {
+    private static GameEnvironment current = new FXGLEnvironment();
+
+    /**
+     * Gets the active environment
+     *
+     * @return The active environment
+     */
+    public static GameEnvironment get() {
+        return current;
+    }
+
+    /**
+     * Replaces the active environment
+     *
+     * @param environment The environment to use from now on
+     */
+    public static void set(GameEnvironment environment) {
+        current = environment;
+    }
+
+    public abstract double getAppWidth();
+
+    public abstract double getAppHeight();
+
+    /**
+     * Gets the wall-clock time used for typing statistics
+     *
+     * @return Current time in milliseconds
+     */
+    public abstract long currentTimeMillis();
+
+    /**
+     * Creates a timer driven by the game clock
+     *
+     * @return A new timer
+     */
+    public abstract LocalTimer newLocalTimer();
+
+    /**
+     * Loads an image from assets/textures
+     *
+     * @param path Path relative to assets/textures
+     * @return The loaded image
+     */
+    public abstract Image loadImage(String path);
+
+    /**
+     * Adds an entity to the game world
+     *
+     * @param entity The entity to attach
+     */
+    public abstract void attachEntity(Entity entity);
+
+    /**
+     * Gets the player manager of the running game
+     *
+     * @return The player manager, or null if no game is running
+     */
+    public abstract PlayerManager getPlayerManager();
+
+    /**
+     * Gets the input manager of the running game
+     *
+     * @return The input manager, or null if no game is running
+     */
+    public abstract InputManager getInputManager();
+
+    /**
+     * Environment backed by the running FXGL application
+     */
+    private static class FXGLEnvironment extends GameEnvironment {
+        @Override
+        public double getAppWidth() {
+            return FXGL.getAppWidth();
+        }
+
+        @Override
+        public double getAppHeight() {
+            return FXGL.getAppHeight();
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public LocalTimer newLocalTimer() {
+            return FXGL.newLocalTimer();
+        }
+
+        @Override
+        public Image loadImage(String path) {
+            return FXGL.image(path);
+        }
+
+        @Override
+        public void attachEntity(Entity entity) {
+            FXGL.getGameWorld().addEntity(entity);
+        }
+
+        @Override
+        public PlayerManager getPlayerManager() {
+            return FXGL.getWorldProperties().getObject("playerManager");
+        }
+
+        @Override
+        public InputManager getInputManager() {
+            return FXGL.getWorldProperties().getObject("inputManager");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+/**
+ * Holds the in-game HUD widgets created by {@link UIFactory#createUI} and applies
+ * changes to them in throttled batches.
+ * Game logic only records new values here. {@link #flush()} runs every frame but pushes
+ * to the widgets at most {@code typewiz.hudUpdatesPerSecond} times per second (default 10),
+ * and only for values that differ from what is already shown, so a burst of score or
+ * health changes costs one text update and an unchanged HUD costs no layout at all.
+ */
+public class GameHud {
+    private static final int UPDATES_PER_SECOND = Math.max(1, Integer.getInteger("typewiz.hudUpdatesPerSecond", 10));
+    private static final double UPDATE_INTERVAL = 1.0 / UPDATES_PER_SECOND;
+
+    private final VBox healthDisplay;
+    private final HBox topBar;
+    private final VBox performanceDisplay;
+
+    // Latest values recorded by the game
+    private int health;
+    private int score;
+    private int wave = 1;
+
+    // Values currently shown; MIN_VALUE forces the first push
+    private int shownHealth = Integer.MIN_VALUE;
+    private int shownScore = Integer.MIN_VALUE;
+    private int shownWave = Integer.MIN_VALUE;
+    private long shownFpsTenths = Long.MIN_VALUE;
+
+    // Frames and time since the last push, for the average FPS
+    private double secondsSincePush;
+    private int framesSincePush;
+
+    GameHud(VBox healthDisplay, HBox topBar, VBox performanceDisplay) {
+        this.healthDisplay = healthDisplay;
+        this.topBar = topBar;
+        this.performanceDisplay = performanceDisplay;
+    }
+
+    public void setHealth(int health) {
+        this.health = health;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    public void setWave(int wave) {
+        this.wave = wave;
+    }
+
+    /**
+     * Records the length of the frame that just ran, for the FPS shown
+     *
+     * @param tpf Time per frame in seconds
+     */
+    public void setFrameTime(double tpf) {
+        secondsSincePush += tpf;
+        framesSincePush++;
+    }
+
+    /**
+     * Pushes changed values to the widgets if the update interval has passed.
+     * Called once per frame.
+     */
+    public void flush() {
+        if (secondsSincePush < UPDATE_INTERVAL) return;
+
+        if (health != shownHealth) {
+            UIFactory.updateHealthBar(healthDisplay, health);
+            shownHealth = health;
+        }
+        if (score != shownScore) {
+            UIFactory.updateScore(topBar, score);
+            shownScore = score;
+        }
+        if (wave != shownWave) {
+            UIFactory.updateWave(topBar, wave);
+            shownWave = wave;
+        }
+
+        // Average over the interval rather than the last frame, so the display does not flicker
+        double fps = framesSincePush / secondsSincePush;
+        long fpsTenths = Math.round(fps * 10);
+        if (fpsTenths != shownFpsTenths) {
+            UIFactory.updatePerformanceDisplay(performanceDisplay, fpsTenths / 10.0);
+            shownFpsTenths = fpsTenths;
+        }
+        UIFactory.updateLatencyDisplay(performanceDisplay);
+
+        secondsSincePush = 0;
+        framesSincePush = 0;
+    }
+}
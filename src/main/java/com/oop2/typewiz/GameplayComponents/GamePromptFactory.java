@@ -24,7 +24,6 @@ import javafx.scene.text.Text;
 import javafx.util.Duration;
 import javafx.scene.Parent;
 
-import java.util.List;
 
 /**
  * Factory class for creating game prompts, announcements, and screens.
@@ -98,7 +97,7 @@ public class GamePromptFactory {
         textGlow.setSpread(0.4);
         waveText.setEffect(textGlow);
 
-        Text ofText = new Text("OF " + maxWaves);
+        Text ofText = new Text(maxWaves == WaveProgression.UNLIMITED ? "ENDLESS" : "OF " + maxWaves);
         ofText.setFont(Font.font(MAGIC_FONT, FontWeight.BOLD, 36));
         ofText.setFill(TEXT_MYSTIC);
 
@@ -182,7 +181,7 @@ public class GamePromptFactory {
      */
     public static Node createGameOverScreen(String message, int score, double wpm,
                                             double rawWpm, double accuracy, double consistency,
-                                            List<Double> wpmData, List<Double> accuracyData) {
+                                            TimeSeriesBuffer wpmData, TimeSeriesBuffer accuracyData) {
         // Play appropriate sound effect
         if (message.contains("Victory")) {
             SoundManager.getInstance().playVictory();
@@ -240,12 +239,8 @@ public class GamePromptFactory {
         // Create mystical stats panel
         VBox statsPanel = StatsUIFactory.createStatsPanel(wpm, rawWpm, accuracy, consistency);
 
-        // Update performance data
-        StatsUIFactory.setWpmData(wpmData);
-        StatsUIFactory.setAccuracyData(accuracyData);
-
         // Create magical performance graph
-        javafx.scene.canvas.Canvas graphCanvas = StatsUIFactory.createTypingGraph();
+        javafx.scene.canvas.Canvas graphCanvas = StatsUIFactory.createTypingGraph(wpmData, accuracyData);
 
         // Mystical restart button
         StackPane restartButton = UIFactory.createStylishButton("Cast Again", 220, 65, MAGIC_PURPLE);
@@ -1,5 +1,6 @@
 package com.oop2.typewiz.GameplayComponents;
 
+import com.oop2.typewiz.util.GameLogger;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -10,6 +11,7 @@ import java.util.function.Consumer;
  * from the main Game class.
  */
 public class GameStateManager {
+    private static final GameLogger LOG = GameLogger.getLogger(GameStateManager.class);
 
     /**
      * Enum representing the different possible game states
@@ -78,7 +80,7 @@ public class GameStateManager {
             stateEntryActions.get(newState).accept(context);
         }
 
-        System.out.println("Game state changed from " + oldState + " to " + newState);
+        LOG.info(() -> "Game state changed from " + oldState + " to " + newState);
     }
 
     /**
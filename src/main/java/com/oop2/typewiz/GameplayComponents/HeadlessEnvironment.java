@@ -0,0 +1,132 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+import com.almasb.fxgl.time.LocalTimer;
+import javafx.scene.image.Image;
+import javafx.util.Duration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Game environment for running the gameplay managers without a stage.
+ * Time only moves when {@link #advance} is called, so a simulation can run
+ * many game seconds per real second and still see the same timers fire.
+ */
+public class HeadlessEnvironment extends GameEnvironment {
+    private final double width;
+    private final double height;
+    private final GameWorld world;
+    private final Map<String, Image> images;
+
+    private double time; // Simulated seconds since start
+    private PlayerManager playerManager;
+    private InputManager inputManager;
+
+    /**
+     * Creates a headless environment with the given screen size
+     *
+     * @param width Simulated screen width
+     * @param height Simulated screen height
+     */
+    public HeadlessEnvironment(double width, double height) {
+        this.width = width;
+        this.height = height;
+        this.world = new GameWorld();
+        this.images = new HashMap<>();
+    }
+
+    /**
+     * Advances the fake clock and updates the game world by one frame
+     *
+     * @param tpf Simulated seconds in this frame
+     */
+    public void advance(double tpf) {
+        time += tpf;
+        world.onUpdate(tpf);
+    }
+
+    /**
+     * Gets the simulated time
+     *
+     * @return Seconds since the environment was created
+     */
+    public double getTime() {
+        return time;
+    }
+
+    /**
+     * Registers the managers that other components look up through the environment
+     *
+     * @param playerManager The player manager
+     * @param inputManager The input manager
+     */
+    public void setManagers(PlayerManager playerManager, InputManager inputManager) {
+        this.playerManager = playerManager;
+        this.inputManager = inputManager;
+    }
+
+    @Override
+    public double getAppWidth() {
+        return width;
+    }
+
+    @Override
+    public double getAppHeight() {
+        return height;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return (long) (time * 1000);
+    }
+
+    @Override
+    public LocalTimer newLocalTimer() {
+        return new LocalTimer() {
+            private double captured = time;
+
+            @Override
+            public void capture() {
+                captured = time;
+            }
+
+            @Override
+            public boolean elapsed(Duration duration) {
+                return time - captured >= duration.toSeconds();
+            }
+        };
+    }
+
+    @Override
+    public Image loadImage(String path) {
+        return images.computeIfAbsent(path, key -> {
+            try (InputStream in = HeadlessEnvironment.class.getResourceAsStream("/assets/textures/" + key)) {
+                if (in == null) {
+                    throw new IllegalArgumentException("Texture not found: " + key);
+                }
+                return new Image(in);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read texture " + key, e);
+            }
+        });
+    }
+
+    @Override
+    public void attachEntity(Entity entity) {
+        world.addEntity(entity);
+    }
+
+    @Override
+    public PlayerManager getPlayerManager() {
+        return playerManager;
+    }
+
+    @Override
+    public InputManager getInputManager() {
+        return inputManager;
+    }
+}
@@ -0,0 +1,406 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.oop2.typewiz.Difficulty;
+import com.oop2.typewiz.util.SoundManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Runs full games without rendering, against a fake clock and a {@link ScriptedTypist},
+ * and reports frame-time percentiles, keystroke latency and allocation rates per difficulty.
+ * The frame loop mirrors {@code Game.onUpdate}, so the numbers cover the same
+ * wave, entity, input and player work the real game does each frame. Frame-time
+ * percentiles cover only frames that ran the PLAYING path; wave announcements and the
+ * frame that ends the game are counted separately, since they skip the gameplay work.
+ *
+ * Usage: HeadlessSimulation [--difficulty=ALL|APPRENTICE|WIZARD|ARCHMAGE|ENDLESS] [--entity-scale=1]
+ * [--frames=216000] [--fps=60] [--wpm=60] [--accuracy=0.95] [--seed=42] [--prefix-targeting] [--invincible]
+ * [--profile] [--json=path]
+ *
+ * {@code --difficulty=ENDLESS --invincible} is the stress scenario: the player cannot lose,
+ * so waves keep growing until the screen holds the full active enemy limit.
+ */
+public class HeadlessSimulation {
+    private static final double SCREEN_WIDTH = 1280;
+    private static final double SCREEN_HEIGHT = 720;
+    private static final double ANNOUNCEMENT_SECONDS = 2.0; // Same delay as the wave announcement in Game
+    private static final int WARMUP_FRAMES = 20_000;
+
+    private final DifficultySettings settings;
+    private final double tpf;
+    private final double wordsPerMinute;
+    private final double accuracy;
+    private final long seed;
+    private boolean prefixTargeting;
+    private boolean invincible;
+    private final FrameProfiler profiler = new FrameProfiler();
+
+    private HeadlessEnvironment environment;
+    private GameStateManager stateManager;
+    private EntityManager entityManager;
+    private PlayerManager playerManager;
+    private InputManager inputManager;
+    private WaveManager waveManager;
+    private ScriptedTypist typist;
+    private double announcementEndsAt = -1;
+
+    /**
+     * Creates a simulation of one game
+     *
+     * @param settings Wave and spawn parameters to play
+     * @param fps Simulated frames per second
+     * @param wordsPerMinute Typing speed of the scripted player
+     * @param accuracy Chance from 0 to 1 that a keystroke is correct
+     * @param seed Seed for the scripted player's mistakes
+     */
+    public HeadlessSimulation(DifficultySettings settings, int fps, double wordsPerMinute, double accuracy, long seed) {
+        this.settings = settings;
+        this.tpf = 1.0 / fps;
+        this.wordsPerMinute = wordsPerMinute;
+        this.accuracy = accuracy;
+        this.seed = seed;
+    }
+
+    /**
+     * Makes the input manager match typed input against all enemy words
+     *
+     * @param prefixTargeting true to use prefix targeting
+     * @return This simulation
+     */
+    public HeadlessSimulation withPrefixTargeting(boolean prefixTargeting) {
+        this.prefixTargeting = prefixTargeting;
+        return this;
+    }
+
+    /**
+     * Keeps the player at full health, so endless waves run until the frame limit
+     *
+     * @param invincible true to ignore damage
+     * @return This simulation
+     */
+    public HeadlessSimulation withInvincibility(boolean invincible) {
+        this.invincible = invincible;
+        return this;
+    }
+
+    /**
+     * Times each stage of the frame update with a {@link FrameProfiler}
+     *
+     * @param profile true to profile the stages
+     * @return This simulation
+     */
+    public HeadlessSimulation withProfiling(boolean profile) {
+        profiler.setEnabled(profile);
+        return this;
+    }
+
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Plays one game until it is won, lost or the frame limit is reached
+     *
+     * @param maxFrames Maximum number of frames to simulate
+     * @return Timing and allocation figures for the run
+     */
+    public Result run(int maxFrames) {
+        setUp();
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long[] frameNanos = new long[maxFrames];
+        int peakEnemies = 0;
+        int frames = 0;
+        int playingFrames = 0;
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        while (frames < maxFrames && !isFinished()) {
+            long frameStart = System.nanoTime();
+            boolean playing = update();
+            long frameTime = System.nanoTime() - frameStart;
+            frames++;
+            if (playing) {
+                frameNanos[playingFrames++] = frameTime;
+            }
+            // The end of a simulated frame stands in for the JavaFX pulse
+            InputLatencyTracker.getInstance().onPulse();
+            peakEnemies = Math.max(peakEnemies, entityManager.getActiveEnemyCount());
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        InputLatencyTracker latency = InputLatencyTracker.getInstance();
+        return new Result(Arrays.copyOf(frameNanos, playingFrames), frames, elapsedNanos, allocated, environment.getTime(),
+                stateManager.getCurrentState(), waveManager.getCurrentWave(), peakEnemies,
+                typist.getKeystrokes(), playerManager.getScore(),
+                latency.getProcessingHistogram(), latency.getPulseHistogram());
+    }
+
+    private void setUp() {
+        environment = new HeadlessEnvironment(SCREEN_WIDTH, SCREEN_HEIGHT);
+        GameEnvironment.set(environment);
+        InputLatencyTracker.getInstance().reset("simulation");
+
+        stateManager = new GameStateManager();
+        entityManager = new EntityManager(SCREEN_WIDTH, SCREEN_HEIGHT, settings.getMaxActiveEntities());
+        playerManager = new PlayerManager();
+        inputManager = new InputManager(entityManager, playerManager, stateManager);
+        inputManager.setPrefixTargeting(prefixTargeting);
+        waveManager = settings.createWaveManager(entityManager, stateManager,
+                () -> WordFactory.getInstance().getWordForWave(waveManager.getCurrentWave()), SCREEN_HEIGHT);
+        environment.setManagers(playerManager, inputManager);
+        typist = new ScriptedTypist(inputManager, wordsPerMinute, accuracy, seed);
+
+        // Same wave flow as Game.setupStateHandlers, with the announcement timed on the fake clock
+        stateManager.setStateEntryAction(GameStateManager.GameState.WAVE_ANNOUNCEMENT, wave -> {
+            waveManager.startWave();
+            inputManager.reset();
+            announcementEndsAt = environment.getTime() + ANNOUNCEMENT_SECONDS;
+        });
+        stateManager.announceWave(1);
+    }
+
+    private boolean isFinished() {
+        return stateManager.isInState(GameStateManager.GameState.GAME_OVER)
+                || stateManager.isInState(GameStateManager.GameState.VICTORY);
+    }
+
+    /**
+     * Runs one frame, following Game.onUpdate
+     *
+     * @return true if the frame ran the gameplay update, false during announcements
+     *         or when the game ended this frame
+     */
+    private boolean update() {
+        environment.advance(tpf);
+
+        if (announcementEndsAt >= 0 && environment.getTime() >= announcementEndsAt) {
+            announcementEndsAt = -1;
+            stateManager.startPlaying(null);
+            waveManager.startSpawning();
+        }
+
+        if (!stateManager.isInState(GameStateManager.GameState.PLAYING)) {
+            return false;
+        }
+
+        typist.update(tpf);
+
+        if (invincible) {
+            playerManager.resetHealth();
+        }
+        if (playerManager.getHealth() <= 0) {
+            stateManager.gameOver(null);
+            return false;
+        }
+
+        long frameStart = profiler.begin();
+        long stageStart = profiler.begin();
+        boolean waveCompleted = waveManager.update();
+        profiler.end(FrameProfiler.Stage.WAVES, stageStart);
+        if (waveCompleted) {
+            if (waveManager.areAllWavesCompleted()) {
+                stateManager.victory(null);
+            } else {
+                stateManager.completeWave(null);
+                stateManager.announceWave(waveManager.getCurrentWave());
+            }
+        }
+
+        stageStart = profiler.begin();
+        entityManager.updateEntities(tpf, waveManager.getCurrentWaveSpeedMultiplier());
+        profiler.end(FrameProfiler.Stage.ENTITIES, stageStart);
+
+        stageStart = profiler.begin();
+        entityManager.processRemovals();
+        profiler.end(FrameProfiler.Stage.REMOVALS, stageStart);
+        profiler.end(FrameProfiler.Stage.FRAME, frameStart);
+        return true;
+    }
+
+    /**
+     * Timing and allocation figures of one simulated game
+     */
+    public static class Result {
+        private final long[] sortedFrameNanos; // Frames that ran the gameplay update
+        private final int frames;
+        private final long elapsedNanos;
+        private final long allocatedBytes;
+        private final double simulatedSeconds;
+        private final GameStateManager.GameState finalState;
+        private final int wave;
+        private final int peakEnemies;
+        private final int keystrokes;
+        private final int score;
+        private final LatencyHistogram keyProcessing = new LatencyHistogram();
+        private final LatencyHistogram keyToPulse = new LatencyHistogram();
+
+        Result(long[] frameNanos, int frames, long elapsedNanos, long allocatedBytes, double simulatedSeconds,
+               GameStateManager.GameState finalState, int wave, int peakEnemies, int keystrokes, int score,
+               LatencyHistogram keyProcessing, LatencyHistogram keyToPulse) {
+            this.sortedFrameNanos = frameNanos;
+            Arrays.sort(this.sortedFrameNanos);
+            this.frames = frames;
+            this.elapsedNanos = elapsedNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.simulatedSeconds = simulatedSeconds;
+            this.finalState = finalState;
+            this.wave = wave;
+            this.peakEnemies = peakEnemies;
+            this.keystrokes = keystrokes;
+            this.score = score;
+            // Copy, since the tracker's histograms are reset for the next run
+            this.keyProcessing.add(keyProcessing);
+            this.keyToPulse.add(keyToPulse);
+        }
+
+        public int getFrames() {
+            return frames;
+        }
+
+        /**
+         * Gets the number of frames that ran the gameplay update
+         *
+         * @return Frames spent in the PLAYING state
+         */
+        public int getPlayingFrames() {
+            return sortedFrameNanos.length;
+        }
+
+        /**
+         * Gets a frame-time percentile over the frames that ran the gameplay update
+         *
+         * @param percentile Percentile from 0 to 100
+         * @return Frame time in microseconds
+         */
+        public double getFrameTimeMicros(double percentile) {
+            if (sortedFrameNanos.length == 0) return 0;
+            int index = (int) Math.ceil(percentile / 100.0 * sortedFrameNanos.length) - 1;
+            return sortedFrameNanos[Math.max(0, Math.min(index, sortedFrameNanos.length - 1))] / 1000.0;
+        }
+
+        public double getFramesPerSecond() {
+            return elapsedNanos == 0 ? 0 : getFrames() / (elapsedNanos / 1e9);
+        }
+
+        public double getBytesPerFrame() {
+            return getFrames() == 0 ? 0 : (double) allocatedBytes / getFrames();
+        }
+
+        /**
+         * Gets the allocation rate per second of game time, i.e. what the real game
+         * would allocate per second at the simulated frame rate
+         *
+         * @return Megabytes allocated per simulated second
+         */
+        public double getMegabytesPerGameSecond() {
+            return simulatedSeconds == 0 ? 0 : allocatedBytes / simulatedSeconds / (1024.0 * 1024.0);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        String difficultyArg = "ALL";
+        int entityScale = 1;
+        int frames = 216_000; // One hour of game time at 60 FPS
+        int fps = 60;
+        double wpm = 60;
+        double accuracy = 0.95;
+        long seed = 42;
+        boolean prefixTargeting = false;
+        boolean invincible = false;
+        boolean profile = false;
+        Path json = null;
+
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            String value = parts.length > 1 ? parts[1] : "";
+            switch (parts[0]) {
+                case "--difficulty" -> difficultyArg = value.toUpperCase(Locale.ROOT);
+                case "--entity-scale" -> entityScale = Integer.parseInt(value);
+                case "--frames" -> frames = Integer.parseInt(value);
+                case "--fps" -> fps = Integer.parseInt(value);
+                case "--wpm" -> wpm = Double.parseDouble(value);
+                case "--accuracy" -> accuracy = Double.parseDouble(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--prefix-targeting" -> prefixTargeting = true;
+                case "--invincible" -> invincible = true;
+                case "--profile" -> profile = true;
+                case "--json" -> json = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        List<Difficulty> difficulties = difficultyArg.equals("ALL")
+                ? List.of(Difficulty.values())
+                : List.of(Difficulty.valueOf(difficultyArg));
+
+        // The managers log every spawn and keystroke; keep that out of the report and the timings
+        PrintStream report = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        SoundManager.getInstance().setMuted(true);
+
+        // Let the JIT settle before measuring
+        new HeadlessSimulation(DifficultySettings.forDifficulty(difficulties.get(0)), fps, wpm, accuracy, seed)
+                .withPrefixTargeting(prefixTargeting)
+                .run(WARMUP_FRAMES);
+
+        List<String> entries = new ArrayList<>();
+        report.printf(Locale.ROOT, "%-10s %8s %8s %9s %-9s %4s %5s %8s %8s %8s %8s %10s %10s %10s%n",
+                "difficulty", "frames", "playing", "fps", "outcome", "wave", "peak",
+                "p50 us", "p90 us", "p99 us", "max us", "B/frame", "MB/game s", "key p99 us");
+        for (Difficulty difficulty : difficulties) {
+            DifficultySettings settings = DifficultySettings.forDifficulty(difficulty).withEntityScale(entityScale);
+            HeadlessSimulation simulation = new HeadlessSimulation(settings, fps, wpm, accuracy, seed)
+                    .withPrefixTargeting(prefixTargeting)
+                    .withInvincibility(invincible)
+                    .withProfiling(profile);
+            Result result = simulation.run(frames);
+            report.printf(Locale.ROOT, "%-10s %8d %8d %9.0f %-9s %4d %5d %8.1f %8.1f %8.1f %8.1f %10.0f %10.2f %10d%n",
+                    difficulty, result.getFrames(), result.getPlayingFrames(), result.getFramesPerSecond(),
+                    result.finalState,
+                    result.wave, result.peakEnemies,
+                    result.getFrameTimeMicros(50), result.getFrameTimeMicros(90),
+                    result.getFrameTimeMicros(99), result.getFrameTimeMicros(100),
+                    result.getBytesPerFrame(), result.getMegabytesPerGameSecond(),
+                    result.keyToPulse.getValueAtPercentile(99));
+            if (profile) {
+                // The profiler keeps only the last few seconds, so this covers the end of the game
+                report.println(simulation.getProfiler().formatReport().indent(4).stripTrailing());
+            }
+            entries.add(String.format(Locale.ROOT,
+                    "  {\"difficulty\": \"%s\", \"entityScale\": %d, \"maxActiveEntities\": %d, \"frames\": %d, \"playingFrames\": %d, "
+                            + "\"simulatedSeconds\": %.2f, \"framesPerSecond\": %.1f, \"outcome\": \"%s\", "
+                            + "\"wave\": %d, \"peakEnemies\": %d, \"keystrokes\": %d, \"score\": %d, "
+                            + "\"frameTimeMicros\": {\"p50\": %.2f, \"p90\": %.2f, \"p99\": %.2f, \"p999\": %.2f, \"max\": %.2f}, "
+                            + "\"keyProcessingMicros\": {\"p50\": %d, \"p99\": %d, \"max\": %d}, "
+                            + "\"keyToPulseMicros\": {\"p50\": %d, \"p99\": %d, \"max\": %d}, "
+                            + "\"allocatedBytes\": %d, \"bytesPerFrame\": %.1f, \"megabytesPerGameSecond\": %.3f}",
+                    difficulty, entityScale, settings.getMaxActiveEntities(), result.getFrames(), result.getPlayingFrames(),
+                    result.simulatedSeconds, result.getFramesPerSecond(), result.finalState,
+                    result.wave, result.peakEnemies, result.keystrokes, result.score,
+                    result.getFrameTimeMicros(50), result.getFrameTimeMicros(90), result.getFrameTimeMicros(99),
+                    result.getFrameTimeMicros(99.9), result.getFrameTimeMicros(100),
+                    result.keyProcessing.getValueAtPercentile(50), result.keyProcessing.getValueAtPercentile(99),
+                    result.keyProcessing.getMaxValue(),
+                    result.keyToPulse.getValueAtPercentile(50), result.keyToPulse.getValueAtPercentile(99),
+                    result.keyToPulse.getMaxValue(),
+                    result.allocatedBytes, result.getBytesPerFrame(), result.getMegabytesPerGameSecond()));
+        }
+
+        if (json != null) {
+            Files.writeString(json, "[\n" + String.join(",\n", entries) + "\n]\n");
+            report.println("Wrote " + json);
+        }
+    }
+}
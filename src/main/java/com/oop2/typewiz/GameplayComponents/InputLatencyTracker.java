@@ -0,0 +1,162 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.oop2.typewiz.util.GameLogger;
+import javafx.scene.Scene;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Measures how long a keystroke takes to reach the screen.
+ * Each typed key is timestamped three times: when {@code InputManager} receives the
+ * {@code KeyEvent}, after the character is processed and the letter colors are updated,
+ * and at the next JavaFX pulse, which is the earliest point the new colors can be drawn.
+ * The two intervals are kept in separate {@link LatencyHistogram}s.
+ *
+ * If the system property {@code typewiz.latencyDump} names a directory, both histograms
+ * are written there at the end of every game.
+ * Implements the Singleton pattern like {@code SoundManager}.
+ */
+public class InputLatencyTracker {
+    private static final GameLogger LOG = GameLogger.getLogger(InputLatencyTracker.class);
+    private static final String DUMP_DIRECTORY = System.getProperty("typewiz.latencyDump");
+    private static final int MAX_PENDING = 64; // Keystrokes waiting for a pulse; more than this in one frame are not timed
+
+    private static InputLatencyTracker instance;
+
+    private final LatencyHistogram processing = new LatencyHistogram(); // Key event to colors updated
+    private final LatencyHistogram toPulse = new LatencyHistogram();    // Key event to next pulse
+    private final long[] pending = new long[MAX_PENDING];
+    private int pendingCount;
+    private String label = "";
+    private Scene scene;
+    private final Runnable pulseListener = this::onPulse;
+
+    private InputLatencyTracker() {
+        // Private constructor for singleton
+    }
+
+    public static InputLatencyTracker getInstance() {
+        if (instance == null) {
+            instance = new InputLatencyTracker();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts listening for pulses on a scene, replacing any scene attached before
+     *
+     * @param newScene The scene the game is drawn in
+     */
+    public void attachTo(Scene newScene) {
+        if (scene == newScene) return;
+        if (scene != null) {
+            scene.removePostLayoutPulseListener(pulseListener);
+        }
+        scene = newScene;
+        if (scene != null) {
+            scene.addPostLayoutPulseListener(pulseListener);
+        }
+    }
+
+    /**
+     * Clears all measurements and names the run they belong to, e.g. the difficulty
+     *
+     * @param label Name written into dumps
+     */
+    public void reset(String label) {
+        this.label = label;
+        processing.reset();
+        toPulse.reset();
+        pendingCount = 0;
+    }
+
+    /**
+     * Timestamps a key event as it arrives
+     *
+     * @return The timestamp to pass to {@link #keyProcessed(long)}
+     */
+    public long keyReceived() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the processing time of a key event and queues it for the next pulse
+     *
+     * @param receivedNanos Timestamp from {@link #keyReceived()}
+     */
+    public void keyProcessed(long receivedNanos) {
+        processing.recordValue((System.nanoTime() - receivedNanos) / 1000);
+        if (pendingCount < MAX_PENDING) {
+            pending[pendingCount++] = receivedNanos;
+        }
+    }
+
+    /**
+     * Records the time to this pulse for every keystroke processed since the last one
+     */
+    public void onPulse() {
+        if (pendingCount == 0) return;
+        long now = System.nanoTime();
+        for (int i = 0; i < pendingCount; i++) {
+            toPulse.recordValue((now - pending[i]) / 1000);
+        }
+        pendingCount = 0;
+    }
+
+    /**
+     * Gets the time from key event to letter colors updated
+     *
+     * @return The processing histogram, in microseconds
+     */
+    public LatencyHistogram getProcessingHistogram() {
+        return processing;
+    }
+
+    /**
+     * Gets the time from key event to the pulse that draws it
+     *
+     * @return The keystroke-to-pulse histogram, in microseconds
+     */
+    public LatencyHistogram getPulseHistogram() {
+        return toPulse;
+    }
+
+    /**
+     * Writes both histograms to a file in HdrHistogram's text format, in milliseconds
+     *
+     * @param file The file to write
+     * @throws IOException If the file cannot be written
+     */
+    public void dump(Path file) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+            out.println("# Keystroke latency, " + label + ", milliseconds");
+            out.println("# Key event to next pulse");
+            toPulse.outputPercentileDistribution(out, 1000.0);
+            out.println();
+            out.println("# Key event to letter colors updated");
+            processing.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    /**
+     * Dumps the histograms into the {@code typewiz.latencyDump} directory, if it is set
+     */
+    public void dumpIfRequested() {
+        if (DUMP_DIRECTORY == null || toPulse.getTotalCount() == 0 && processing.getTotalCount() == 0) return;
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss", Locale.ROOT));
+        Path file = Path.of(DUMP_DIRECTORY, "latency-" + label.toLowerCase(Locale.ROOT) + "-" + timestamp + ".hgrm");
+        try {
+            Files.createDirectories(file.getParent());
+            dump(file);
+            LOG.info(() -> "Wrote keystroke latency histogram to " + file);
+        } catch (IOException e) {
+            LOG.warn("Could not write keystroke latency histogram to " + file, e);
+        }
+    }
+}
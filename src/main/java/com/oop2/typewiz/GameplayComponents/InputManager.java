@@ -1,5 +1,6 @@
 package com.oop2.typewiz.GameplayComponents;
 
+import com.oop2.typewiz.util.GameLogger;
 import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.Entity;
 import com.oop2.typewiz.util.SoundManager;
@@ -14,6 +15,7 @@ import java.util.function.Consumer;
  * Implements the Command pattern for key actions.
  */
 public class InputManager {
+    private static final GameLogger LOG = GameLogger.getLogger(InputManager.class);
 
     private StringBuilder currentInput;
     private Entity selectedWordBlock;
@@ -21,6 +23,10 @@ public class InputManager {
     private final PlayerManager playerManager;
     private final GameStateManager stateManager;
 
+    // Prefix targeting: typed input is matched against every enemy word instead of one locked target
+    private boolean prefixTargeting;
+    private WordTrie.Node prefixNode; // Trie node for currentInput, null until looked up
+
     // Callback for when a game should be restarted
     private Consumer<Void> restartGameCallback;
 
@@ -36,19 +42,39 @@ public class InputManager {
         this.playerManager = playerManager;
         this.stateManager = stateManager;
         this.currentInput = new StringBuilder();
+        this.prefixTargeting = Boolean.getBoolean("typewiz.prefixTargeting");
+    }
+
+    /**
+     * Switches between locking onto one target and matching the input against all enemy words
+     *
+     * @param prefixTargeting true to let the player start typing any visible word
+     */
+    public void setPrefixTargeting(boolean prefixTargeting) {
+        this.prefixTargeting = prefixTargeting;
+        clearInput();
+    }
+
+    /**
+     * Checks whether prefix targeting is active
+     *
+     * @return true if typed input is matched against all enemy words
+     */
+    public boolean isPrefixTargeting() {
+        return prefixTargeting;
     }
 
     /**
      * Sets up event handlers for keyboard input
      */
     public void setupInput() {
-        System.out.println("Setting up input handlers...");
+        LOG.debug("Setting up input handlers...");
         // Handle key typing (letters, digits, etc.)
         FXGL.getInput().addEventHandler(KeyEvent.KEY_TYPED, this::handleKeyTyped);
 
         // Handle key presses (backspace, shift, space, enter)
         FXGL.getInput().addEventHandler(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
-        System.out.println("Input handlers set up successfully");
+        LOG.debug("Input handlers set up successfully");
     }
 
     /**
@@ -56,10 +82,12 @@ public class InputManager {
      *
      * @param event The key event
      */
-    private void handleKeyTyped(KeyEvent event) {
+    void handleKeyTyped(KeyEvent event) {
+        long receivedNanos = InputLatencyTracker.getInstance().keyReceived();
+
         // Check if game is active
         if (!stateManager.isInState(GameStateManager.GameState.PLAYING)) {
-            System.out.println("Not processing typing - game is not in PLAYING state: " + stateManager.getCurrentState());
+            LOG.debug(() -> "Not processing typing - game is not in PLAYING state: " + stateManager.getCurrentState());
             return;
         }
 
@@ -70,31 +98,26 @@ public class InputManager {
         }
 
         char typedChar = event.getCharacter().charAt(0);
-        System.out.println("Received typed character: " + typedChar);
+        LOG.debug(() -> "Received typed character: " + typedChar);
 
         // Only process letter, digit, hyphen, or apostrophe
         if (Character.isLetterOrDigit(typedChar) || typedChar == '-' || typedChar == '\'') {
-            System.out.println("Processing typed character: " + typedChar);
+            LOG.debug(() -> "Processing typed character: " + typedChar);
 
             // If no word is selected, try to select one first
             if (selectedWordBlock == null) {
-                List<Entity> enemies = entityManager.getActiveEnemies();
-                System.out.println("No word selected. Found " + enemies.size() + " active enemies");
-                if (!enemies.isEmpty()) {
-                    Entity target = findMostUrgentEnemy(enemies);
-                    if (target != null) {
-                        selectWordBlock(target);
-                        System.out.println("Auto-selected target for typing: " + target.getString("word"));
-                    } else {
-                        System.out.println("No urgent enemy found to select");
-                    }
+                Entity target = entityManager.getMostUrgentEnemy();
+                if (target != null) {
+                    selectWordBlock(target);
+                    LOG.debug(() -> "Auto-selected target for typing: " + target.getString("word"));
                 } else {
-                    System.out.println("No active enemies to select from");
+                    LOG.debug("No active enemies to select from");
                 }
             }
 
             // Now process the character
             processTypedCharacter(typedChar);
+            InputLatencyTracker.getInstance().keyProcessed(receivedNanos);
 
             // Consume the event to prevent it from bubbling up
             event.consume();
@@ -106,13 +129,13 @@ public class InputManager {
      *
      * @param event The key event
      */
-    private void handleKeyPressed(KeyEvent event) {
+    void handleKeyPressed(KeyEvent event) {
         // Handle retry on game over screen
         if (stateManager.isInState(GameStateManager.GameState.GAME_OVER) ||
                 stateManager.isInState(GameStateManager.GameState.VICTORY)) {
             if ((event.getCode() == KeyCode.ENTER || event.getCode() == KeyCode.SPACE) &&
                     restartGameCallback != null) {
-                System.out.println("Restarting game via keyboard...");
+                LOG.debug("Restarting game via keyboard...");
                 // Play button click sound for restart
                 SoundManager.getInstance().playDamage();
                 restartGameCallback.accept(null);
@@ -130,9 +153,19 @@ public class InputManager {
         if (event.getCode() == KeyCode.BACK_SPACE && currentInput.length() > 0) {
             // Play error sound for backspace
             SoundManager.getInstance().playTypingSound(false);
-            // Delete last character
-            currentInput.deleteCharAt(currentInput.length() - 1);
-            updateLetterColors();
+            // Delete last character; only that letter changes back, unless the word had been
+            // completed and every letter shows the complete style
+            int untyped = currentInput.length() - 1;
+            boolean wasComplete = selectedWordBlock != null
+                    && currentInput.length() == selectedWordBlock.getString("word").length();
+            currentInput.deleteCharAt(untyped);
+            if (prefixNode != null) {
+                prefixNode = prefixNode.isAttached() ? prefixNode.getParent() : null;
+            }
+            if (wasComplete && selectedWordBlock != null) {
+                EnemyFactory.setLetterStates(selectedWordBlock, 0, untyped, WordStyles.LetterState.TYPED);
+            }
+            setLetterState(untyped, WordStyles.LetterState.SELECTED);
             event.consume(); // Consume backspace to prevent it from triggering browser back navigation
         }
         else if (event.getCode() == KeyCode.SPACE) {
@@ -151,44 +184,36 @@ public class InputManager {
      */
     private void processTypedCharacter(char typedChar) {
         if (selectedWordBlock == null) {
-            System.out.println("No word block selected, attempting to find one...");
-            // Select a word block if none is selected
-            List<Entity> enemies = entityManager.getActiveEnemies();
-            System.out.println("Found " + enemies.size() + " active enemies");
-
-            if (!enemies.isEmpty()) {
-                // Find the most urgent enemy to target
-                Entity mostUrgent = findMostUrgentEnemy(enemies);
-                if (mostUrgent != null) {
-                    System.out.println("Selected most urgent enemy with word: " + mostUrgent.getString("word"));
-                    selectWordBlock(mostUrgent);
-                    // Now that we've selected an enemy, continue processing the character
-                    // instead of returning
-                }
-                else {
-                    System.out.println("No valid enemy found after searching");
-                    return; // No valid enemies found
-                }
-            }
-            else {
-                System.out.println("No enemies available to select");
+            LOG.debug("No word block selected, attempting to find one...");
+            // Select the most urgent enemy if none is selected
+            Entity mostUrgent = entityManager.getMostUrgentEnemy();
+            if (mostUrgent == null) {
+                LOG.debug("No enemies available to select");
                 return; // No enemies available
             }
+            LOG.debug(() -> "Selected most urgent enemy with word: " + mostUrgent.getString("word"));
+            selectWordBlock(mostUrgent);
+            // Now that we've selected an enemy, continue processing the character
+        }
+
+        if (prefixTargeting) {
+            processPrefixCharacter(typedChar);
+            return;
         }
 
         try {
             String targetWord = selectedWordBlock.getString("word");
-            System.out.println("Processing character '" + typedChar + "' for word '" + targetWord + "', current input: '" + currentInput.toString() + "'");
+            LOG.debug(() -> "Processing character '" + typedChar + "' for word '" + targetWord + "', current input: '" + currentInput.toString() + "'");
 
             // Make sure we're not exceeding the word length
             if (currentInput.length() >= targetWord.length()) {
-                System.out.println("Input length exceeded target word length");
+                LOG.debug("Input length exceeded target word length");
                 return;
             }
 
             // Check if this would be a valid next character
             boolean isCorrect = typedChar == targetWord.charAt(currentInput.length());
-            System.out.println("Character is " + (isCorrect ? "correct" : "incorrect"));
+            LOG.debug(() -> "Character is " + (isCorrect ? "correct" : "incorrect"));
 
             // Play typing sound based on correctness
             SoundManager.getInstance().playTypingSound(isCorrect);
@@ -199,28 +224,107 @@ public class InputManager {
             if (isCorrect) {
                 // Only add if it's correct (part of error trapping)
                 currentInput.append(typedChar);
-                updateLetterColors();
-                System.out.println("Updated input to: '" + currentInput.toString() + "'");
+                setLetterState(currentInput.length() - 1, WordStyles.LetterState.TYPED);
+                LOG.debug(() -> "Updated input to: '" + currentInput.toString() + "'");
 
                 // Check if we've completed the word
                 if (currentInput.length() == targetWord.length()) {
                     // Word is fully typed - make all letters blue for visual feedback
-                    System.out.println("Word fully typed, marking as complete");
+                    LOG.debug("Word fully typed, marking as complete");
                     markWordAsComplete();
                 }
             } else {
                 // Wrong character - clear input but still count keystroke for consistency
-                currentInput.setLength(0);
-                resetToYellowHighlight();
-                System.out.println("Incorrect character, reset input");
+                int typedCount = currentInput.length();
+                clearInput();
+                untypeLetters(typedCount);
+                LOG.debug("Incorrect character, reset input");
             }
         } catch (IllegalArgumentException e) {
             // If word property doesn't exist, ignore and wait for next update
-            System.out.println("Error processing character: " + e.getMessage());
-            currentInput.setLength(0);
+            LOG.warn("Error processing character: " + e.getMessage());
+            clearInput();
+        }
+    }
+
+    /**
+     * Processes a typed character in prefix targeting mode. The input may match any
+     * active enemy's word; the target follows whichever word the input still fits.
+     *
+     * @param typedChar The character that was typed
+     */
+    private void processPrefixCharacter(char typedChar) {
+        WordTrie.Node node = getPrefixNode();
+        WordTrie.Node next = node != null ? node.getChild(typedChar) : null;
+        boolean isCorrect = next != null;
+
+        SoundManager.getInstance().playTypingSound(isCorrect);
+        playerManager.recordKeystroke(typedChar, isCorrect);
+
+        if (!isCorrect) {
+            // No enemy word continues with this character - start over
+            int typedCount = currentInput.length();
+            clearInput();
+            untypeLetters(typedCount);
+            return;
+        }
+
+        currentInput.append(typedChar);
+        prefixNode = next;
+
+        // Keep the current target while its word still matches, otherwise switch to one that does
+        if (selectedWordBlock == null || !next.contains(selectedWordBlock)) {
+            retarget(next.getFirstEntity());
+            // The new target has not shown any of the input yet
+            updateLetterColors();
+        } else {
+            setLetterState(currentInput.length() - 1, WordStyles.LetterState.TYPED);
+        }
+
+        if (selectedWordBlock != null && currentInput.length() == selectedWordBlock.getString("word").length()) {
+            markWordAsComplete();
         }
     }
 
+    /**
+     * Gets the trie node matching the current input, looking it up again if the
+     * enemies it belonged to have been removed
+     *
+     * @return The node, or null if no enemy word starts with the current input
+     */
+    private WordTrie.Node getPrefixNode() {
+        if (prefixNode == null || !prefixNode.isAttached()) {
+            prefixNode = entityManager.getWordTrie().find(currentInput);
+        }
+        return prefixNode;
+    }
+
+    /**
+     * Moves the highlight to another enemy without clearing the typed input
+     *
+     * @param target An enemy whose word starts with the current input
+     */
+    private void retarget(Entity target) {
+        if (target == null || target == selectedWordBlock) return;
+
+        if (selectedWordBlock != null) {
+            EnemyFactory.resetBlockToDefaultColor(selectedWordBlock);
+        }
+        selectedWordBlock = target;
+        EnemyFactory.selectWordBlock(target);
+        if (!target.getProperties().exists("processed")) {
+            target.setProperty("processed", true);
+        }
+    }
+
+    /**
+     * Clears the typed input
+     */
+    private void clearInput() {
+        currentInput.setLength(0);
+        prefixNode = null;
+    }
+
     /**
      * Selects a word block for typing
      *
@@ -233,13 +337,7 @@ public class InputManager {
         if (selectedWordBlock != null) {
             try {
                 // Reset the previous block's word color to default white
-                if (selectedWordBlock.isType(Game.EntityType.GARGOYLE)) {
-                    GargoyleFactory.resetBlockToDefaultColor(selectedWordBlock);
-                } else if (selectedWordBlock.isType(Game.EntityType.GRIMOUGE)) {
-                    GrimougeFactory.resetBlockToDefaultColor(selectedWordBlock);
-                } else if (selectedWordBlock.isType(Game.EntityType.VYLEYE)) {
-                    VyleyeFactory.resetBlockToDefaultColor(selectedWordBlock);
-                }
+                EnemyFactory.resetBlockToDefaultColor(selectedWordBlock);
             } catch (Exception e) {
                 // Ignore errors when resetting colors
             }
@@ -249,20 +347,14 @@ public class InputManager {
         selectedWordBlock = wordBlock;
 
         // Always reset input when switching blocks
-        currentInput.setLength(0);
+        clearInput();
 
         // Set initial yellow highlight for the selected block
         try {
-            if (selectedWordBlock.isType(Game.EntityType.GARGOYLE)) {
-                GargoyleFactory.selectWordBlock(selectedWordBlock);
-            } else if (selectedWordBlock.isType(Game.EntityType.GRIMOUGE)) {
-                GrimougeFactory.selectWordBlock(selectedWordBlock);
-            } else if (selectedWordBlock.isType(Game.EntityType.VYLEYE)) {
-                VyleyeFactory.selectWordBlock(selectedWordBlock);
-            }
+            EnemyFactory.selectWordBlock(selectedWordBlock);
 
             // Immediately show that the block is selected and ready for input
-            System.out.println("Word block selected and ready for input: " + selectedWordBlock.getString("word"));
+            LOG.debug(() -> "Word block selected and ready for input: " + selectedWordBlock.getString("word"));
 
             // Ensure the word is properly initialized and has the required properties
             if (!selectedWordBlock.getProperties().exists("processed")) {
@@ -270,149 +362,102 @@ public class InputManager {
             }
         } catch (Exception e) {
             // If we can't highlight, just continue
-            System.out.println("Error highlighting word block: " + e.getMessage());
+            LOG.warn("Error highlighting word block: " + e.getMessage());
         }
     }
 
     /**
-     * Updates the letter colors based on current input
+     * Updates every letter color of the selected word based on the current input
      */
     private void updateLetterColors() {
         if (selectedWordBlock == null) return;
 
         try {
-            if (selectedWordBlock.isType(Game.EntityType.GARGOYLE)) {
-                GargoyleFactory.updateLetterColors(selectedWordBlock, currentInput.toString());
-            } else if (selectedWordBlock.isType(Game.EntityType.GRIMOUGE)) {
-                GrimougeFactory.updateLetterColors(selectedWordBlock, currentInput.toString());
-            } else if (selectedWordBlock.isType(Game.EntityType.VYLEYE)) {
-                VyleyeFactory.updateLetterColors(selectedWordBlock, currentInput.toString());
-            }
+            EnemyFactory.updateLetterColors(selectedWordBlock, currentInput.length());
         } catch (Exception e) {
             // Property may not exist yet, ignore the error
         }
     }
 
     /**
-     * Marks the current word as complete
+     * Changes the color of the one letter of the selected word a keystroke affected
+     *
+     * @param index Position of the letter
+     * @param state The letter's new state
      */
-    private void markWordAsComplete() {
+    private void setLetterState(int index, WordStyles.LetterState state) {
         if (selectedWordBlock == null) return;
+        EnemyFactory.setLetterState(selectedWordBlock, index, state);
+    }
 
-        try {
-            if (selectedWordBlock.isType(Game.EntityType.GARGOYLE)) {
-                GargoyleFactory.markWordAsComplete(selectedWordBlock);
-            } else if (selectedWordBlock.isType(Game.EntityType.GRIMOUGE)) {
-                GrimougeFactory.markWordAsComplete(selectedWordBlock);
-            } else if (selectedWordBlock.isType(Game.EntityType.VYLEYE)) {
-                VyleyeFactory.markWordAsComplete(selectedWordBlock);
-            }
-        } catch (Exception e) {
-            // Property may not exist yet, ignore the error
-        }
-
-        // The actual removal and selection of a new entity will happen in checkWordCompletion()
+    /**
+     * Turns the typed letters of the selected word back to the selected highlight
+     * after the input was thrown away
+     *
+     * @param typedCount Number of letters that were typed
+     */
+    private void untypeLetters(int typedCount) {
+        if (selectedWordBlock == null) return;
+        EnemyFactory.setLetterStates(selectedWordBlock, 0, typedCount, WordStyles.LetterState.SELECTED);
     }
 
     /**
-     * Resets the selected block to yellow highlight
+     * Marks the current word as complete
      */
-    private void resetToYellowHighlight() {
+    private void markWordAsComplete() {
         if (selectedWordBlock == null) return;
 
         try {
-            if (selectedWordBlock.isType(Game.EntityType.GARGOYLE)) {
-                GargoyleFactory.selectWordBlock(selectedWordBlock);
-            } else if (selectedWordBlock.isType(Game.EntityType.GRIMOUGE)) {
-                GrimougeFactory.selectWordBlock(selectedWordBlock);
-            } else if (selectedWordBlock.isType(Game.EntityType.VYLEYE)) {
-                VyleyeFactory.selectWordBlock(selectedWordBlock);
-            }
+            EnemyFactory.markWordAsComplete(selectedWordBlock);
         } catch (Exception e) {
             // Property may not exist yet, ignore the error
         }
+
+        // The actual removal and selection of a new entity will happen in checkWordCompletion()
     }
 
     /**
-     * Cycles to the next word block in the game
+     * Cycles to the next word block in urgency order, starting with the most urgent one
      */
     private void selectNextWordBlock() {
-        List<Entity> enemies = entityManager.getActiveEnemies();
-        if (enemies.isEmpty()) {
-            System.out.println("No enemies available to cycle through");
+        Entity nextEnemy = entityManager.getNextEnemyByUrgency(selectedWordBlock);
+        if (nextEnemy == null) {
+            LOG.debug("No enemies available to cycle through");
             return;
         }
 
-        System.out.println("Cycling through " + enemies.size() + " available enemies");
-
-        // First, sort enemies by proximity to the center of the screen (left to right)
-        double centerX = FXGL.getAppWidth() / 2.0;
-        enemies.sort((e1, e2) -> {
-            double dist1 = Math.abs(e1.getX() - centerX);
-            double dist2 = Math.abs(e2.getX() - centerX);
-            return Double.compare(dist1, dist2);
-        });
-
-        // If no block is currently selected, select the closest one to the center
-        if (selectedWordBlock == null) {
-            if (!enemies.isEmpty()) {
-                Entity closestToCenter = enemies.get(0);
-                selectWordBlock(closestToCenter);
-                System.out.println("Selected enemy closest to center: " + closestToCenter.getString("word"));
-            }
-            return;
-        }
-
-        // Find the index of the currently selected enemy
-        int currentIndex = -1;
-        for (int i = 0; i < enemies.size(); i++) {
-            if (enemies.get(i) == selectedWordBlock) {
-                currentIndex = i;
-                break;
-            }
-        }
-
-        // Move to the next enemy in the list
-        if (currentIndex != -1) {
-            int nextIndex = (currentIndex + 1) % enemies.size();
-            Entity nextEnemy = enemies.get(nextIndex);
-            selectWordBlock(nextEnemy);
-            System.out.println("Cycled from enemy #" + currentIndex + " to #" + nextIndex +
-                    ": " + nextEnemy.getString("word"));
-        } else {
-            // Current selection not found in list, select the first one
-            if (!enemies.isEmpty()) {
-                Entity firstEnemy = enemies.get(0);
-                selectWordBlock(firstEnemy);
-                System.out.println("Selected first enemy: " + firstEnemy.getString("word"));
-            }
-        }
+        selectWordBlock(nextEnemy);
+        LOG.debug(() -> "Cycled to enemy: " + nextEnemy.getString("word"));
     }
 
     /**
      * Checks if the current word is completed and processes it
      */
     private void checkWordCompletion() {
+        if (prefixTargeting) {
+            // Complete whichever enemy's word matches the input exactly
+            WordTrie.Node node = getPrefixNode();
+            Entity exactMatch = node != null ? node.getCompletedEntity(selectedWordBlock) : null;
+            retarget(exactMatch);
+        }
+
         if (selectedWordBlock == null) {
-            System.out.println("Cannot check word completion - no block selected");
+            LOG.debug("Cannot check word completion - no block selected");
             return;
         }
 
         try {
             String targetWord = selectedWordBlock.getString("word");
-            String typed = currentInput.toString();
+            int typedCount = currentInput.length();
 
-            System.out.println("Checking word completion: typed='" + typed + "', target='" + targetWord + "'");
+            LOG.debug(() -> "Checking word completion: typed='" + currentInput + "', target='" + targetWord + "'");
 
             // Check if the typed text matches the target word
-            if (typed.equals(targetWord)) {
-                System.out.println("Word completed successfully!");
+            if (targetWord.contentEquals(currentInput)) {
+                LOG.debug("Word completed successfully!");
 
                 // Word completed successfully
                 Entity completedBlock = selectedWordBlock;
-                boolean wasGargoyle = completedBlock.isType(Game.EntityType.GARGOYLE);
-                boolean wasGrimouge = completedBlock.isType(Game.EntityType.GRIMOUGE);
-                boolean wasVyleye = completedBlock.isType(Game.EntityType.VYLEYE);
 
                 // Record the completed word
                 int waveNumber = stateManager.isInState(GameStateManager.GameState.PLAYING) ? 1 : 0;
@@ -420,48 +465,42 @@ public class InputManager {
 
                 // Clear the selection before we remove the entity
                 selectedWordBlock = null;
-
-                // Get all active enemies BEFORE removing the completed one
-                List<Entity> enemies = entityManager.getActiveEnemies();
-                enemies.remove(completedBlock);
+                clearInput();
 
                 // Remove the completed block
                 entityManager.removeEntity(completedBlock);
-                System.out.println("Removed completed enemy, remaining enemies: " + enemies.size());
-
-                // Select a new enemy if any available
-                if (!enemies.isEmpty()) {
-                    // Find the closest one to the right edge of the screen (most urgent)
-                    Entity mostUrgent = findMostUrgentEnemy(enemies);
-                    if (mostUrgent != null) {
-                        System.out.println("Selected new most urgent enemy: " + mostUrgent.getString("word"));
-                        selectWordBlock(mostUrgent);
-                    }
+                LOG.debug(() -> "Removed completed enemy, remaining enemies: " + entityManager.getActiveEnemyCount());
+
+                // Select the enemy closest to the edge it is heading for (most urgent)
+                Entity mostUrgent = entityManager.getMostUrgentEnemy();
+                if (mostUrgent != null) {
+                    LOG.debug(() -> "Selected new most urgent enemy: " + mostUrgent.getString("word"));
+                    selectWordBlock(mostUrgent);
                 } else {
-                    System.out.println("No more enemies to select");
+                    LOG.debug("No more enemies to select");
                 }
             } else {
                 // Word not completed - reset input and maintain yellow highlight
-                System.out.println("Word does not match target, resetting input");
-                currentInput.setLength(0);
-                resetToYellowHighlight();
+                LOG.debug("Word does not match target, resetting input");
+                clearInput();
+                untypeLetters(typedCount);
             }
         } catch (IllegalArgumentException e) {
             // Handle missing property gracefully
-            System.out.println("Error checking word completion: " + e.getMessage());
-            currentInput.setLength(0);
+            LOG.warn("Error checking word completion: " + e.getMessage());
+            clearInput();
 
             // Try to select another entity if available
-            List<Entity> enemies = entityManager.getActiveEnemies();
+            List<Entity> enemies = entityManager.getActiveEnemiesView();
             if (!enemies.isEmpty() && selectedWordBlock != null) {
-                System.out.println("Trying to select another valid enemy");
+                LOG.debug("Trying to select another valid enemy");
                 // Try to find any valid enemy to select
                 for (Entity enemy : enemies) {
                     try {
                         // Verify this enemy has the word property
                         enemy.getString("word");
                         selectWordBlock(enemy);
-                        System.out.println("Selected alternative enemy: " + enemy.getString("word"));
+                        LOG.debug(() -> "Selected alternative enemy: " + enemy.getString("word"));
                         break;
                     } catch (Exception ex) {
                         // Skip this one if it has errors
@@ -473,53 +512,21 @@ public class InputManager {
     }
 
     /**
-     * Finds the most urgent enemy (closest to exiting the screen)
+     * Gets the current typed input
      *
-     * @param enemies List of active enemies
-     * @return The most urgent enemy to target
+     * @return The current input string
      */
-    private Entity findMostUrgentEnemy(List<Entity> enemies) {
-        if (enemies.isEmpty()) return null;
-
-        Entity mostUrgent = null;
-        double screenWidth = FXGL.getAppWidth();
-        double minDistance = Double.MAX_VALUE;
-
-        for (Entity enemy : enemies) {
-            try {
-                // Make sure it has required properties
-                enemy.getString("word");
-                boolean movingRight = enemy.getBoolean("movingRight");
-
-                // Calculate how close it is to the edge it's moving toward
-                double distance;
-                if (movingRight) {
-                    distance = screenWidth - enemy.getX();
-                } else {
-                    distance = enemy.getX();
-                }
-
-                // Keep the one with the smallest distance to edge
-                if (distance < minDistance) {
-                    minDistance = distance;
-                    mostUrgent = enemy;
-                }
-            } catch (Exception e) {
-                // Skip entities with issues
-                continue;
-            }
-        }
-
-        return mostUrgent;
+    public String getCurrentInput() {
+        return currentInput.toString();
     }
 
     /**
-     * Gets the current typed input
+     * Gets the number of correctly typed characters without copying the input
      *
-     * @return The current input string
+     * @return The current input length
      */
-    public String getCurrentInput() {
-        return currentInput.toString();
+    public int getCurrentInputLength() {
+        return currentInput.length();
     }
 
     /**
@@ -544,10 +551,10 @@ public class InputManager {
      * Resets input state
      */
     public void reset() {
-        System.out.println("Resetting input manager...");
-        currentInput.setLength(0);
+        LOG.debug("Resetting input manager...");
+        clearInput();
         selectedWordBlock = null;
-        System.out.println("Input manager reset complete");
+        LOG.debug("Input manager reset complete");
     }
 
     /**
@@ -556,19 +563,18 @@ public class InputManager {
     public void cycleToNextWordBlock() {
         // Only select next word if we're in playing state
         if (!stateManager.isInState(GameStateManager.GameState.PLAYING)) {
-            System.out.println("Not cycling - game is not in PLAYING state");
+            LOG.debug("Not cycling - game is not in PLAYING state");
             return;
         }
 
-        // Get active enemies and check if there are any to cycle through
-        List<Entity> enemies = entityManager.getActiveEnemies();
-        if (enemies.isEmpty()) {
-            System.out.println("No enemies available to cycle through");
+        // Check if there are any enemies to cycle through
+        if (!entityManager.hasActiveEnemies()) {
+            LOG.debug("No enemies available to cycle through");
             return;
         }
 
         // Log the attempt to cycle
-        System.out.println("Shift key pressed - cycling to next word block, " + enemies.size() + " enemies available");
+        LOG.debug(() -> "Shift key pressed - cycling to next word block, " + entityManager.getActiveEnemyCount() + " enemies available");
 
         // Play shift cycle sound
         SoundManager.getInstance().playShiftCycle();
@@ -579,9 +585,9 @@ public class InputManager {
         // Immediately after cycling, ensure the word is ready for typing
         if (selectedWordBlock != null) {
             try {
-                System.out.println("Ready to type word: " + selectedWordBlock.getString("word"));
+                LOG.debug(() -> "Ready to type word: " + selectedWordBlock.getString("word"));
             } catch (Exception e) {
-                System.out.println("Selected word block has issues: " + e.getMessage());
+                LOG.debug(() -> "Selected word block has issues: " + e.getMessage());
             }
         }
     }
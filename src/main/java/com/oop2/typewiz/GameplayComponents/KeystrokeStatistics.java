@@ -0,0 +1,166 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import java.util.Arrays;
+
+/**
+ * Running statistics of the time between keystrokes, in constant memory.
+ * Mean and variance of all samples are updated on every keystroke with Welford's method.
+ * Samples are also counted per millisecond over the accepted range, which works as an
+ * exact quantile sketch: the slowest keystrokes can be trimmed, and the mean and variance
+ * of the rest computed, in time proportional to the range rather than the session length.
+ */
+public class KeystrokeStatistics {
+    private final int minValue;
+    private final int maxValue;
+    private final long[] counts;
+
+    private long count;
+    private double mean;
+    private double sumOfSquaredDeviations; // Welford's M2
+
+    /**
+     * Creates empty statistics for samples within a range
+     *
+     * @param minValue Smallest sample accepted, in milliseconds
+     * @param maxValue Largest sample accepted, in milliseconds
+     */
+    public KeystrokeStatistics(int minValue, int maxValue) {
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.counts = new long[maxValue - minValue + 1];
+    }
+
+    /**
+     * Adds a sample if it is within the accepted range
+     *
+     * @param value Time between keystrokes in milliseconds
+     * @return true if the sample was added
+     */
+    public boolean add(long value) {
+        if (value < minValue || value > maxValue) {
+            return false;
+        }
+        counts[(int) value - minValue]++;
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        sumOfSquaredDeviations += delta * (value - mean);
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        mean = 0;
+        sumOfSquaredDeviations = 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Gets the population variance of all samples
+     *
+     * @return The variance in square milliseconds
+     */
+    public double getVariance() {
+        return count == 0 ? 0 : sumOfSquaredDeviations / count;
+    }
+
+    /**
+     * Gets the smallest sample at or above a quantile
+     *
+     * @param quantile Quantile from 0 to 1
+     * @return The sample in milliseconds, or 0 if there are none
+     */
+    public long getValueAtQuantile(double quantile) {
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return minValue + i;
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Gets the mean and variance of the samples left after dropping the slowest ones
+     *
+     * @param removeHighest Number of the highest samples to leave out
+     * @return Mean and variance of the remaining samples
+     */
+    public Summary withoutHighest(long removeHighest) {
+        if (removeHighest <= 0) {
+            // Nothing to trim, the running figures already cover every sample
+            return new Summary(count, mean, getVariance());
+        }
+        long remaining = Math.max(0, count - removeHighest);
+        long n = 0;
+        double trimmedMean = 0;
+        double trimmedM2 = 0;
+        // Merge one bucket at a time, all of whose samples share a single value
+        for (int i = 0; i < counts.length && n < remaining; i++) {
+            long taken = Math.min(counts[i], remaining - n);
+            if (taken == 0) continue;
+            long merged = n + taken;
+            double delta = (minValue + i) - trimmedMean;
+            trimmedMean += delta * taken / merged;
+            trimmedM2 += delta * delta * n * taken / merged;
+            n = merged;
+        }
+        return new Summary(n, trimmedMean, n == 0 ? 0 : trimmedM2 / n);
+    }
+
+    /**
+     * Calls an action for every distinct sample value with its count, in ascending order
+     *
+     * @param action Receives the value in milliseconds and how often it occurred
+     */
+    public void forEachValue(ValueCountConsumer action) {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                action.accept(minValue + i, counts[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface ValueCountConsumer {
+        void accept(long value, long count);
+    }
+
+    /**
+     * Count, mean and population variance of a set of samples
+     */
+    public static class Summary {
+        private final long count;
+        private final double mean;
+        private final double variance;
+
+        Summary(long count, double mean, double variance) {
+            this.count = count;
+            this.mean = mean;
+            this.variance = variance;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+
+        public double getVariance() {
+            return variance;
+        }
+    }
+}
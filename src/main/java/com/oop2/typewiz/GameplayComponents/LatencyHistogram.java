@@ -0,0 +1,184 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Fixed-size histogram of latencies in microseconds, bucketed the way HdrHistogram does it:
+ * exact counts below 128, then 64 linear sub-buckets per power of two, so every recorded
+ * value is kept to within about 1.5%. Recording is a bit scan and an array increment,
+ * with no allocation, which makes it cheap enough to call on every keystroke.
+ *
+ * Values above {@link #MAX_VALUE} are clamped to it.
+ */
+public class LatencyHistogram {
+    public static final long MAX_VALUE = 60_000_000L; // One minute in microseconds
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;       // Sub-buckets per power of two
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;          // Values below this are exact
+
+    private final long[] counts = new long[indexOf(MAX_VALUE) + 1];
+    private long totalCount;
+    private long total;
+    private long minValue = Long.MAX_VALUE;
+    private long maxValue;
+
+    /**
+     * Records one latency
+     *
+     * @param micros Latency in microseconds
+     */
+    public void recordValue(long micros) {
+        long value = Math.max(0, Math.min(micros, MAX_VALUE));
+        counts[indexOf(value)]++;
+        totalCount++;
+        total += value;
+        minValue = Math.min(minValue, value);
+        maxValue = Math.max(maxValue, value);
+    }
+
+    /**
+     * Adds all values recorded in another histogram to this one
+     *
+     * @param other The histogram to add
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        total += other.total;
+        minValue = Math.min(minValue, other.minValue);
+        maxValue = Math.max(maxValue, other.maxValue);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        total = 0;
+        minValue = Long.MAX_VALUE;
+        maxValue = 0;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMinValue() {
+        return totalCount == 0 ? 0 : minValue;
+    }
+
+    public long getMaxValue() {
+        return maxValue;
+    }
+
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) total / totalCount;
+    }
+
+    /**
+     * Gets the value at a percentile. The result is the highest value that falls in the
+     * same bucket as the requested rank, capped at the largest value recorded.
+     *
+     * @param percentile Percentile from 0 to 100
+     * @return Latency in microseconds, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueAt(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Writes the percentile distribution in HdrHistogram's text format, which the
+     * usual .hgrm plotting tools read directly
+     *
+     * @param out Where to write
+     * @param outputScale Divisor applied to values, e.g. 1000.0 to write milliseconds
+     */
+    public void outputPercentileDistribution(PrintStream out, double outputScale) {
+        out.printf(Locale.ROOT, "%12s %14s %10s %14s%n%n", "Value", "Percentile", "TotalCount", "1/(1-Percentile)");
+        if (totalCount > 0) {
+            // Halve the distance to 100% on each step, five steps per halving, as HdrHistogram does
+            double percentile = 0;
+            double reportingStep = 20;
+            while (true) {
+                long value = getValueAtPercentile(percentile);
+                long countAtValue = countAtOrBelow(value);
+                double quantile = (double) countAtValue / totalCount;
+                if (quantile >= 1.0) {
+                    out.printf(Locale.ROOT, "%12.3f %2.12f %10d%n", value / outputScale, 1.0, totalCount);
+                    break;
+                }
+                out.printf(Locale.ROOT, "%12.3f %2.12f %10d %14.2f%n",
+                        value / outputScale, quantile, countAtValue, 1.0 / (1.0 - quantile));
+                percentile = Math.max(percentile + 100.0 / reportingStep, quantile * 100.0 + 1e-9);
+                if (100.0 - percentile < 100.0 / reportingStep * 5) {
+                    reportingStep *= 2;
+                }
+            }
+        }
+        out.printf(Locale.ROOT, "#[Mean    = %12.3f, StdDeviation   = %12.3f]%n",
+                getMean() / outputScale, getStdDeviation() / outputScale);
+        out.printf(Locale.ROOT, "#[Max     = %12.3f, Total count    = %12d]%n", maxValue / outputScale, totalCount);
+        out.printf(Locale.ROOT, "#[Buckets = %12d, SubBuckets     = %12d]%n", counts.length, SUB_BUCKET_COUNT);
+    }
+
+    private double getStdDeviation() {
+        if (totalCount == 0) return 0;
+        double mean = getMean();
+        double sumOfSquares = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                double deviation = midpointAt(i) - mean;
+                sumOfSquares += deviation * deviation * counts[i];
+            }
+        }
+        return Math.sqrt(sumOfSquares / totalCount);
+    }
+
+    private long countAtOrBelow(long value) {
+        long count = 0;
+        int last = indexOf(Math.min(value, MAX_VALUE));
+        for (int i = 0; i <= last; i++) {
+            count += counts[i];
+        }
+        return count;
+    }
+
+    private static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        // Keep the top SUB_BUCKET_BITS + 1 bits of the value; the rest sets the bucket
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long lowestValueAt(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + 1;
+        long mantissa = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return mantissa << shift;
+    }
+
+    private static long highestValueAt(int index) {
+        return lowestValueAt(index + 1) - 1;
+    }
+
+    private static double midpointAt(int index) {
+        return (lowestValueAt(index) + highestValueAt(index)) / 2.0;
+    }
+}
@@ -0,0 +1,232 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * A dictionary of words with frequency and difficulty scores, read straight from a
+ * memory-mapped file built by {@link MappedDictionaryBuilder}. Nothing is copied onto the
+ * heap when the file is opened, so dictionaries of millions of words start quickly and
+ * cost only the index plus the word pages the game actually touches. The index is checked
+ * once when the file is opened, so a damaged file fails there instead of mid-game.
+ *
+ * File layout (big-endian):
+ * <pre>
+ * header  int magic "TWZD", int version, int wordCount, int maxWordBytes, int dataSize,
+ *         int[4] tierStarts (EASY, MEDIUM, HARD, end)
+ * index   wordCount entries of 20 bytes, sorted by tier and then by falling frequency:
+ *         int dataOffset, float frequency, float difficulty, float aliasProbability, int alias
+ * data    the UTF-8 bytes of every word, in index order
+ * </pre>
+ * Each tier's alias columns form a Walker alias table over its frequencies, so
+ * {@link #randomWord(WordCorpus.Tier, Random)} picks a frequency-weighted word in constant
+ * time and allocates nothing but the returned {@code String}.
+ */
+public final class MappedDictionary implements WordSource {
+    static final int MAGIC = 0x54575A44; // "TWZD"
+    static final int VERSION = 1;
+    static final int TIER_COUNT = WordCorpus.Tier.values().length;
+    static final int HEADER_BYTES = (5 + TIER_COUNT + 1) * Integer.BYTES;
+    static final int ENTRY_BYTES = 5 * Integer.BYTES;
+
+    // Field positions within an index entry
+    private static final int DATA_OFFSET = 0;
+    private static final int FREQUENCY = 4;
+    private static final int DIFFICULTY = 8;
+    private static final int ALIAS_PROBABILITY = 12;
+    private static final int ALIAS = 16;
+
+    private final MappedByteBuffer buffer;
+    private final int wordCount;
+    private final int dataStart;
+    private final int dataSize;
+    private final int[] tierStarts;
+    private final String source;
+    // Bytes of the word being decoded, reused so a lookup allocates only its String
+    private final ThreadLocal<byte[]> scratch;
+
+    private MappedDictionary(MappedByteBuffer buffer, int wordCount, int maxWordBytes, int dataSize,
+                             int[] tierStarts, String source) {
+        this.buffer = buffer;
+        this.wordCount = wordCount;
+        this.dataStart = HEADER_BYTES + wordCount * ENTRY_BYTES;
+        this.dataSize = dataSize;
+        this.tierStarts = tierStarts;
+        this.source = source;
+        this.scratch = ThreadLocal.withInitial(() -> new byte[maxWordBytes]);
+    }
+
+    /**
+     * Maps a dictionary file. The file must not be rewritten while it is mapped;
+     * {@link MappedDictionaryBuilder} replaces files atomically, which is safe.
+     *
+     * @param file The dictionary file
+     * @return The dictionary
+     * @throws IOException If the file cannot be read, is not a valid dictionary or its index is corrupt
+     * @throws IllegalStateException If a tier has no words
+     */
+    public static MappedDictionary open(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a dictionary file, or larger than 2 GB: " + file);
+            }
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a dictionary file: " + file);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported dictionary version " + buffer.getInt(4) + " in " + file);
+        }
+        int wordCount = buffer.getInt(8);
+        int maxWordBytes = buffer.getInt(12);
+        int dataSize = buffer.getInt(16);
+        int[] tierStarts = new int[TIER_COUNT + 1];
+        for (int t = 0; t <= TIER_COUNT; t++) {
+            tierStarts[t] = buffer.getInt(20 + t * Integer.BYTES);
+        }
+        if (wordCount < 0 || maxWordBytes < 0 || dataSize < 0
+                || (long) HEADER_BYTES + (long) wordCount * ENTRY_BYTES + dataSize != buffer.capacity()
+                || tierStarts[0] != 0 || tierStarts[TIER_COUNT] != wordCount) {
+            throw new IOException("Corrupt dictionary header in " + file);
+        }
+        for (WordCorpus.Tier tier : WordCorpus.Tier.values()) {
+            if (tierStarts[tier.ordinal() + 1] <= tierStarts[tier.ordinal()]) {
+                throw new IllegalStateException("No " + tier.name().toLowerCase(Locale.ROOT) + " words in " + file);
+            }
+        }
+        validateIndex(buffer, wordCount, maxWordBytes, dataSize, tierStarts, file);
+        return new MappedDictionary(buffer, wordCount, maxWordBytes, dataSize, tierStarts, file.toString());
+    }
+
+    /**
+     * Checks that every word lies inside the data section and fits the scratch buffer,
+     * and that every alias points into its own tier
+     */
+    private static void validateIndex(MappedByteBuffer buffer, int wordCount, int maxWordBytes, int dataSize,
+                                      int[] tierStarts, Path file) throws IOException {
+        int tier = 0;
+        int previous = 0;
+        for (int index = 0; index < wordCount; index++) {
+            while (index >= tierStarts[tier + 1]) {
+                tier++;
+            }
+            int entry = HEADER_BYTES + index * ENTRY_BYTES;
+            int offset = buffer.getInt(entry + DATA_OFFSET);
+            if (offset < previous || offset > dataSize) {
+                throw new IOException("Corrupt dictionary index in " + file + ": word " + index
+                        + " starts at " + offset + ", after " + previous + " and within " + dataSize + " expected");
+            }
+            if (index > 0 && offset - previous > maxWordBytes) {
+                throw new IOException("Corrupt dictionary index in " + file + ": word " + (index - 1)
+                        + " is " + (offset - previous) + " bytes, longer than " + maxWordBytes);
+            }
+            int alias = buffer.getInt(entry + ALIAS);
+            if (alias < 0 || alias >= tierStarts[tier + 1] - tierStarts[tier]) {
+                throw new IOException("Corrupt dictionary index in " + file + ": word " + index
+                        + " has alias " + alias + " outside its tier");
+            }
+            previous = offset;
+        }
+        if (wordCount > 0 && dataSize - previous > maxWordBytes) {
+            throw new IOException("Corrupt dictionary index in " + file + ": word " + (wordCount - 1)
+                    + " is " + (dataSize - previous) + " bytes, longer than " + maxWordBytes);
+        }
+    }
+
+    private int entry(int index) {
+        return HEADER_BYTES + index * ENTRY_BYTES;
+    }
+
+    private int checkIndex(WordCorpus.Tier tier, int index) {
+        if (index < 0 || index >= size(tier)) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of " + size(tier) + " " + tier + " words");
+        }
+        return tierStarts[tier.ordinal()] + index;
+    }
+
+    private String word(int index) {
+        int from = buffer.getInt(entry(index) + DATA_OFFSET);
+        int to = index + 1 < wordCount ? buffer.getInt(entry(index + 1) + DATA_OFFSET) : dataSize;
+        byte[] bytes = scratch.get();
+        buffer.get(dataStart + from, bytes, 0, to - from);
+        return new String(bytes, 0, to - from, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int size() {
+        return wordCount;
+    }
+
+    @Override
+    public int size(WordCorpus.Tier tier) {
+        return tierStarts[tier.ordinal() + 1] - tierStarts[tier.ordinal()];
+    }
+
+    /**
+     * Gets a word of a tier. Words are ordered by frequency, most frequent first.
+     *
+     * @param tier The tier
+     * @param index Position of the word within the tier
+     * @return The word
+     */
+    @Override
+    public String get(WordCorpus.Tier tier, int index) {
+        return word(checkIndex(tier, index));
+    }
+
+    /**
+     * Picks a random word of a tier, with more frequent words picked more often
+     *
+     * @param tier The tier
+     * @param random Random number generator
+     * @return The word
+     */
+    @Override
+    public String randomWord(WordCorpus.Tier tier, Random random) {
+        int start = tierStarts[tier.ordinal()];
+        int slot = random.nextInt(tierStarts[tier.ordinal() + 1] - start);
+        int entry = entry(start + slot);
+        if (random.nextFloat() >= buffer.getFloat(entry + ALIAS_PROBABILITY)) {
+            slot = buffer.getInt(entry + ALIAS);
+        }
+        return word(start + slot);
+    }
+
+    /**
+     * Gets how common a word is, relative to the other words of the dictionary
+     *
+     * @param tier The tier
+     * @param index Position of the word within the tier
+     * @return The frequency from the source text, 1 if none was given
+     */
+    public float getFrequency(WordCorpus.Tier tier, int index) {
+        return buffer.getFloat(entry(checkIndex(tier, index)) + FREQUENCY);
+    }
+
+    /**
+     * Gets how hard a word is to type
+     *
+     * @param tier The tier
+     * @param index Position of the word within the tier
+     * @return Difficulty from 0 (easiest) to 1 (hardest)
+     */
+    public float getDifficulty(WordCorpus.Tier tier, int index) {
+        return buffer.getFloat(entry(checkIndex(tier, index)) + DIFFICULTY);
+    }
+
+    @Override
+    public String getSource() {
+        return source;
+    }
+}
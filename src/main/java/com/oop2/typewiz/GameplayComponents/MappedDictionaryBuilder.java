@@ -0,0 +1,292 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Builds a {@link MappedDictionary} file from plain text word lists.
+ * Each line holds a word, optionally followed by its frequency and its difficulty from 0 to 1,
+ * separated by whitespace; blank lines and lines starting with {@code #} are ignored.
+ * A word listed more than once has its frequencies added up. Words without a difficulty
+ * are scored by length. The difficulty decides the tier a word is spawned in.
+ *
+ * Usage: MappedDictionaryBuilder --output=words.twd [--easy-max=0.34] [--medium-max=0.67] input.txt...
+ */
+public class MappedDictionaryBuilder {
+    private static final double DEFAULT_EASY_MAX = 0.34;   // Difficulties below this are easy
+    private static final double DEFAULT_MEDIUM_MAX = 0.67; // Difficulties below this (and not easy) are medium
+    // Length-based difficulty when none is given: 7 letters or fewer is easy, 13 or more is hard
+    private static final int SHORTEST_SCORED_LENGTH = 2;
+    private static final double LETTERS_TO_HARDEST = 15;
+
+    private static class Entry {
+        final byte[] bytes;
+        double frequency;
+        final double difficulty;
+
+        Entry(String word, double frequency, double difficulty) {
+            this.bytes = word.getBytes(StandardCharsets.UTF_8);
+            this.frequency = frequency;
+            this.difficulty = difficulty;
+        }
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final double easyMax;
+    private final double mediumMax;
+
+    /**
+     * Creates a builder
+     *
+     * @param easyMax Difficulties below this are easy
+     * @param mediumMax Difficulties below this and at least easyMax are medium; the rest are hard
+     */
+    public MappedDictionaryBuilder(double easyMax, double mediumMax) {
+        if (easyMax > mediumMax) {
+            throw new IllegalArgumentException("The easy limit " + easyMax + " is above the medium limit " + mediumMax);
+        }
+        this.easyMax = easyMax;
+        this.mediumMax = mediumMax;
+    }
+
+    /**
+     * Scores a word by its length
+     *
+     * @param word The word
+     * @return Difficulty from 0 to 1
+     */
+    public static double estimateDifficulty(String word) {
+        return Math.max(0, Math.min(1, (word.length() - SHORTEST_SCORED_LENGTH) / LETTERS_TO_HARDEST));
+    }
+
+    /**
+     * Adds a word
+     *
+     * @param word The word
+     * @param frequency How common the word is; only its size relative to the other words matters
+     * @param difficulty Difficulty from 0 to 1
+     */
+    public void add(String word, double frequency, double difficulty) {
+        if (!(frequency > 0)) {
+            throw new IllegalArgumentException("Frequency of '" + word + "' must be positive: " + frequency);
+        }
+        Entry existing = entries.get(word);
+        if (existing != null) {
+            existing.frequency += frequency;
+        } else {
+            entries.put(word, new Entry(word, frequency, difficulty));
+        }
+    }
+
+    /**
+     * Adds every word of a text file
+     *
+     * @param file One word per line, optionally followed by frequency and difficulty
+     * @throws IOException If the file cannot be read
+     * @throws IllegalArgumentException If a line cannot be parsed
+     */
+    public void addFile(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+                String[] fields = line.split("\\s+");
+                try {
+                    double frequency = fields.length > 1 ? Double.parseDouble(fields[1]) : 1;
+                    double difficulty = fields.length > 2
+                            ? Double.parseDouble(fields[2])
+                            : estimateDifficulty(fields[0]);
+                    add(fields[0], frequency, difficulty);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(file + ":" + lineNumber + ": " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private WordCorpus.Tier tierOf(Entry entry) {
+        if (entry.difficulty < easyMax) return WordCorpus.Tier.EASY;
+        if (entry.difficulty < mediumMax) return WordCorpus.Tier.MEDIUM;
+        return WordCorpus.Tier.HARD;
+    }
+
+    /**
+     * Writes the dictionary, replacing the file in one step once it is complete
+     *
+     * @param output The dictionary file
+     * @throws IOException If the file cannot be written
+     * @throws IllegalStateException If a tier would have no words
+     */
+    public void write(Path output) throws IOException {
+        List<List<Entry>> tiers = new ArrayList<>();
+        for (int t = 0; t < MappedDictionary.TIER_COUNT; t++) {
+            tiers.add(new ArrayList<>());
+        }
+        long dataSize = 0;
+        int maxWordBytes = 0;
+        for (Entry entry : entries.values()) {
+            tiers.get(tierOf(entry).ordinal()).add(entry);
+            dataSize += entry.bytes.length;
+            maxWordBytes = Math.max(maxWordBytes, entry.bytes.length);
+        }
+        for (WordCorpus.Tier tier : WordCorpus.Tier.values()) {
+            if (tiers.get(tier.ordinal()).isEmpty()) {
+                throw new IllegalStateException("No " + tier.name().toLowerCase(Locale.ROOT)
+                        + " words; adjust --easy-max or --medium-max");
+            }
+        }
+        if (MappedDictionary.HEADER_BYTES + (long) entries.size() * MappedDictionary.ENTRY_BYTES + dataSize
+                > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Dictionary would be larger than 2 GB");
+        }
+
+        Path absolute = output.toAbsolutePath();
+        Path temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MappedDictionary.MAGIC);
+                out.writeInt(MappedDictionary.VERSION);
+                out.writeInt(entries.size());
+                out.writeInt(maxWordBytes);
+                out.writeInt((int) dataSize);
+                int start = 0;
+                for (List<Entry> tier : tiers) {
+                    out.writeInt(start);
+                    start += tier.size();
+                }
+                out.writeInt(start);
+
+                int offset = 0;
+                for (List<Entry> tier : tiers) {
+                    tier.sort(Comparator.comparingDouble((Entry entry) -> entry.frequency).reversed());
+                    float[] probability = new float[tier.size()];
+                    int[] alias = new int[tier.size()];
+                    buildAliasTable(tier, probability, alias);
+                    for (int i = 0; i < tier.size(); i++) {
+                        Entry entry = tier.get(i);
+                        out.writeInt(offset);
+                        out.writeFloat((float) entry.frequency);
+                        out.writeFloat((float) entry.difficulty);
+                        out.writeFloat(probability[i]);
+                        out.writeInt(alias[i]);
+                        offset += entry.bytes.length;
+                    }
+                }
+                for (List<Entry> tier : tiers) {
+                    for (Entry entry : tier) {
+                        out.write(entry.bytes);
+                    }
+                }
+            }
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Builds a Walker alias table with Vose's method: slot i keeps its own word with
+     * probability[i] and hands over to word alias[i] otherwise
+     */
+    private static void buildAliasTable(List<Entry> tier, float[] probability, int[] alias) {
+        int n = tier.size();
+        double total = 0;
+        for (Entry entry : tier) {
+            total += entry.frequency;
+        }
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = tier.get(i).frequency * n / total;
+            if (scaled[i] < 1) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = (float) scaled[less];
+            alias[less] = more;
+            scaled[more] += scaled[less] - 1;
+            if (scaled[more] < 1) small[smallCount++] = more;
+            else large[largeCount++] = more;
+        }
+        // Whatever is left is full up to rounding error
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1;
+            alias[i] = i;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path output = null;
+        double easyMax = DEFAULT_EASY_MAX;
+        double mediumMax = DEFAULT_MEDIUM_MAX;
+        List<Path> inputs = new ArrayList<>();
+
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            String value = parts.length > 1 ? parts[1] : "";
+            switch (parts[0]) {
+                case "--output" -> output = Path.of(value);
+                case "--easy-max" -> easyMax = Double.parseDouble(value);
+                case "--medium-max" -> mediumMax = Double.parseDouble(value);
+                default -> {
+                    if (arg.startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + arg);
+                    }
+                    inputs.add(Path.of(arg));
+                }
+            }
+        }
+        if (output == null || inputs.isEmpty()) {
+            System.err.println("Usage: MappedDictionaryBuilder --output=words.twd [--easy-max=" + DEFAULT_EASY_MAX
+                    + "] [--medium-max=" + DEFAULT_MEDIUM_MAX + "] input.txt...");
+            System.exit(2);
+        }
+
+        long start = System.nanoTime();
+        MappedDictionaryBuilder builder = new MappedDictionaryBuilder(easyMax, mediumMax);
+        for (Path input : inputs) {
+            builder.addFile(input);
+        }
+        builder.write(output);
+
+        MappedDictionary dictionary = MappedDictionary.open(output);
+        System.out.printf(Locale.ROOT, "Wrote %d words (%d easy, %d medium, %d hard), %d bytes, to %s in %d ms%n",
+                dictionary.size(),
+                dictionary.size(WordCorpus.Tier.EASY),
+                dictionary.size(WordCorpus.Tier.MEDIUM),
+                dictionary.size(WordCorpus.Tier.HARD),
+                Files.size(output), output, (System.nanoTime() - start) / 1_000_000);
+    }
+}
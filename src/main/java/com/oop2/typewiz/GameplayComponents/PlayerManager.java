@@ -1,20 +1,20 @@
 package com.oop2.typewiz.GameplayComponents;
 
+import com.oop2.typewiz.util.GameLogger;
 import com.oop2.typewiz.util.SoundManager;
-import javafx.scene.text.Text;
-import java.util.ArrayList;
-import java.util.List;
-import javafx.scene.paint.Color;
-import javafx.scene.layout.VBox;
 
 /**
  * Manages player state including health, score, and typing statistics.
  */
 public class PlayerManager {
+    private static final GameLogger LOG = GameLogger.getLogger(PlayerManager.class);
 
     private static final int MAX_HEALTH = 100;
     private static final int HEALTH_LOSS_PER_MISS = 20;
     private static final int STATS_UPDATE_INTERVAL = 5000; // 5 seconds
+    private static final int MIN_KEYSTROKE_TIMING = 20;    // Faster than this is likely a system delay
+    private static final int MAX_KEYSTROKE_TIMING = 2000;  // Slower than this is likely a pause
+    private static final int HISTORY_CAPACITY = 160;       // Points per series, about two pixels each on the end-of-game graph
 
     private int playerHealth;
     private int score;
@@ -28,15 +28,13 @@ public class PlayerManager {
     private long typingStartTime;
     private long totalTypingTime;
     private long lastStatsUpdate;
-    private List<Double> wpmOverTime;
-    private List<Double> accuracyOverTime;
-    private List<Long> keystrokeTimings;
+    private final TimeSeriesBuffer wpmOverTime;
+    private final TimeSeriesBuffer accuracyOverTime;
+    private final KeystrokeStatistics keystrokeTimings;
     private long lastKeystrokeTime;
 
-    // UI references
-    private Text healthText;
-    private Text scoreText;
-    private VBox healthDisplay;
+    // UI reference
+    private GameHud hud;
 
     /**
      * Creates a new PlayerManager with default values
@@ -51,11 +49,11 @@ public class PlayerManager {
         this.incorrectKeystrokes = 0;
         this.totalCharactersTyped = 0;
         this.totalWords = 0;
-        this.typingStartTime = System.currentTimeMillis();
+        this.typingStartTime = GameEnvironment.get().currentTimeMillis();
         this.lastStatsUpdate = typingStartTime;
-        this.wpmOverTime = new ArrayList<>();
-        this.accuracyOverTime = new ArrayList<>();
-        this.keystrokeTimings = new ArrayList<>();
+        this.wpmOverTime = new TimeSeriesBuffer(HISTORY_CAPACITY);
+        this.accuracyOverTime = new TimeSeriesBuffer(HISTORY_CAPACITY);
+        this.keystrokeTimings = new KeystrokeStatistics(MIN_KEYSTROKE_TIMING, MAX_KEYSTROKE_TIMING);
         this.lastKeystrokeTime = 0;
     }
 
@@ -87,31 +85,13 @@ public class PlayerManager {
     }
 
     /**
-     * Sets the health text UI element
+     * Sets the HUD that shows health and score
      *
-     * @param healthText The health text UI element
+     * @param hud The game HUD
      */
-    public void setHealthText(Text healthText) {
-        this.healthText = healthText;
-    }
-
-    /**
-     * Sets the health display VBox
-     *
-     * @param healthDisplay The health display VBox
-     */
-    public void setHealthDisplay(VBox healthDisplay) {
-        this.healthDisplay = healthDisplay;
-    }
-
-    /**
-     * Sets the score text UI element
-     *
-     * @param scoreText The score text UI element
-     */
-    public void setScoreText(Text scoreText) {
-        this.scoreText = scoreText;
-        updateScoreText();
+    public void setHud(GameHud hud) {
+        this.hud = hud;
+        updateHud();
     }
 
     /**
@@ -127,23 +107,9 @@ public class PlayerManager {
             SoundManager.getInstance().playDamage();
         }
 
-        // Update health text if available
-        if (healthText != null) {
-            healthText.setText(playerHealth + "/" + MAX_HEALTH);
-
-            // Also update the health color to make it more visible when damage is taken
-            healthText.setFill(playerHealth > 60 ? Color.WHITE :
-                    playerHealth > 30 ? Color.YELLOW : Color.RED);
-        } else {
-            System.out.println("WARNING: healthText is null, cannot update display");
-        }
-
         // Update the health bar visually
-        if (healthDisplay != null) {
-            UIFactory.updateHealthBar(healthDisplay, playerHealth);
-            System.out.println("Updated health bar to: " + playerHealth);
-        } else {
-            System.out.println("WARNING: healthDisplay is null, cannot update health bar");
+        if (hud != null) {
+            hud.setHealth(playerHealth);
         }
 
         return playerHealth > 0;
@@ -155,15 +121,9 @@ public class PlayerManager {
     public void resetHealth() {
         playerHealth = MAX_HEALTH;
 
-        // Update health display
-        if (healthText != null) {
-            healthText.setText(playerHealth + "/" + MAX_HEALTH);
-            healthText.setFill(Color.WHITE);
-        }
-
         // Update the health bar
-        if (healthDisplay != null) {
-            UIFactory.updateHealthBar(healthDisplay, playerHealth);
+        if (hud != null) {
+            hud.setHealth(playerHealth);
         }
     }
 
@@ -174,18 +134,21 @@ public class PlayerManager {
      */
     public void addScore(int points) {
         score += points;
-        updateScoreText();
+        if (hud != null) {
+            hud.setScore(score);
+        }
 
         // Play a sound for score increase
         SoundManager.getInstance().playButtonClick(); // Use click for now, can add specific score sound later
     }
 
     /**
-     * Updates the score text UI element
+     * Sends the current health and score to the HUD
      */
-    private void updateScoreText() {
-        if (scoreText != null) {
-            scoreText.setText(Integer.toString(score));
+    private void updateHud() {
+        if (hud != null) {
+            hud.setHealth(playerHealth);
+            hud.setScore(score);
         }
     }
 
@@ -197,20 +160,11 @@ public class PlayerManager {
      */
     public void recordKeystroke(char typedChar, boolean isCorrect) {
         // Update keystroke timing for consistency calculation
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameEnvironment.get().currentTimeMillis();
         if (lastKeystrokeTime > 0) {
-            long timeDiff = currentTime - lastKeystrokeTime;
-
-            // Only record timings that are within reasonable range (20ms to 2000ms)
-            // Skip if too fast or too slow (likely pause or system delay)
-            if (timeDiff >= 20 && timeDiff <= 2000) {
-                keystrokeTimings.add(timeDiff);
-                System.out.println("DEBUG - Added keystroke timing: " + timeDiff + " ms, total timings: " + keystrokeTimings.size());
-            } else {
-                System.out.println("DEBUG - Skipped outlier keystroke timing: " + timeDiff + " ms (outside 20-2000ms range)");
-            }
+            recordKeystrokeTiming(currentTime - lastKeystrokeTime);
         } else {
-            System.out.println("DEBUG - First keystroke, no timing recorded yet");
+            LOG.debug("DEBUG - First keystroke, no timing recorded yet");
         }
         lastKeystrokeTime = currentTime;
 
@@ -228,13 +182,28 @@ public class PlayerManager {
         updateTypingStats();
     }
 
+    /**
+     * Records the time between two keystrokes for the consistency calculation
+     *
+     * @param timeDiff Milliseconds since the previous keystroke
+     */
+    void recordKeystrokeTiming(long timeDiff) {
+        // Only record timings that are within reasonable range (20ms to 2000ms)
+        // Skip if too fast or too slow (likely pause or system delay)
+        if (keystrokeTimings.add(timeDiff)) {
+            LOG.debug(() -> "DEBUG - Added keystroke timing: " + timeDiff + " ms, total timings: " + keystrokeTimings.getCount());
+        } else {
+            LOG.debug(() -> "DEBUG - Skipped outlier keystroke timing: " + timeDiff + " ms (outside 20-2000ms range)");
+        }
+    }
+
     /**
      * Completely resets keystroke timings (for menu option to reset statistics)
      */
     public void resetKeystrokeTimings() {
         keystrokeTimings.clear();
         lastKeystrokeTime = 0;
-        System.out.println("Completely reset all keystroke timings");
+        LOG.debug("Completely reset all keystroke timings");
     }
 
     /**
@@ -271,7 +240,7 @@ public class PlayerManager {
      * @param force Whether to force update regardless of time interval
      */
     private void updateTypingStats(boolean force) {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameEnvironment.get().currentTimeMillis();
 
         // Only update stats periodically to avoid overhead, unless forced
         if (!force && currentTime - lastStatsUpdate < STATS_UPDATE_INTERVAL) {
@@ -341,81 +310,74 @@ public class PlayerManager {
      */
     public double calculateConsistency() {
         // Debug the content of keystroke timings
-        System.out.println("==== CONSISTENCY CALCULATION ====");
-        System.out.println("Total keystroke timings: " + keystrokeTimings.size());
+        LOG.debug("==== CONSISTENCY CALCULATION ====");
+        LOG.debug(() -> "Total keystroke timings: " + keystrokeTimings.getCount());
 
         // If less than 2 keystroke timings, return 0
-        if (keystrokeTimings.size() < 2) {
-            System.out.println("Not enough keystroke timings, need at least 2");
+        if (keystrokeTimings.getCount() < 2) {
+            LOG.debug("Not enough keystroke timings, need at least 2");
             return 0;
         }
 
         // Filter out any extreme outliers (e.g., pauses, breaks)
-        List<Long> filteredTimings = new ArrayList<>(keystrokeTimings);
-        // If there are more than 10 timings, remove the top 10% (likely outliers)
-        if (filteredTimings.size() > 10) {
-            filteredTimings.sort(Long::compare);
-            int removeCount = filteredTimings.size() / 10;
-            if (removeCount > 0) {
-                // Remove the highest values (likely pauses or breaks)
-                filteredTimings = filteredTimings.subList(0, filteredTimings.size() - removeCount);
-                System.out.println("Removed " + removeCount + " outliers, remaining: " + filteredTimings.size());
-            }
-        }
+        // If there are more than 10 timings, leave out the top 10% (likely outliers)
+        long removeCount = keystrokeTimings.getCount() > 10 ? keystrokeTimings.getCount() / 10 : 0;
+        KeystrokeStatistics.Summary filteredTimings = keystrokeTimings.withoutHighest(removeCount);
+        LOG.debug(() -> "Removed " + removeCount + " outliers above " + keystrokeTimings.getValueAtQuantile(0.9)
+                + " ms, remaining: " + filteredTimings.getCount());
 
         // Calculate standard deviation of keystroke timings
-        double mean = filteredTimings.stream().mapToLong(Long::valueOf).average().getAsDouble();
-        System.out.println("Mean keystroke timing: " + mean + " ms");
+        double mean = filteredTimings.getMean();
+        LOG.debug(() -> "Mean keystroke timing: " + mean + " ms");
 
         // Check for extremely small or zero mean - could cause division by zero
         if (mean < 1.0) {
-            System.out.println("Mean is too small, can't calculate consistency accurately");
+            LOG.debug("Mean is too small, can't calculate consistency accurately");
             return 0.0;
         }
 
-        double variance = filteredTimings.stream()
-                .mapToDouble(timing -> Math.pow(timing - mean, 2))
-                .average()
-                .getAsDouble();
-        System.out.println("Variance: " + variance);
+        double variance = filteredTimings.getVariance();
+        LOG.debug(() -> "Variance: " + variance);
 
         double stdDev = Math.sqrt(variance);
-        System.out.println("Standard deviation: " + stdDev);
+        LOG.debug(() -> "Standard deviation: " + stdDev);
 
         // Calculate coefficient of variation (lower is more consistent)
         double cv = stdDev / mean;
-        System.out.println("Coefficient of variation: " + cv);
+        LOG.debug(() -> "Coefficient of variation: " + cv);
 
         // Convert to a percentage (100% = perfect consistency, 0% = terrible)
         // Cap at 100% for very consistent typing
         // Ensure we don't return exactly 0.0 if we have valid data
         double consistencyPercentage = Math.max(0.1, Math.min(100, (1 - cv) * 100));
-        if (consistencyPercentage < 1.0 && filteredTimings.size() >= 5) {
+        if (consistencyPercentage < 1.0 && filteredTimings.getCount() >= 5) {
             // If we have enough data but still get a very low value, set a minimum
             consistencyPercentage = 1.0;
         }
-        System.out.println("Consistency percentage: " + consistencyPercentage + "%");
-        System.out.println("==== END CONSISTENCY CALCULATION ====");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Consistency percentage: " + consistencyPercentage + "%");
+        }
+        LOG.debug("==== END CONSISTENCY CALCULATION ====");
 
         return consistencyPercentage;
     }
 
     /**
-     * Gets the WPM over time history
+     * Gets the WPM over time history. The series is live and is cleared on reset.
      *
-     * @return List of WPM measurements over time
+     * @return WPM measurements over time
      */
-    public List<Double> getWpmOverTime() {
-        return new ArrayList<>(wpmOverTime);
+    public TimeSeriesBuffer getWpmOverTime() {
+        return wpmOverTime;
     }
 
     /**
-     * Gets the accuracy over time history
+     * Gets the accuracy over time history. The series is live and is cleared on reset.
      *
-     * @return List of accuracy measurements over time
+     * @return Accuracy measurements over time
      */
-    public List<Double> getAccuracyOverTime() {
-        return new ArrayList<>(accuracyOverTime);
+    public TimeSeriesBuffer getAccuracyOverTime() {
+        return accuracyOverTime;
     }
 
     /**
@@ -442,17 +404,18 @@ public class PlayerManager {
      * @return The number of keystroke timings recorded
      */
     public int getKeystrokeTimingsSize() {
-        return keystrokeTimings.size();
+        return (int) keystrokeTimings.getCount();
     }
 
     /**
      * Dumps the current keystroke timings for debugging purposes
      */
     public void dumpKeystrokeTimings() {
-        System.out.println("DEBUG - All keystroke timings:");
-        for (int i = 0; i < keystrokeTimings.size(); i++) {
-            System.out.println("  Timing " + i + ": " + keystrokeTimings.get(i) + " ms");
+        if (!LOG.isDebugEnabled()) {
+            return;
         }
+        LOG.debug("All keystroke timings:");
+        keystrokeTimings.forEachValue((timing, count) -> LOG.debug("  " + timing + " ms: " + count + " times"));
     }
 
     /**
@@ -464,14 +427,7 @@ public class PlayerManager {
         score = 0;
 
         // Update the UI
-        updateScoreText();
-        if (healthText != null) {
-            healthText.setText(playerHealth + "/" + MAX_HEALTH);
-            healthText.setFill(Color.WHITE);
-        }
-        if (healthDisplay != null) {
-            UIFactory.updateHealthBar(healthDisplay, playerHealth);
-        }
+        updateHud();
 
         // Reset typing stats, BUT preserve keystroke timings for consistency calculation
         totalKeystrokes = 0;
@@ -479,7 +435,7 @@ public class PlayerManager {
         incorrectKeystrokes = 0;
         totalCharactersTyped = 0;
         totalWords = 0;
-        typingStartTime = System.currentTimeMillis();
+        typingStartTime = GameEnvironment.get().currentTimeMillis();
         lastStatsUpdate = typingStartTime;
         wpmOverTime.clear();
         accuracyOverTime.clear();
@@ -489,7 +445,7 @@ public class PlayerManager {
         // keystroke after restart
         lastKeystrokeTime = 0;
 
-        System.out.println("PlayerManager reset complete - health: " + playerHealth + ", score: " + score);
-        System.out.println("Kept " + keystrokeTimings.size() + " keystroke timings for consistency calculation");
+        LOG.debug(() -> "PlayerManager reset complete - health: " + playerHealth + ", score: " + score);
+        LOG.debug(() -> "Kept " + keystrokeTimings.getCount() + " keystroke timings for consistency calculation");
     }
 } 
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.almasb.fxgl.entity.Entity;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+
+import java.util.Random;
+
+/**
+ * Simulated player for headless runs. Types the selected word at a fixed speed,
+ * misses a key now and then, and presses space once a word is fully typed.
+ * Keys go through the same handlers the FXGL input would call.
+ */
+public class ScriptedTypist {
+    private static final String WRONG_KEYS = "qwertyuiopasdfghjklzxcvbnm";
+
+    private final InputManager inputManager;
+    private final Random random;
+    private final double keyInterval; // Seconds between keystrokes
+    private final double accuracy;
+    private double untilNextKey;
+    private int keystrokes;
+
+    /**
+     * Creates a typist
+     *
+     * @param inputManager The input manager that receives the keys
+     * @param wordsPerMinute Typing speed, counting five keystrokes per word
+     * @param accuracy Chance from 0 to 1 that a keystroke is correct
+     * @param seed Seed for the mistakes, so runs are repeatable
+     */
+    public ScriptedTypist(InputManager inputManager, double wordsPerMinute, double accuracy, long seed) {
+        this.inputManager = inputManager;
+        this.random = new Random(seed);
+        this.keyInterval = 60.0 / (wordsPerMinute * 5);
+        this.accuracy = accuracy;
+        this.untilNextKey = keyInterval;
+    }
+
+    /**
+     * Presses every key that falls within this frame
+     *
+     * @param tpf Simulated seconds in this frame
+     */
+    public void update(double tpf) {
+        untilNextKey -= tpf;
+        while (untilNextKey <= 0) {
+            pressNextKey();
+            untilNextKey += keyInterval;
+        }
+    }
+
+    /**
+     * Gets the number of keys pressed so far
+     *
+     * @return The keystroke count
+     */
+    public int getKeystrokes() {
+        return keystrokes;
+    }
+
+    private void pressNextKey() {
+        Entity target = inputManager.getSelectedWordBlock();
+        if (target == null) {
+            // Look for something to type, like a player pressing shift
+            inputManager.cycleToNextWordBlock();
+            target = inputManager.getSelectedWordBlock();
+            if (target == null) {
+                return;
+            }
+        }
+
+        String word = target.getString("word");
+        int typed = inputManager.getCurrentInputLength();
+        keystrokes++;
+        if (typed >= word.length()) {
+            inputManager.handleKeyPressed(new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.SPACE,
+                    false, false, false, false));
+            return;
+        }
+
+        char next = word.charAt(typed);
+        if (random.nextDouble() >= accuracy) {
+            char wrong = WRONG_KEYS.charAt(random.nextInt(WRONG_KEYS.length()));
+            next = wrong == next ? WRONG_KEYS.charAt((WRONG_KEYS.indexOf(wrong) + 1) % WRONG_KEYS.length()) : wrong;
+        }
+        inputManager.handleKeyTyped(new KeyEvent(KeyEvent.KEY_TYPED, String.valueOf(next), "", KeyCode.UNDEFINED,
+                false, false, false, false));
+    }
+}
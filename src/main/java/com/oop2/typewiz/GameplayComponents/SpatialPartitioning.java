@@ -5,81 +5,152 @@ import javafx.geometry.Rectangle2D;
 
 import java.util.*;
 
+/**
+ * Uniform grid over the screen used to look up entities by area.
+ * Cells are stored in a flat array indexed by column and row, with one ring of
+ * padding cells around the screen so entities sliding in or out stay tracked.
+ */
 public class SpatialPartitioning {
+    private static final double PADDING = 100; // Extra tracked area around the screen for smooth transitions
+
     private final int cellSize;
-    private final Map<Long, Set<Entity>> grid;
+    private final int columns;
+    private final int rows;
+    private final List<Entity>[] cells;
+    // Reverse index so an entity's current cell can be found without scanning the grid
+    private final Map<Entity, CellSlot> entityCells;
+    private final List<Entity> visibleEntities;
     private final Rectangle2D bounds;
     private final double screenWidth;
     private final double screenHeight;
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public SpatialPartitioning(int cellSize, double screenWidth, double screenHeight) {
         this.cellSize = cellSize;
-        this.grid = new HashMap<>();
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
         this.bounds = new Rectangle2D(0, 0, screenWidth, screenHeight);
+
+        // Size the grid to cover the screen plus the padding on every side
+        this.columns = (int) Math.ceil((screenWidth + PADDING * 2) / cellSize) + 1;
+        this.rows = (int) Math.ceil((screenHeight + PADDING * 2) / cellSize) + 1;
+        this.cells = new List[columns * rows];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new ArrayList<>(4);
+        }
+
+        this.entityCells = new HashMap<>();
+        this.visibleEntities = new ArrayList<>();
+    }
+
+    private int getColumn(double x) {
+        int column = (int) ((x + PADDING) / cellSize);
+        return Math.max(0, Math.min(columns - 1, column));
     }
 
-    private long getCellKey(double x, double y) {
-        int cellX = (int) (x / cellSize);
-        int cellY = (int) (y / cellSize);
-        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    private int getRow(double y) {
+        int row = (int) ((y + PADDING) / cellSize);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+
+    private int getCellIndex(double x, double y) {
+        return getColumn(x) * rows + getRow(y);
     }
 
     public void updateEntity(Entity entity) {
-        // Remove entity from all cells first
-        removeEntity(entity);
-
-        // Only add if entity is within screen bounds
-        if (isEntityVisible(entity)) {
-            double x = entity.getX();
-            double y = entity.getY();
-            long key = getCellKey(x, y);
-            grid.computeIfAbsent(key, k -> new HashSet<>()).add(entity);
+        // Entities outside the padded screen area are not tracked
+        if (!isEntityVisible(entity)) {
+            removeEntity(entity);
+            return;
+        }
+
+        int index = getCellIndex(entity.getX(), entity.getY());
+        CellSlot slot = entityCells.get(entity);
+        if (slot == null) {
+            slot = new CellSlot();
+            entityCells.put(entity, slot);
+        }
+
+        // Nothing to do if the entity is still in the same cell
+        if (slot.index == index) {
+            return;
+        }
+
+        // Move the entity from its old cell (if any) to the new one
+        if (slot.index >= 0) {
+            cells[slot.index].remove(entity);
         }
+        cells[index].add(entity);
+        slot.index = index;
     }
 
     private boolean isEntityVisible(Entity entity) {
         double x = entity.getX();
         double y = entity.getY();
-        return x >= -100 && x <= screenWidth + 100 && // Add some padding for smooth transitions
-               y >= -100 && y <= screenHeight + 100;
+        return x >= -PADDING && x <= screenWidth + PADDING &&
+               y >= -PADDING && y <= screenHeight + PADDING;
     }
 
     public void removeEntity(Entity entity) {
-        // Remove entity from all cells
-        grid.values().forEach(cell -> cell.remove(entity));
+        // Only the cell the entity is indexed under needs to be touched.
+        // The slot itself is kept since pooled entities come back later.
+        CellSlot slot = entityCells.get(entity);
+        if (slot != null && slot.index >= 0) {
+            cells[slot.index].remove(entity);
+            slot.index = -1;
+        }
     }
 
-    public List<Entity> getEntitiesInArea(Rectangle2D area) {
-        Set<Entity> result = new HashSet<>();
-        
-        // Calculate cell range
-        int startX = (int) (area.getMinX() / cellSize);
-        int startY = (int) (area.getMinY() / cellSize);
-        int endX = (int) (area.getMaxX() / cellSize);
-        int endY = (int) (area.getMaxY() / cellSize);
-
-        // Check all cells in range
+    /**
+     * Collects all entities in cells overlapping the given area into the supplied list.
+     * The list is not cleared first, so callers can accumulate several queries.
+     *
+     * @param area The area to query
+     * @param result The list to add matching entities to
+     */
+    public void getEntitiesInArea(Rectangle2D area, List<Entity> result) {
+        // Calculate cell range, clamped to the grid
+        int startX = getColumn(area.getMinX());
+        int startY = getRow(area.getMinY());
+        int endX = getColumn(area.getMaxX());
+        int endY = getRow(area.getMaxY());
+
+        // Each entity lives in exactly one cell, so no de-duplication is needed
         for (int x = startX; x <= endX; x++) {
+            int columnOffset = x * rows;
             for (int y = startY; y <= endY; y++) {
-                long key = ((long) x << 32) | (y & 0xFFFFFFFFL);
-                Set<Entity> cell = grid.get(key);
-                if (cell != null) {
-                    result.addAll(cell);
+                List<Entity> cell = cells[columnOffset + y];
+                for (int i = 0; i < cell.size(); i++) {
+                    result.add(cell.get(i));
                 }
             }
         }
+    }
 
-        return new ArrayList<>(result);
+    public List<Entity> getEntitiesInArea(Rectangle2D area) {
+        List<Entity> result = new ArrayList<>();
+        getEntitiesInArea(area, result);
+        return result;
     }
 
+    /**
+     * Gets the entities currently on screen.
+     * The returned list is reused between calls and only valid until the next call.
+     *
+     * @return List of visible entities
+     */
     public List<Entity> getVisibleEntities() {
-        return getEntitiesInArea(bounds);
+        visibleEntities.clear();
+        getEntitiesInArea(bounds, visibleEntities);
+        return visibleEntities;
     }
 
     public void clear() {
-        grid.clear();
+        for (List<Entity> cell : cells) {
+            cell.clear();
+        }
+        entityCells.clear();
+        visibleEntities.clear();
     }
 
     public void batchUpdate(List<Entity> entities) {
@@ -87,4 +158,11 @@ public class SpatialPartitioning {
             updateEntity(entity);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Mutable holder for the cell index of a tracked entity
+     */
+    private static final class CellSlot {
+        int index = -1;
+    }
+}
@@ -27,9 +27,6 @@ public class StatsUIFactory {
     // Keep track of all the consistency of typing (time between keystrokes)
     private static List<Long> keystrokeTimings = new ArrayList<>();
     private static long lastKeystrokeTime = 0;
-    // Make these fields static so they can be accessed in static methods
-    private static List<Double> wpmOverTime = new ArrayList<>();
-    private static List<Double> accuracyOverTime = new ArrayList<>();
 
     // Add UI theme colors for a cooler look
     private static final Color UI_PRIMARY_COLOR = Color.rgb(70, 130, 230);     // Cool blue
@@ -58,22 +55,6 @@ public class StatsUIFactory {
         totalCharactersTyped = count;
         System.out.println("StatsUIFactory: Set total characters typed to " + count);
     }
-    
-    public static void setWpmData(List<Double> data) {
-        wpmOverTime.clear();
-        if (data != null) {
-            wpmOverTime.addAll(data);
-            System.out.println("StatsUIFactory: Set WPM data with " + data.size() + " entries");
-        }
-    }
-    
-    public static void setAccuracyData(List<Double> data) {
-        accuracyOverTime.clear();
-        if (data != null) {
-            accuracyOverTime.addAll(data);
-            System.out.println("StatsUIFactory: Set accuracy data with " + data.size() + " entries");
-        }
-    }
 
     public static VBox createStatsPanel(double wpm, double rawWpm, double accuracy, double consistency) {
         // Create stylish stats panel
@@ -182,7 +163,15 @@ public class StatsUIFactory {
     }
 
 
-    public static javafx.scene.canvas.Canvas createTypingGraph() {
+    /**
+     * Draws WPM and accuracy over the game. Each point of a series is drawn once, with
+     * a band from its min to its max when it covers several samples, so drawing costs
+     * the same however long the game lasted.
+     * @param wpmOverTime WPM history
+     * @param accuracyOverTime Accuracy history in percent
+     * @return The graph canvas
+     */
+    public static javafx.scene.canvas.Canvas createTypingGraph(TimeSeriesBuffer wpmOverTime, TimeSeriesBuffer accuracyOverTime) {
         // Create canvas for graph
         javafx.scene.canvas.Canvas canvas = new javafx.scene.canvas.Canvas(400, 300);
         javafx.scene.canvas.GraphicsContext gc = canvas.getGraphicsContext2D();
@@ -197,7 +186,7 @@ public class StatsUIFactory {
         gc.strokeRect(0, 0, 400, 300);
 
         // Check if we have data to display
-        if (wpmOverTime.isEmpty() || accuracyOverTime.isEmpty()) {
+        if (wpmOverTime == null || accuracyOverTime == null || wpmOverTime.isEmpty() || accuracyOverTime.isEmpty()) {
             // No data, draw placeholder text
             gc.setFill(Color.WHITE);
             gc.setFont(Font.font(FONT_FAMILY, 16));
@@ -216,11 +205,7 @@ public class StatsUIFactory {
         gc.fillText("Time", 185, 290);
 
         // Calculate max WPM for scaling
-        double maxWPM = 0;
-        for (Double wpm : wpmOverTime) {
-            maxWPM = Math.max(maxWPM, wpm);
-        }
-        maxWPM = Math.max(maxWPM, 100); // Minimum scale of 100 WPM
+        double maxWPM = Math.max(wpmOverTime.getMaxValue(), 100); // Minimum scale of 100 WPM
 
         // Calculate padding and scale
         int padding = 40;
@@ -260,15 +245,40 @@ public class StatsUIFactory {
         gc.setLineDashes(0);
 
         // Draw WPM line
-        gc.setStroke(GRAPH_LINE_COLOR);
-        gc.setLineWidth(2);
-        double xStep = (double) graphWidth / (wpmOverTime.size() - 1);
+        drawSeries(gc, wpmOverTime, GRAPH_LINE_COLOR, padding, graphWidth, graphHeight / maxWPM);
+
+        // Draw accuracy line if we have enough data points
+        if (accuracyOverTime.size() > 1) {
+            drawSeries(gc, accuracyOverTime, STAT_GOOD_COLOR, padding, graphWidth, graphHeight / 100.0);
+        }
+
+        return canvas;
+    }
+
+    /**
+     * Draws one series as a line through the bucket averages
+     */
+    private static void drawSeries(javafx.scene.canvas.GraphicsContext gc, TimeSeriesBuffer series, Color color,
+                                   int padding, int graphWidth, double yScale) {
+        int points = series.size();
+        double xStep = points > 1 ? (double) graphWidth / (points - 1) : 0;
+
+        // Shade the spread of downsampled points
+        gc.setStroke(color.deriveColor(0, 1, 1, 0.35));
+        gc.setLineWidth(Math.max(1, Math.min(xStep, 4)));
+        for (int i = 0; i < points; i++) {
+            if (series.getCount(i) > 1) {
+                double x = padding + i * xStep;
+                gc.strokeLine(x, 260 - series.getMin(i) * yScale, x, 260 - series.getMax(i) * yScale);
+            }
+        }
 
+        gc.setStroke(color);
+        gc.setLineWidth(2);
         gc.beginPath();
-        for (int i = 0; i < wpmOverTime.size(); i++) {
-            double wpm = wpmOverTime.get(i);
+        for (int i = 0; i < points; i++) {
             double x = padding + i * xStep;
-            double y = 260 - (wpm / maxWPM) * graphHeight;
+            double y = 260 - series.getAverage(i) * yScale;
 
             if (i == 0) {
                 gc.moveTo(x, y);
@@ -278,48 +288,15 @@ public class StatsUIFactory {
         }
         gc.stroke();
 
-        // Draw small circles at data points
-        for (int i = 0; i < wpmOverTime.size(); i++) {
-            double wpm = wpmOverTime.get(i);
-            double x = padding + i * xStep;
-            double y = 260 - (wpm / maxWPM) * graphHeight;
-
-            gc.setFill(GRAPH_LINE_COLOR);
-            gc.fillOval(x - 3, y - 3, 6, 6);
-        }
-
-        // Draw accuracy line if we have enough data points
-        if (accuracyOverTime.size() > 1) {
-            gc.setStroke(STAT_GOOD_COLOR);
-            gc.setLineWidth(2);
-            xStep = (double) graphWidth / (accuracyOverTime.size() - 1);
-
-            gc.beginPath();
-            for (int i = 0; i < accuracyOverTime.size(); i++) {
-                double accuracy = accuracyOverTime.get(i);
-                double x = padding + i * xStep;
-                double y = 260 - (accuracy / 100.0) * graphHeight;
-
-                if (i == 0) {
-                    gc.moveTo(x, y);
-                } else {
-                    gc.lineTo(x, y);
-                }
-            }
-            gc.stroke();
-
-            // Draw small circles at data points
-            for (int i = 0; i < accuracyOverTime.size(); i++) {
-                double accuracy = accuracyOverTime.get(i);
+        // Draw small circles at data points while they are far enough apart to tell apart
+        if (xStep >= 6 || points == 1) {
+            gc.setFill(color);
+            for (int i = 0; i < points; i++) {
                 double x = padding + i * xStep;
-                double y = 260 - (accuracy / 100.0) * graphHeight;
-
-                gc.setFill(STAT_GOOD_COLOR);
+                double y = 260 - series.getAverage(i) * yScale;
                 gc.fillOval(x - 3, y - 3, 6, 6);
             }
         }
-
-        return canvas;
     }
 
     private static Color getColorForWPM(double wpm) {
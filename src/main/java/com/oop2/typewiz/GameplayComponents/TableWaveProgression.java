@@ -0,0 +1,69 @@
+package com.oop2.typewiz.GameplayComponents;
+
+/**
+ * Wave parameters read from per-wave tables, one entry per wave.
+ * Waves past the end of the tables reuse the last entry.
+ */
+public class TableWaveProgression implements WaveProgression {
+    private final int maxWaves;
+    private final int[] waveSpawnsPerWave;
+    private final double[] waveSpeedMultipliers;
+    private final int[] minSpawnsPerGroupByWave;
+    private final int[] maxSpawnsPerGroupByWave;
+    private final double[] spawnDelayMultipliers;
+
+    /**
+     * Creates a progression from tables
+     *
+     * @param maxWaves Maximum number of waves
+     * @param waveSpawnsPerWave Array of wave spawn counts
+     * @param waveSpeedMultipliers Array of wave speed multipliers
+     * @param minSpawnsPerGroupByWave Array of minimum spawns per group
+     * @param maxSpawnsPerGroupByWave Array of maximum spawns per group
+     * @param spawnDelayMultipliers Array of spawn delay multipliers
+     */
+    public TableWaveProgression(int maxWaves, int[] waveSpawnsPerWave, double[] waveSpeedMultipliers,
+                                int[] minSpawnsPerGroupByWave, int[] maxSpawnsPerGroupByWave,
+                                double[] spawnDelayMultipliers) {
+        this.maxWaves = maxWaves;
+        this.waveSpawnsPerWave = waveSpawnsPerWave;
+        this.waveSpeedMultipliers = waveSpeedMultipliers;
+        this.minSpawnsPerGroupByWave = minSpawnsPerGroupByWave;
+        this.maxSpawnsPerGroupByWave = maxSpawnsPerGroupByWave;
+        this.spawnDelayMultipliers = spawnDelayMultipliers;
+    }
+
+    private int index(int wave) {
+        return Math.max(0, Math.min(wave, maxWaves) - 1);
+    }
+
+    @Override
+    public int getMaxWaves() {
+        return maxWaves;
+    }
+
+    @Override
+    public int getSpawnsForWave(int wave) {
+        return waveSpawnsPerWave[index(wave)];
+    }
+
+    @Override
+    public double getSpeedMultiplier(int wave) {
+        return waveSpeedMultipliers[index(wave)];
+    }
+
+    @Override
+    public int getMinGroupSize(int wave) {
+        return minSpawnsPerGroupByWave[index(wave)];
+    }
+
+    @Override
+    public int getMaxGroupSize(int wave) {
+        return maxSpawnsPerGroupByWave[index(wave)];
+    }
+
+    @Override
+    public double getSpawnDelayMultiplier(int wave) {
+        return spawnDelayMultipliers[index(wave)];
+    }
+}
@@ -0,0 +1,137 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-capacity series of samples over time, stored in primitive arrays.
+ * Each point is a bucket holding the min, max and average of one or more consecutive
+ * samples. When the buffer is full, neighbouring buckets are merged in pairs and every
+ * later bucket covers twice as many samples, so the whole session stays visible at a
+ * resolution that never exceeds the capacity and memory never grows.
+ */
+public class TimeSeriesBuffer {
+    private final double[] min;
+    private final double[] max;
+    private final double[] sum;
+    private final int[] count;
+    private int size;
+    private int samplesPerBucket = 1;
+    private long totalSamples;
+    private double maxValue;
+
+    /**
+     * Creates an empty series
+     *
+     * @param capacity Maximum number of points kept; must be even and at least 2
+     */
+    public TimeSeriesBuffer(int capacity) {
+        if (capacity < 2 || capacity % 2 != 0) {
+            throw new IllegalArgumentException("Capacity must be even and at least 2: " + capacity);
+        }
+        min = new double[capacity];
+        max = new double[capacity];
+        sum = new double[capacity];
+        count = new int[capacity];
+    }
+
+    /**
+     * Appends a sample
+     *
+     * @param value The sample
+     */
+    public void add(double value) {
+        maxValue = totalSamples == 0 ? value : Math.max(maxValue, value);
+        totalSamples++;
+
+        // Keep filling the last bucket until it covers as many samples as the others
+        if (size > 0 && count[size - 1] < samplesPerBucket) {
+            int last = size - 1;
+            min[last] = Math.min(min[last], value);
+            max[last] = Math.max(max[last], value);
+            sum[last] += value;
+            count[last]++;
+            return;
+        }
+
+        if (size == min.length) {
+            compact();
+        }
+        min[size] = value;
+        max[size] = value;
+        sum[size] = value;
+        count[size] = 1;
+        size++;
+    }
+
+    /**
+     * Merges neighbouring buckets in pairs, halving the number of points
+     */
+    private void compact() {
+        for (int i = 0; i < size / 2; i++) {
+            int a = i * 2;
+            int b = a + 1;
+            min[i] = Math.min(min[a], min[b]);
+            max[i] = Math.max(max[a], max[b]);
+            sum[i] = sum[a] + sum[b];
+            count[i] = count[a] + count[b];
+        }
+        size /= 2;
+        samplesPerBucket *= 2;
+    }
+
+    public void clear() {
+        Arrays.fill(count, 0);
+        size = 0;
+        samplesPerBucket = 1;
+        totalSamples = 0;
+        maxValue = 0;
+    }
+
+    /**
+     * Gets the number of points, at most the capacity
+     *
+     * @return The number of buckets in use
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getTotalSamples() {
+        return totalSamples;
+    }
+
+    /**
+     * Gets the largest sample ever added
+     *
+     * @return The largest sample, or 0 if there are none
+     */
+    public double getMaxValue() {
+        return maxValue;
+    }
+
+    public double getMin(int index) {
+        return min[index];
+    }
+
+    public double getMax(int index) {
+        return max[index];
+    }
+
+    public double getAverage(int index) {
+        return sum[index] / count[index];
+    }
+
+    /**
+     * Gets the number of samples merged into a point
+     *
+     * @param index The point
+     * @return The number of samples it covers
+     */
+    public int getCount(int index) {
+        return count[index];
+    }
+}
@@ -1,6 +1,5 @@
 package com.oop2.typewiz.GameplayComponents;
 
-import com.almasb.fxgl.app.GameApplication;
 import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.physics.BoundingShape;
@@ -129,6 +128,10 @@ public class UIFactory {
         ((Rectangle)data.getComponent()).setWidth(150 * healthPercentage);
         data.healthText.setText(currentHealth + "/" + data.maxHealth);
 
+        // Make the health text more visible as damage is taken
+        data.healthText.setFill(currentHealth > 60 ? Color.WHITE :
+                currentHealth > 30 ? Color.YELLOW : Color.RED);
+
         // Update color based on health with smoother gradient
         ((Rectangle)data.getComponent()).setFill(getHealthColor(currentHealth, data.maxHealth));
     }
@@ -207,7 +210,7 @@ public class UIFactory {
         waveLabel.setFill(UI_ACCENT_COLOR);
         addTextGlow(waveLabel, UI_SECONDARY_COLOR, 0.4);
 
-        Text waveText = new Text(initialWave + "/" + maxWaves);
+        Text waveText = new Text(formatWave(initialWave, maxWaves));
         waveText.setFont(Font.font(FONT_FAMILY, FontWeight.BOLD, 22));  // Smaller font
         waveText.setFill(UI_TEXT_SECONDARY);
         addTextGlow(waveText, UI_SECONDARY_COLOR, 0.4);
@@ -256,7 +259,17 @@ public class UIFactory {
         if (topBar == null || topBar.getUserData() == null) return;
 
         TopBarData data = (TopBarData) topBar.getUserData();
-        data.waveText.setText(wave + "/" + data.maxWaves);
+        data.waveText.setText(formatWave(wave, data.maxWaves));
+    }
+
+    /**
+     * Formats the wave counter, leaving out the total in endless mode
+     * @param wave Current wave
+     * @param maxWaves Number of waves, or {@link WaveProgression#UNLIMITED}
+     * @return Text such as "3/8" or "3"
+     */
+    private static String formatWave(int wave, int maxWaves) {
+        return maxWaves == WaveProgression.UNLIMITED ? Integer.toString(wave) : wave + "/" + maxWaves;
     }
 
     /**
@@ -446,8 +459,12 @@ public class UIFactory {
         performanceText.setFill(UI_TEXT_PRIMARY);
         addTextGlow(performanceText, UI_SECONDARY_COLOR, 0.3);
 
-        performanceDisplay.getChildren().addAll(performanceLabel, performanceBar, performanceText);
-        performanceDisplay.setUserData(new PerformanceData(performanceBar, performanceText));
+        Text latencyText = new Text("Input: -");
+        latencyText.setFont(Font.font(FONT_FAMILY, 12));
+        latencyText.setFill(UI_TEXT_PRIMARY);
+
+        performanceDisplay.getChildren().addAll(performanceLabel, performanceBar, performanceText, latencyText);
+        performanceDisplay.setUserData(new PerformanceData(performanceBar, performanceText, latencyText));
 
         return performanceDisplay;
     }
@@ -482,6 +499,60 @@ public class UIFactory {
         }
     }
 
+    /**
+     * Updates the keystroke latency line of the performance display
+     * @param performanceDisplay The performance display container
+     */
+    public static void updateLatencyDisplay(VBox performanceDisplay) {
+        if (performanceDisplay == null || performanceDisplay.getUserData() == null) return;
+
+        PerformanceData data = (PerformanceData) performanceDisplay.getUserData();
+
+        // Update keystroke latency only when a new keystroke has been timed
+        LatencyHistogram latency = InputLatencyTracker.getInstance().getPulseHistogram();
+        if (latency.getTotalCount() != data.latencyCount) {
+            data.latencyCount = latency.getTotalCount();
+            data.latencyText.setText(data.latencyCount == 0 ? "Input: -" : String.format("Input p50/p99: %.1f/%.1f ms",
+                    latency.getValueAtPercentile(50) / 1000.0, latency.getValueAtPercentile(99) / 1000.0));
+        }
+    }
+
+    /**
+     * Creates the frame profiler overlay, shown under the performance display
+     * @return A VBox containing the profiler report text
+     */
+    public static VBox createProfilerOverlay() {
+        VBox profilerOverlay = new VBox(4);
+        profilerOverlay.setId("profiler-overlay");
+        profilerOverlay.setTranslateX(FXGL.getAppWidth() - 300);
+        profilerOverlay.setTranslateY(140);
+        profilerOverlay.setPadding(new Insets(8));
+        profilerOverlay.setBackground(createPanelBackground(UI_BG_COLOR, 10));
+        profilerOverlay.setMouseTransparent(true);
+
+        Text title = new Text("Frame Profiler (F3)");
+        title.setFont(Font.font(FONT_FAMILY, 14));
+        title.setFill(UI_TEXT_SECONDARY);
+
+        // Monospaced so the report columns line up
+        Text report = new Text("Measuring...");
+        report.setFont(Font.font("Monospaced", 12));
+        report.setFill(UI_TEXT_PRIMARY);
+
+        profilerOverlay.getChildren().addAll(title, report);
+        return profilerOverlay;
+    }
+
+    /**
+     * Updates the frame profiler overlay
+     * @param profilerOverlay The overlay created by createProfilerOverlay
+     * @param report The formatted profiler report
+     */
+    public static void updateProfilerOverlay(VBox profilerOverlay, String report) {
+        if (profilerOverlay == null) return;
+        ((Text) profilerOverlay.getChildren().get(1)).setText(report);
+    }
+
     // Helper methods for UI styling
     public static Background createPanelBackground(Color color, double cornerRadius) {
         return new Background(
@@ -572,10 +643,13 @@ public class UIFactory {
 
     private static class PerformanceData extends DisplayData<Rectangle> {
         final Text performanceText;
+        final Text latencyText;
+        long latencyCount;
 
-        PerformanceData(Rectangle performanceBar, Text performanceText) {
+        PerformanceData(Rectangle performanceBar, Text performanceText, Text latencyText) {
             super(performanceBar);
             this.performanceText = performanceText;
+            this.latencyText = latencyText;
         }
     }
 
@@ -751,58 +825,19 @@ public class UIFactory {
 
     /**
      * Creates and sets up all UI elements
-     * @param game Reference to the game class
+     * @param playerManager The player whose health and score are shown
+     * @param maxWaves Number of waves in this game
+     * @return The HUD holding the created widgets
      */
-    public static void createUI(GameApplication game) {
-        // Get the player manager from world properties
-        PlayerManager playerManager = (PlayerManager) FXGL.getWorldProperties().getObject("playerManager");
-
+    public static GameHud createUI(PlayerManager playerManager, int maxWaves) {
         // Create health display with player's current health
         VBox healthDisplay = createHealthDisplay(
                 playerManager.getHealth(),
                 playerManager.getMaxHealth()
         );
 
-        // Set health display reference directly
-        playerManager.setHealthDisplay(healthDisplay);
-
-        // Find and set the health text reference
-        for (Node child : healthDisplay.getChildren()) {
-            if (child instanceof Text) {
-                Text text = (Text) child;
-                if (text.getText().contains("/")) {
-                    playerManager.setHealthText(text);
-                    break;
-                }
-            }
-        }
-
         // Create top bar with initial score and wave
-        HBox topBar = createTopBar(playerManager.getScore(), 1, 10);
-
-        // Find and set score text reference
-        for (Node child : topBar.getChildren()) {
-            if (child instanceof StackPane) {
-                StackPane stackPane = (StackPane) child;
-                for (Node stackChild : stackPane.getChildren()) {
-                    if (stackChild instanceof HBox) {
-                        HBox content = (HBox) stackChild;
-                        for (Node contentChild : content.getChildren()) {
-                            if (contentChild instanceof VBox) {
-                                VBox box = (VBox) contentChild;
-                                if (!box.getChildren().isEmpty() && box.getChildren().get(0) instanceof Text) {
-                                    Text label = (Text) box.getChildren().get(0);
-                                    if (label.getText().equals("ARCANE POINTS") && box.getChildren().size() > 1) {
-                                        playerManager.setScoreText((Text) box.getChildren().get(1));
-                                        break;
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
+        HBox topBar = createTopBar(playerManager.getScore(), 1, maxWaves);
 
         // Create performance display
         VBox performanceDisplay = createPerformanceDisplay();
@@ -816,29 +851,11 @@ public class UIFactory {
         FXGL.addUINode(topBar);
         FXGL.addUINode(performanceDisplay);
 //        FXGL.addUINode(controlsText);
-    }
 
-    /**
-     * Updates the performance display with the current FPS
-     * @param tpf Time per frame
-     */
-    public static void updatePerformanceDisplay(double tpf) {
-        // Calculate FPS
-        double fps = 1.0 / Math.max(tpf, 0.0001);
-
-        // Find and update the performance display
-        for (Node node : FXGL.getGameScene().getUINodes()) {
-            if (node instanceof VBox) {
-                VBox vbox = (VBox) node;
-                if (!vbox.getChildren().isEmpty() && vbox.getChildren().get(0) instanceof Text) {
-                    Text titleText = (Text) vbox.getChildren().get(0);
-                    if ("Arcane Flow:".equals(titleText.getText())) {
-                        updatePerformanceDisplay(vbox, fps);
-                        break;
-                    }
-                }
-            }
-        }
+        // Keep direct references so updates never search the scene
+        GameHud hud = new GameHud(healthDisplay, topBar, performanceDisplay);
+        playerManager.setHud(hud);
+        return hud;
     }
 
     /**
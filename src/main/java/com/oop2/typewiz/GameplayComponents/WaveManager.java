@@ -1,6 +1,6 @@
 package com.oop2.typewiz.GameplayComponents;
 
-import com.almasb.fxgl.dsl.FXGL;
+import com.oop2.typewiz.util.GameLogger;
 import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.time.LocalTimer;
 import javafx.util.Duration;
@@ -15,12 +15,15 @@ import java.util.function.Supplier;
  * Implements the Strategy pattern for different wave behaviors.
  */
 public class WaveManager {
+    private static final GameLogger LOG = GameLogger.getLogger(WaveManager.class);
     
     // Wave settings
     private static final int MAX_WAVES = 10;
     private static final double WAVE_SPAWN_DELAY = 7.0; // seconds between spawn groups
     private static final double SPAWN_SPEED_INCREASE = 0.9; // each group spawns 10% faster than the last
     private static final double SCREEN_MARGIN = 150;
+    private static final int MAX_SPAWNS_PER_COLUMN = 12; // Most spawn heights one column can be spaced over
+    private static final double COLUMN_DELAY = 1.5; // seconds between the columns of one group
     
     // Wave difficulty progression parameters
     private static final int[] WAVE_SPAWNS_PER_WAVE = {
@@ -43,10 +46,12 @@ public class WaveManager {
     private boolean waveInProgress;
     private boolean isSpawningWave;
     private int totalWaveSpawns;
-    private int currentGroupSize;
+    private int currentGroupSize; // Enemies of the current group still to spawn
+    private int spawnsPerColumn;  // Enemies that fit the screen height at once
+    private boolean columnPending; // The current group has more columns to spawn
     private double currentSpawnDelay;
     private boolean spawnFromRight;
-    private int nextEnemyType; // 0 = Gargoyle, 1 = Grimouge, 2 = Vyleye
+    private int nextEnemyType; // Index into EnemyFactory.getArchetypes()
     
     private LocalTimer waveSpawnTimer;
     private final Random random;
@@ -60,15 +65,10 @@ public class WaveManager {
     private double maxY;
     private double spawnPerimeterRight;
     
-    private int maxWaves;
-    private int[] waveSpawnsPerWave;
-    private double[] waveSpeedMultipliers;
-    private int[] minSpawnsPerGroupByWave;
-    private int[] maxSpawnsPerGroupByWave;
-    private double[] spawnDelayMultipliers;
+    private final WaveProgression progression;
     
     /**
-     * Creates a new WaveManager
+     * Creates a new WaveManager that plays waves from tables
      * 
      * @param entityManager The entity manager
      * @param stateManager The game state manager
@@ -84,30 +84,42 @@ public class WaveManager {
     public WaveManager(EntityManager entityManager, GameStateManager stateManager, Supplier<String> wordSupplier, double screenHeight,
                       int maxWaves, int[] waveSpawnsPerWave, double[] waveSpeedMultipliers, int[] minSpawnsPerGroupByWave,
                       int[] maxSpawnsPerGroupByWave, double[] spawnDelayMultipliers) {
+        this(entityManager, stateManager, wordSupplier, screenHeight,
+                new TableWaveProgression(maxWaves, waveSpawnsPerWave, waveSpeedMultipliers,
+                        minSpawnsPerGroupByWave, maxSpawnsPerGroupByWave, spawnDelayMultipliers));
+    }
+
+    /**
+     * Creates a new WaveManager
+     *
+     * @param entityManager The entity manager
+     * @param stateManager The game state manager
+     * @param wordSupplier Function that supplies random words
+     * @param screenHeight Height of the game screen
+     * @param progression Spawn parameters of each wave
+     */
+    public WaveManager(EntityManager entityManager, GameStateManager stateManager, Supplier<String> wordSupplier,
+                       double screenHeight, WaveProgression progression) {
         this.entityManager = entityManager;
         this.stateManager = stateManager;
         this.wordSupplier = wordSupplier;
         this.random = new Random();
-        this.maxWaves = maxWaves;
-        this.waveSpawnsPerWave = waveSpawnsPerWave;
-        this.waveSpeedMultipliers = waveSpeedMultipliers;
-        this.minSpawnsPerGroupByWave = minSpawnsPerGroupByWave;
-        this.maxSpawnsPerGroupByWave = maxSpawnsPerGroupByWave;
-        this.spawnDelayMultipliers = spawnDelayMultipliers;
+        this.progression = progression;
         
         // Initialize wave state
         this.currentWave = 1;
         this.waveInProgress = false;
         this.isSpawningWave = false;
-        this.nextEnemyType = 0; // Start with Gargoyles
+        this.nextEnemyType = 0; // Start with the first archetype
         
         // Initialize spawn area with reduced top margin to allow spawning higher
         this.spawnPerimeterRight = 100; // Distance from right edge where entities spawn
         this.minY = SCREEN_MARGIN * 0.6; // Reduced top margin to allow more top spawning
         this.maxY = screenHeight - (SCREEN_MARGIN * 1.5); // Increased bottom margin
+        this.spawnsPerColumn = Math.max(1, Math.min(MAX_SPAWNS_PER_COLUMN, (int)((maxY - minY) / (SCREEN_MARGIN * 0.3))));
         
         // Initialize timers
-        this.waveSpawnTimer = FXGL.newLocalTimer();
+        this.waveSpawnTimer = GameEnvironment.get().newLocalTimer();
         this.waveSpawnTimer.capture();
     }
     
@@ -126,7 +138,16 @@ public class WaveManager {
      * @return The maximum number of waves
      */
     public int getMaxWaves() {
-        return maxWaves;
+        return progression.getMaxWaves();
+    }
+
+    /**
+     * Checks if waves keep coming until the player is defeated
+     *
+     * @return true for endless survival
+     */
+    public boolean isEndless() {
+        return progression.isEndless();
     }
     
     /**
@@ -135,7 +156,7 @@ public class WaveManager {
      * @return true if all waves are completed
      */
     public boolean areAllWavesCompleted() {
-        return currentWave > maxWaves;
+        return !progression.isEndless() && currentWave > progression.getMaxWaves();
     }
     
     /**
@@ -146,19 +167,19 @@ public class WaveManager {
             stateManager.victory(null);
             return;
         }
-        entityManager.removeAllEntitiesOfType(Game.EntityType.GARGOYLE);
-        entityManager.removeAllEntitiesOfType(Game.EntityType.GRIMOUGE);
-        entityManager.removeAllEntitiesOfType(Game.EntityType.VYLEYE);
-        int waveIndex = currentWave - 1;
+        for (EnemyArchetype archetype : EnemyFactory.getArchetypes()) {
+            entityManager.removeAllEntitiesOfType(archetype.getType());
+        }
         isSpawningWave = false;
+        columnPending = false;
         spawnFromRight = true;
         nextEnemyType = 0;
-        int minSpawns = minSpawnsPerGroupByWave[waveIndex];
-        int maxSpawns = maxSpawnsPerGroupByWave[waveIndex];
-        System.out.println("Wave " + currentWave + " settings: minSpawns=" + minSpawns + ", maxSpawns=" + maxSpawns);
-        double availableHeight = maxY - minY;
-        int maxPossibleSpawns = Math.max(1, (int)(availableHeight / (SCREEN_MARGIN * 0.3)));
-        maxSpawns = Math.min(maxSpawns, maxPossibleSpawns);
+        int minSpawns = progression.getMinGroupSize(currentWave);
+        int maxSpawns = progression.getMaxGroupSize(currentWave);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Wave " + currentWave + " settings: minSpawns=" + minSpawns + ", maxSpawns=" + maxSpawns);
+        }
+        // Groups taller than the screen are spawned in several columns, so the size is not capped here
         minSpawns = Math.min(minSpawns, maxSpawns);
         int newGroupSize;
         if (minSpawns == maxSpawns) {
@@ -167,13 +188,13 @@ public class WaveManager {
             newGroupSize = Math.max(1, random.nextInt(maxSpawns - minSpawns + 1) + minSpawns);
         }
         currentGroupSize = newGroupSize;
-        System.out.println("Set currentGroupSize to " + currentGroupSize);
-        totalWaveSpawns = waveSpawnsPerWave[waveIndex];
-        currentSpawnDelay = WAVE_SPAWN_DELAY * spawnDelayMultipliers[waveIndex];
+        LOG.debug(() -> "Set currentGroupSize to " + currentGroupSize);
+        totalWaveSpawns = progression.getSpawnsForWave(currentWave);
+        currentSpawnDelay = WAVE_SPAWN_DELAY * progression.getSpawnDelayMultiplier(currentWave);
         waveSpawnTimer.capture();
         waveInProgress = true;
-        System.out.println("Starting wave " + currentWave + " with " + totalWaveSpawns + 
-                " total spawns, speed multiplier " + waveSpeedMultipliers[waveIndex] + ", group size " + currentGroupSize);
+        LOG.info(() -> "Starting wave " + currentWave + " with " + totalWaveSpawns + 
+                " total spawns, speed multiplier " + progression.getSpeedMultiplier(currentWave) + ", group size " + currentGroupSize);
     }
     
     /**
@@ -188,11 +209,12 @@ public class WaveManager {
         }
         
         // Check if we need to spawn a new group
-        List<Entity> activeEnemies = entityManager.getActiveEnemies();
-        if (activeEnemies.isEmpty() || waveSpawnTimer.elapsed(Duration.seconds(currentSpawnDelay))) {
+        boolean noActiveEnemies = !entityManager.hasActiveEnemies();
+        double delay = columnPending ? COLUMN_DELAY : currentSpawnDelay;
+        if (noActiveEnemies || waveSpawnTimer.elapsed(Duration.seconds(delay))) {
             if (totalWaveSpawns > 0) {
                 spawnGroup();
-            } else if (activeEnemies.isEmpty()) {
+            } else if (noActiveEnemies) {
                 // Wave completed
                 waveCompleted();
                 return true;
@@ -203,30 +225,29 @@ public class WaveManager {
     }
     
     /**
-     * Spawns a group of entities
+     * Spawns a group of entities, or the next column of it if the group is more than
+     * the screen height can space out at once
      */
     private List<Entity> spawnGroup() {
-        int waveIndex = Math.min(currentWave - 1, maxWaves - 1);
-        
         // Check how many more entities we can spawn based on the active entity limit
         int availableSlots = entityManager.getAvailableEntitySlots();
         if (availableSlots <= 0) {
-            System.out.println("Cannot spawn more entities - at maximum capacity");
+            LOG.debug("Cannot spawn more entities - at maximum capacity");
             return new ArrayList<>(); // Return empty list
         }
         
         // Adjust group size to respect available slots
         int adjustedGroupSize = Math.min(currentGroupSize, availableSlots);
         if (adjustedGroupSize != currentGroupSize) {
-            System.out.println("Adjusted spawn group size from " + currentGroupSize + 
+            LOG.debug(() -> "Adjusted spawn group size from " + currentGroupSize + 
                                " to " + adjustedGroupSize + " due to entity limit");
             currentGroupSize = adjustedGroupSize;
         }
         
         // Ensure we don't try to spawn 0 entities
         if (currentGroupSize <= 0) {
-            int minSpawns = minSpawnsPerGroupByWave[waveIndex];
-            int maxSpawns = maxSpawnsPerGroupByWave[waveIndex];
+            int minSpawns = progression.getMinGroupSize(currentWave);
+            int maxSpawns = progression.getMaxGroupSize(currentWave);
             if (minSpawns == maxSpawns) {
                 currentGroupSize = minSpawns;
             } else {
@@ -234,12 +255,147 @@ public class WaveManager {
             }
             // Adjust again based on available slots
             currentGroupSize = Math.min(currentGroupSize, availableSlots);
-            System.out.println("Fixed zero group size to: " + currentGroupSize);
+            LOG.debug(() -> "Fixed zero group size to: " + currentGroupSize);
         }
         
         List<Entity> spawnedEntities;
         
+        // Spawn the enemy archetypes in sequence, skipping any type whose pool is used up
+        List<EnemyArchetype> archetypes = EnemyFactory.getArchetypes();
+        int ready = 0;
+        for (int tries = 0; tries < archetypes.size(); tries++) {
+            ready = entityManager.getReadyInPool(archetypes.get(nextEnemyType).getType());
+            if (ready > 0) break;
+            nextEnemyType = (nextEnemyType + 1) % archetypes.size();
+        }
+        if (ready <= 0) {
+            // Only enemies removed this frame are left; they are free again next frame
+            LOG.debug("Cannot spawn more entities - no pooled enemies ready");
+            return new ArrayList<>();
+        }
+        EnemyArchetype archetype = archetypes.get(nextEnemyType);
+        // Never build enemies mid-wave: take only what the pool has ready
+        currentGroupSize = Math.min(currentGroupSize, ready);
+        int columnSize = Math.min(currentGroupSize, spawnsPerColumn);
+        LOG.debug(() -> "Spawning column of " + columnSize + " of " + currentGroupSize + " "
+                + archetype.getId() + " enemies from right side");
+
         // Calculate spawn heights for better distribution
+        List<Double> yPositions = generateSpawnPositions(random, minY, maxY, columnSize);
+
+        spawnedEntities = EnemyFactory.spawnEnemyGroup(
+            archetype,
+            entityManager,
+            columnSize,
+            minY,
+            maxY,
+            spawnFromRight, // Always spawn from right
+            spawnPerimeterRight,
+            wordSupplier // Method reference to get random words
+        );
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("EnemyFactory returned " + spawnedEntities.size() + " entities");
+        }
+
+        // Adjust Y positions for better distribution
+        for (int i = 0; i < spawnedEntities.size(); i++) {
+            if (i < yPositions.size()) {
+                spawnedEntities.get(i).setY(yPositions.get(i));
+            }
+        }
+
+        // Add spawned entities to entity manager and ensure they're attached to the world
+        List<Entity> successfullyAddedEntities = new ArrayList<>();
+        for (Entity entity : spawnedEntities) {
+            String entityType = archetype.getId();
+            
+            LOG.debug(() -> "Adding " + entityType + " to entity manager with word: " + 
+                (entity.getProperties().exists("word") ? entity.getString("word") : "unknown"));
+                
+            boolean added = entityManager.addActiveEntity(entity);
+            if (added) {
+                successfullyAddedEntities.add(entity);
+                
+                // Ensure the entity is attached to the world
+                if (!entity.isActive()) {
+                    LOG.debug(() -> "Attaching " + entityType + " to world");
+                    GameEnvironment.get().attachEntity(entity);
+                }
+            } else {
+                // Entity wasn't added due to limit, so it goes back to the pool
+                entityManager.returnToPool(entity);
+            }
+        }
+        
+        // Update our reference to only the entities that were actually added
+        spawnedEntities = successfullyAddedEntities;
+        
+        // Check if we need to select a new entity automatically
+        InputManager inputManager = GameEnvironment.get().getInputManager();
+        if (inputManager != null && inputManager.getSelectedWordBlock() == null && !spawnedEntities.isEmpty()) {
+            // We only want to select one if there are no other active selections
+            Entity closestEntity = entityManager.getMostUrgentEnemy();
+            
+            if (closestEntity != null) {
+                LOG.debug("WaveManager: Automatically selecting new entity after spawn");
+                inputManager.selectWordBlock(closestEntity);
+            }
+        }
+        
+        totalWaveSpawns -= spawnedEntities.size();
+
+        // The rest of a large group follows shortly as another column of the same type
+        int remainingInGroup = currentGroupSize - columnSize;
+        if (remainingInGroup > 0 && totalWaveSpawns > 0) {
+            currentGroupSize = remainingInGroup;
+            columnPending = true;
+            waveSpawnTimer.capture();
+            return spawnedEntities;
+        }
+        columnPending = false;
+
+        // Update nextEnemyType for the next spawn (cycle through all archetypes)
+        nextEnemyType = (nextEnemyType + 1) % archetypes.size();
+
+        // Get name of next entity type to spawn
+        String nextEntityType = archetypes.get(nextEnemyType).getId();
+        
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Successfully spawned " + spawnedEntities.size() +
+                    " entities, next spawn: " + nextEntityType + ", " + totalWaveSpawns + " remaining in wave");
+        }
+        
+        // Prepare for next group with wave-specific parameters
+        int waveMinSpawns = progression.getMinGroupSize(currentWave);
+        int waveMaxSpawns = progression.getMaxGroupSize(currentWave);
+        
+        // Calculate next group size
+        if (waveMinSpawns == waveMaxSpawns) {
+            currentGroupSize = waveMinSpawns;
+        } else {
+            currentGroupSize = random.nextInt(waveMaxSpawns - waveMinSpawns + 1) + waveMinSpawns;
+        }
+        
+        // Apply wave-specific delay reduction for next spawn
+        currentSpawnDelay *= SPAWN_SPEED_INCREASE * progression.getSpawnDelayMultiplier(currentWave);
+        
+        waveSpawnTimer.capture();
+        
+        return spawnedEntities;
+    }
+    
+    /**
+     * Generates spawn heights for a group, biased toward the top of the screen and
+     * spaced so enemies don't overlap
+     *
+     * @param random Random source
+     * @param minY Minimum Y position for spawning
+     * @param maxY Maximum Y position for spawning
+     * @param groupSize Number of positions wanted
+     * @return Spawn heights, sorted top to bottom where possible
+     */
+    static List<Double> generateSpawnPositions(Random random, double minY, double maxY, int groupSize) {
         double availableHeight = maxY - minY;
         
         // Create position segments that ensure coverage of the entire screen height
@@ -249,9 +405,9 @@ public class WaveManager {
         final int NUM_SEGMENTS = 5; // More segments for better distribution
         
         // Option 1: Ensure we have entities at various screen heights with bias toward top
-        if (currentGroupSize <= NUM_SEGMENTS) {
+        if (groupSize <= NUM_SEGMENTS) {
             // For small groups, distribute evenly with emphasis on top section
-            for (int i = 0; i < currentGroupSize; i++) {
+            for (int i = 0; i < groupSize; i++) {
                 // Bias toward top of screen (weighted distribution)
                 double segmentHeight = availableHeight / NUM_SEGMENTS;
                 
@@ -274,7 +430,7 @@ public class WaveManager {
             // For larger groups, ensure coverage across all segments
             
             // First, place at least one entity in each segment to ensure full coverage
-            for (int segment = 0; segment < NUM_SEGMENTS && segment < currentGroupSize; segment++) {
+            for (int segment = 0; segment < NUM_SEGMENTS && segment < groupSize; segment++) {
                 double segmentHeight = availableHeight / NUM_SEGMENTS;
                 double basePos = minY + segment * segmentHeight;
                 double randomOffset = random.nextDouble() * segmentHeight;
@@ -282,7 +438,7 @@ public class WaveManager {
             }
             
             // For remaining entities, distribute randomly but with top bias
-            for (int i = NUM_SEGMENTS; i < currentGroupSize; i++) {
+            for (int i = NUM_SEGMENTS; i < groupSize; i++) {
                 double yPos;
                 if (random.nextDouble() < 0.5) { // 50% chance to spawn in top half
                     yPos = minY + random.nextDouble() * (availableHeight / 2);
@@ -353,14 +509,14 @@ public class WaveManager {
                 }
                 
                 // If we couldn't find a good position, just use original if we have space
-                if (!foundPosition && spacedPositions.size() < currentGroupSize) {
+                if (!foundPosition && spacedPositions.size() < groupSize) {
                     spacedPositions.add(pos);
                 }
             }
         }
         
         // If we don't have enough positions, add some more
-        while (spacedPositions.size() < currentGroupSize && spacedPositions.size() < 12) {
+        while (spacedPositions.size() < groupSize && spacedPositions.size() < MAX_SPAWNS_PER_COLUMN) {
             double randomY = minY + random.nextDouble() * availableHeight;
             boolean tooClose = false;
             for (double existingPos : spacedPositions) {
@@ -375,175 +531,9 @@ public class WaveManager {
             }
         }
         
-        // Use these spaced positions instead of the original ones
-        yPositions = spacedPositions;
-        
-        // Spawn different enemy types in sequence
-        if (nextEnemyType == 0) {
-            // Spawn Gargoyles
-            System.out.println("Spawning group of " + currentGroupSize + " gargoyles from right side");
-            
-            // Use GargoyleFactory to spawn a group of gargoyles with improved positioning
-            spawnedEntities = GargoyleFactory.spawnGargoyleGroup(
-                currentGroupSize,
-                minY,
-                maxY,
-                spawnFromRight, // Always spawn from right
-                spawnPerimeterRight,
-                wordSupplier, // Method reference to get random words
-                Game.EntityType.GARGOYLE
-            );
-            
-            System.out.println("GargoyleFactory returned " + spawnedEntities.size() + " entities");
-            
-            // Adjust Y positions for better distribution
-            for (int i = 0; i < spawnedEntities.size(); i++) {
-                if (i < yPositions.size()) {
-                    spawnedEntities.get(i).setY(yPositions.get(i));
-                }
-            }
-        } 
-        else if (nextEnemyType == 1) {
-            // Spawn Grimouges
-            System.out.println("Spawning group of " + currentGroupSize + " grimouges from right side");
-            
-            // Use GrimougeFactory to spawn a group of grimouges
-            spawnedEntities = GrimougeFactory.spawnGrimougeGroup(
-                currentGroupSize,
-                minY,
-                maxY,
-                spawnFromRight, // Always spawn from right
-                spawnPerimeterRight,
-                wordSupplier, // Method reference to get random words
-                Game.EntityType.GRIMOUGE
-            );
-            
-            System.out.println("GrimougeFactory returned " + spawnedEntities.size() + " entities");
-            
-            // Adjust Y positions for better distribution
-            for (int i = 0; i < spawnedEntities.size(); i++) {
-                if (i < yPositions.size()) {
-                    spawnedEntities.get(i).setY(yPositions.get(i));
-                }
-            }
-        }
-        else {
-            // Spawn Vyleyes
-            System.out.println("Spawning group of " + currentGroupSize + " vyleyes from right side");
-            
-            // Use VyleyeFactory to spawn a group of vyleyes
-            spawnedEntities = VyleyeFactory.spawnVyleyeGroup(
-                currentGroupSize,
-                minY,
-                maxY,
-                spawnFromRight, // Always spawn from right
-                spawnPerimeterRight,
-                wordSupplier, // Method reference to get random words
-                Game.EntityType.VYLEYE
-            );
-            
-            System.out.println("VyleyeFactory returned " + spawnedEntities.size() + " entities");
-            
-            // Adjust Y positions for better distribution
-            for (int i = 0; i < spawnedEntities.size(); i++) {
-                if (i < yPositions.size()) {
-                    spawnedEntities.get(i).setY(yPositions.get(i));
-                }
-            }
-        }
-        
-        // Update nextEnemyType for the next spawn (cycle through 0, 1, 2)
-        nextEnemyType = (nextEnemyType + 1) % 3;
-        
-        // Add spawned entities to entity manager and ensure they're attached to the world
-        List<Entity> successfullyAddedEntities = new ArrayList<>();
-        for (Entity entity : spawnedEntities) {
-            String entityType = "unknown";
-            if (entity.isType(Game.EntityType.GARGOYLE)) {
-                entityType = "gargoyle";
-            } else if (entity.isType(Game.EntityType.GRIMOUGE)) {
-                entityType = "grimouge";
-            } else if (entity.isType(Game.EntityType.VYLEYE)) {
-                entityType = "vyleye";
-            }
-            
-            System.out.println("Adding " + entityType + " to entity manager with word: " + 
-                (entity.getProperties().exists("word") ? entity.getString("word") : "unknown"));
-                
-            boolean added = entityManager.addActiveEntity(entity);
-            if (added) {
-                successfullyAddedEntities.add(entity);
-                
-                // Ensure the entity is attached to the world
-                if (!entity.isActive()) {
-                    System.out.println("Attaching " + entityType + " to world");
-                    FXGL.getGameWorld().addEntity(entity);
-                }
-            } else {
-                // Entity wasn't added due to limit, so we can remove it
-                if (entity.isActive()) {
-                    entity.removeFromWorld();
-                }
-            }
-        }
-        
-        // Update our reference to only the entities that were actually added
-        spawnedEntities = successfullyAddedEntities;
-        
-        // Check if we need to select a new entity automatically
-        InputManager inputManager = FXGL.getWorldProperties().getObject("inputManager");
-        if (inputManager != null && inputManager.getSelectedWordBlock() == null && !spawnedEntities.isEmpty()) {
-            // We only want to select one if there are no other active selections
-            Entity closestEntity = null;
-            
-            if (spawnedEntities.get(0).isType(Game.EntityType.GARGOYLE)) {
-                closestEntity = GargoyleFactory.findClosestGargoyleToCenter(spawnedEntities);
-            } else if (spawnedEntities.get(0).isType(Game.EntityType.GRIMOUGE)) {
-                closestEntity = GrimougeFactory.findClosestGrimougeToCenter(spawnedEntities);
-            } else if (spawnedEntities.get(0).isType(Game.EntityType.VYLEYE)) {
-                closestEntity = VyleyeFactory.findClosestVyleyeToCenter(spawnedEntities);
-            }
-            
-            if (closestEntity != null) {
-                System.out.println("WaveManager: Automatically selecting new entity after spawn");
-                inputManager.selectWordBlock(closestEntity);
-            }
-        }
-        
-        totalWaveSpawns -= spawnedEntities.size();
-        
-        // Get name of next entity type to spawn
-        String nextEntityType = "unknown";
-        if (nextEnemyType == 0) {
-            nextEntityType = "gargoyles";
-        } else if (nextEnemyType == 1) {
-            nextEntityType = "grimouges";
-        } else {
-            nextEntityType = "vyleyes";
-        }
-        
-        System.out.println("Successfully spawned " + spawnedEntities.size() + 
-                " entities, next spawn: " + nextEntityType + ", " + totalWaveSpawns + " remaining in wave");
-        
-        // Prepare for next group with wave-specific parameters
-        int waveMinSpawns = minSpawnsPerGroupByWave[waveIndex];
-        int waveMaxSpawns = maxSpawnsPerGroupByWave[waveIndex];
-        
-        // Calculate next group size
-        if (waveMinSpawns == waveMaxSpawns) {
-            currentGroupSize = waveMinSpawns;
-        } else {
-            currentGroupSize = random.nextInt(waveMaxSpawns - waveMinSpawns + 1) + waveMinSpawns;
-        }
-        
-        // Apply wave-specific delay reduction for next spawn
-        currentSpawnDelay *= SPAWN_SPEED_INCREASE * spawnDelayMultipliers[waveIndex];
-        
-        waveSpawnTimer.capture();
-        
-        return spawnedEntities;
+        return spacedPositions;
     }
-    
+
     /**
      * Handles wave completion
      */
@@ -562,54 +552,45 @@ public class WaveManager {
      * Starts spawning for the current wave
      */
     public void startSpawning() {
-        System.out.println("WaveManager: startSpawning called");
+        LOG.debug("WaveManager: startSpawning called");
         
         // Make sure the wave is properly started first
         if (!waveInProgress) {
-            System.out.println("WaveManager: Wave not in progress, starting wave first");
+            LOG.debug("WaveManager: Wave not in progress, starting wave first");
             startWave();
         }
         
         // Ensure group size is not zero
         if (currentGroupSize <= 0) {
-            int waveIndex = Math.min(currentWave - 1, maxWaves - 1);
-            int minSpawns = minSpawnsPerGroupByWave[waveIndex];
-            int maxSpawns = maxSpawnsPerGroupByWave[waveIndex];
+            int minSpawns = progression.getMinGroupSize(currentWave);
+            int maxSpawns = progression.getMaxGroupSize(currentWave);
             currentGroupSize = Math.max(1, random.nextInt(maxSpawns - minSpawns + 1) + minSpawns);
-            System.out.println("WaveManager: Corrected group size to: " + currentGroupSize);
+            LOG.debug(() -> "WaveManager: Corrected group size to: " + currentGroupSize);
         }
         
         isSpawningWave = true;
         waveSpawnTimer.capture();
         
-        // Reset next enemy type to start with Gargoyles
+        // Reset next enemy type to start with the first archetype
         nextEnemyType = 0;
         
-        System.out.println("WaveManager: Spawning first group of enemies, size=" + currentGroupSize);
+        LOG.debug(() -> "WaveManager: Spawning first group of enemies, size=" + currentGroupSize);
         
         // Spawn first group right away
         List<Entity> spawned = spawnGroup();
         
-        System.out.println("WaveManager: Spawned first group with " + spawned.size() + 
+        LOG.debug(() -> "WaveManager: Spawned first group with " + spawned.size() + 
                 " enemies, total remaining: " + totalWaveSpawns);
         
-        // Automatically select the first entity (closest to center) for targeting
+        // Automatically select the first entity (closest to its exit) for targeting
         if (!spawned.isEmpty()) {
-            // Find the closest entity to the center of the screen
-            Entity closestEntity = null;
-            
-            if (spawned.get(0).isType(Game.EntityType.GARGOYLE)) {
-                closestEntity = GargoyleFactory.findClosestGargoyleToCenter(spawned);
-            } else if (spawned.get(0).isType(Game.EntityType.GRIMOUGE)) {
-                closestEntity = GrimougeFactory.findClosestGrimougeToCenter(spawned);
-            } else if (spawned.get(0).isType(Game.EntityType.VYLEYE)) {
-                closestEntity = VyleyeFactory.findClosestVyleyeToCenter(spawned);
-            }
+            // Find the enemy closest to the edge it is heading for
+            Entity closestEntity = entityManager.getMostUrgentEnemy();
             
             // Get input manager from world properties and select the entity
-            InputManager inputManager = FXGL.getWorldProperties().getObject("inputManager");
+            InputManager inputManager = GameEnvironment.get().getInputManager();
             if (inputManager != null && closestEntity != null) {
-                System.out.println("WaveManager: Automatically selecting first enemy");
+                LOG.debug("WaveManager: Automatically selecting first enemy");
                 inputManager.selectWordBlock(closestEntity);
             }
         }
@@ -621,8 +602,7 @@ public class WaveManager {
      * @return The speed multiplier
      */
     public double getCurrentWaveSpeedMultiplier() {
-        int waveIndex = Math.min(currentWave - 1, maxWaves - 1);
-        return waveSpeedMultipliers[waveIndex];
+        return progression.getSpeedMultiplier(currentWave);
     }
     
     /**
@@ -632,6 +612,7 @@ public class WaveManager {
         currentWave = 1;
         waveInProgress = false;
         isSpawningWave = false;
+        columnPending = false;
         nextEnemyType = 0;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.oop2.typewiz.GameplayComponents;
+
+/**
+ * Supplies the spawn parameters of each wave to {@link WaveManager}.
+ * Implementations are the Strategy for how a difficulty ramps up: a fixed table of
+ * waves, or a formula that keeps going for as long as the player survives.
+ */
+public interface WaveProgression {
+    /**
+     * Value of {@link #getMaxWaves()} for a progression that never ends
+     */
+    int UNLIMITED = Integer.MAX_VALUE;
+
+    /**
+     * Gets the number of waves to clear for victory
+     *
+     * @return The number of waves, or {@link #UNLIMITED}
+     */
+    int getMaxWaves();
+
+    /**
+     * Gets the total number of enemies spawned during a wave
+     *
+     * @param wave The wave number (1-based)
+     * @return The number of enemies
+     */
+    int getSpawnsForWave(int wave);
+
+    /**
+     * Gets the enemy speed multiplier for a wave
+     *
+     * @param wave The wave number (1-based)
+     * @return The speed multiplier
+     */
+    double getSpeedMultiplier(int wave);
+
+    /**
+     * Gets the smallest group spawned at once during a wave
+     *
+     * @param wave The wave number (1-based)
+     * @return The minimum group size
+     */
+    int getMinGroupSize(int wave);
+
+    /**
+     * Gets the largest group spawned at once during a wave
+     *
+     * @param wave The wave number (1-based)
+     * @return The maximum group size
+     */
+    int getMaxGroupSize(int wave);
+
+    /**
+     * Gets the multiplier for the delay between spawn groups during a wave
+     *
+     * @param wave The wave number (1-based)
+     * @return The delay multiplier
+     */
+    double getSpawnDelayMultiplier(int wave);
+
+    default boolean isEndless() {
+        return getMaxWaves() == UNLIMITED;
+    }
+}
@@ -8,16 +8,12 @@ import com.almasb.fxgl.physics.HitBox;
 import javafx.geometry.Pos;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.LinearGradient;
-import javafx.scene.paint.Stop;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 import javafx.scene.text.TextFlow;
 import javafx.scene.Node;
-import javafx.scene.effect.DropShadow;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,6 +22,8 @@ import java.util.Random;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 public class WordBlockPool {
+    private static final Font LETTER_FONT = WordStyles.font("Papyrus", 24);
+
     private final Queue<Entity> availableBlocks;
     private final List<Entity> activeBlocks;
     private final int initialPoolSize;
@@ -51,24 +49,13 @@ public class WordBlockPool {
         // Create a block with a magical gradient background
         Rectangle block = new Rectangle(blockSize, blockSize);
 
-        // Create magical gradient background
-        LinearGradient blockGradient = new LinearGradient(
-                0, 0, 1, 1, true, javafx.scene.paint.CycleMethod.NO_CYCLE,
-                new Stop(0, Color.rgb(45, 0, 75, 0.8)),    // Deep purple
-                new Stop(1, Color.rgb(75, 0, 130, 0.8))    // Royal purple
-        );
-        block.setFill(blockGradient);
-        block.setStroke(Color.rgb(255, 215, 0, 0.6));  // Golden stroke
+        // Magical gradient background with a golden stroke and purple glow
+        block.setFill(WordStyles.blockFill(0));
+        block.setStroke(WordStyles.BLOCK_STROKE);
         block.setStrokeWidth(2);
         block.setArcWidth(15);  // Rounded corners
         block.setArcHeight(15);
-
-        // Add magical glow effect
-        DropShadow blockGlow = new DropShadow();
-        blockGlow.setColor(Color.rgb(138, 43, 226, 0.6));  // Purple glow
-        blockGlow.setRadius(10);
-        blockGlow.setSpread(0.3);
-        block.setEffect(blockGlow);
+        block.setEffect(WordStyles.blockGlow(0));
 
         // Create a TextFlow for the word with individual letters
         TextFlow textFlow = new TextFlow();
@@ -150,53 +137,14 @@ public class WordBlockPool {
             return;
         }
 
+        // Purple, blue, cyan or teal theme by row
         Rectangle blockRect = (Rectangle) blockNode;
-        LinearGradient blockGradient;
-        Color glowColor;
-
-        switch (rowIndex) {
-            case 0:  // First row - Purple theme
-                blockGradient = new LinearGradient(0, 0, 1, 1, true,
-                        javafx.scene.paint.CycleMethod.NO_CYCLE,
-                        new Stop(0, Color.rgb(45, 0, 75, 0.8)),
-                        new Stop(1, Color.rgb(75, 0, 130, 0.8)));
-                glowColor = Color.rgb(138, 43, 226, 0.6);
-                break;
-            case 1:  // Second row - Blue theme
-                blockGradient = new LinearGradient(0, 0, 1, 1, true,
-                        javafx.scene.paint.CycleMethod.NO_CYCLE,
-                        new Stop(0, Color.rgb(25, 25, 112, 0.8)),
-                        new Stop(1, Color.rgb(65, 105, 225, 0.8)));
-                glowColor = Color.rgb(65, 105, 225, 0.6);
-                break;
-            case 2:  // Third row - Cyan theme
-                blockGradient = new LinearGradient(0, 0, 1, 1, true,
-                        javafx.scene.paint.CycleMethod.NO_CYCLE,
-                        new Stop(0, Color.rgb(0, 75, 130, 0.8)),
-                        new Stop(1, Color.rgb(0, 150, 200, 0.8)));
-                glowColor = Color.rgb(0, 150, 200, 0.6);
-                break;
-            default:  // Other rows - Teal theme
-                blockGradient = new LinearGradient(0, 0, 1, 1, true,
-                        javafx.scene.paint.CycleMethod.NO_CYCLE,
-                        new Stop(0, Color.rgb(0, 100, 100, 0.8)),
-                        new Stop(1, Color.rgb(0, 128, 128, 0.8)));
-                glowColor = Color.rgb(0, 128, 128, 0.6);
-                break;
-        }
-
-        blockRect.setFill(blockGradient);
-        blockRect.setStroke(Color.rgb(255, 215, 0, 0.6));  // Golden stroke
+        blockRect.setFill(WordStyles.blockFill(rowIndex));
+        blockRect.setStroke(WordStyles.BLOCK_STROKE);
         blockRect.setStrokeWidth(2);
         blockRect.setArcWidth(15);
         blockRect.setArcHeight(15);
-
-        // Update glow effect
-        DropShadow blockGlow = new DropShadow();
-        blockGlow.setColor(glowColor);
-        blockGlow.setRadius(10);
-        blockGlow.setSpread(0.3);
-        blockRect.setEffect(blockGlow);
+        blockRect.setEffect(WordStyles.blockGlow(rowIndex));
 
         // Update text flow with new word
         TextFlow textFlow = block.getObject("textFlow");
@@ -212,15 +160,9 @@ public class WordBlockPool {
         // Add letters to text flow and letter nodes list with magical styling
         for (int i = 0; i < word.length(); i++) {
             Text letterText = new Text(String.valueOf(word.charAt(i)));
-            letterText.setFont(Font.font("Papyrus", FontWeight.BOLD, 24));
+            letterText.setFont(LETTER_FONT);
             letterText.setFill(Color.WHITE);
-
-            // Add glow effect to text
-            DropShadow textGlow = new DropShadow();
-            textGlow.setColor(Color.rgb(255, 215, 0, 0.7));  // Golden glow
-            textGlow.setRadius(5);
-            textGlow.setSpread(0.3);
-            letterText.setEffect(textGlow);
+            letterText.setEffect(WordStyles.BLOCK_LETTER_GLOW); // Golden glow
 
             textFlow.getChildren().add(letterText);
             letterNodes.add(letterText);
@@ -0,0 +1,251 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * An immutable set of words in three difficulty tiers, stored compactly.
+ * All letters live in one {@code char[]} arena and each word is an entry in an offset table,
+ * so a corpus of 100k words costs about two bytes per letter plus four per word instead of
+ * one {@code String} object each. Words are sorted by tier and then by length, which makes
+ * every (tier, length) bucket a contiguous range of the offset table.
+ *
+ * Each tier is read from a text file named after it ({@code easy.txt}, {@code medium.txt},
+ * {@code hard.txt}) with one word per line; blank lines and lines starting with {@code #}
+ * are ignored.
+ */
+public final class WordCorpus implements WordSource {
+    /**
+     * Difficulty of a word list
+     */
+    public enum Tier {
+        EASY, MEDIUM, HARD;
+
+        /**
+         * Gets the name of the file this tier is read from
+         *
+         * @return e.g. "easy.txt"
+         */
+        public String fileName() {
+            return name().toLowerCase(Locale.ROOT) + ".txt";
+        }
+    }
+
+    public static final String RESOURCE_DIRECTORY = "/assets/data/words/";
+    private static final Tier[] TIERS = Tier.values();
+
+    private final char[] arena;
+    private final int[] offsets;        // Word i is arena[offsets[i], offsets[i + 1])
+    private final int[] tierStarts;     // Tier t is words [tierStarts[t], tierStarts[t + 1])
+    private final int[][] lengthStarts; // Words of tier t with length >= L start at lengthStarts[t][L]
+    private final String source;
+
+    private WordCorpus(char[] arena, int[] offsets, int[] tierStarts, int[][] lengthStarts, String source) {
+        this.arena = arena;
+        this.offsets = offsets;
+        this.tierStarts = tierStarts;
+        this.lengthStarts = lengthStarts;
+        this.source = source;
+    }
+
+    /**
+     * Loads the corpus bundled with the game
+     *
+     * @return The built-in corpus
+     * @throws IllegalStateException If a word list is missing or empty
+     */
+    public static WordCorpus loadResources() {
+        Map<Tier, List<String>> words = new EnumMap<>(Tier.class);
+        for (Tier tier : TIERS) {
+            String resource = RESOURCE_DIRECTORY + tier.fileName();
+            try (InputStream in = WordCorpus.class.getResourceAsStream(resource)) {
+                if (in == null) {
+                    throw new IllegalStateException("Word list resource not found: " + resource);
+                }
+                words.put(tier, readWords(new InputStreamReader(in, StandardCharsets.UTF_8)));
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read word list " + resource, e);
+            }
+        }
+        return of(words, RESOURCE_DIRECTORY);
+    }
+
+    /**
+     * Loads a corpus from a directory holding one file per tier
+     *
+     * @param directory Directory with easy.txt, medium.txt and hard.txt
+     * @return The corpus
+     * @throws IOException If a file is missing or cannot be read
+     * @throws IllegalStateException If a word list is empty
+     */
+    public static WordCorpus load(Path directory) throws IOException {
+        Map<Tier, List<String>> words = new EnumMap<>(Tier.class);
+        for (Tier tier : TIERS) {
+            Path file = directory.resolve(tier.fileName());
+            if (!Files.isRegularFile(file)) {
+                throw new NoSuchFileException(file.toString());
+            }
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                words.put(tier, readWords(reader));
+            }
+        }
+        return of(words, directory.toString());
+    }
+
+    /**
+     * Packs word lists into a corpus
+     *
+     * @param words The words of every tier
+     * @param source Where the words came from, for log messages
+     * @return The corpus
+     * @throws IllegalStateException If a tier has no words
+     */
+    public static WordCorpus of(Map<Tier, ? extends List<String>> words, String source) {
+        int wordCount = 0;
+        int charCount = 0;
+        int maxLength = 0;
+        for (Tier tier : TIERS) {
+            List<String> list = words.get(tier);
+            if (list == null || list.isEmpty()) {
+                throw new IllegalStateException("No " + tier.name().toLowerCase(Locale.ROOT) + " words in " + source);
+            }
+            wordCount += list.size();
+            for (String word : list) {
+                charCount += word.length();
+                maxLength = Math.max(maxLength, word.length());
+            }
+        }
+
+        char[] arena = new char[charCount];
+        int[] offsets = new int[wordCount + 1];
+        int[] tierStarts = new int[TIERS.length + 1];
+        int[][] lengthStarts = new int[TIERS.length][maxLength + 2];
+        int index = 0;
+        int position = 0;
+        for (Tier tier : TIERS) {
+            List<String> list = words.get(tier);
+            int t = tier.ordinal();
+            tierStarts[t] = index;
+
+            // Counting sort by length, keeping the file order within each length
+            int[] starts = lengthStarts[t];
+            for (String word : list) {
+                starts[word.length() + 1]++;
+            }
+            for (int length = 1; length < starts.length; length++) {
+                starts[length] += starts[length - 1];
+            }
+            int[] next = starts.clone();
+            String[] sorted = new String[list.size()];
+            for (String word : list) {
+                sorted[next[word.length()]++] = word;
+            }
+            for (int length = 0; length < starts.length; length++) {
+                starts[length] += index;
+            }
+
+            for (String word : sorted) {
+                offsets[index++] = position;
+                word.getChars(0, word.length(), arena, position);
+                position += word.length();
+            }
+        }
+        offsets[wordCount] = position;
+        tierStarts[TIERS.length] = wordCount;
+        return new WordCorpus(arena, offsets, tierStarts, lengthStarts, source);
+    }
+
+    private static List<String> readWords(Reader reader) throws IOException {
+        List<String> words = new ArrayList<>();
+        BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            line = line.strip();
+            if (!line.isEmpty() && line.charAt(0) != '#') {
+                words.add(line);
+            }
+        }
+        return words;
+    }
+
+    @Override
+    public int size(Tier tier) {
+        return tierStarts[tier.ordinal() + 1] - tierStarts[tier.ordinal()];
+    }
+
+    @Override
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Gets a word of a tier. Words are ordered by length, shortest first.
+     *
+     * @param tier The tier
+     * @param index Position of the word within the tier
+     * @return The word
+     */
+    @Override
+    public String get(Tier tier, int index) {
+        if (index < 0 || index >= size(tier)) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of " + size(tier) + " " + tier + " words");
+        }
+        return word(tierStarts[tier.ordinal()] + index);
+    }
+
+    private String word(int index) {
+        return new String(arena, offsets[index], offsets[index + 1] - offsets[index]);
+    }
+
+    @Override
+    public String randomWord(Tier tier, Random random) {
+        int t = tier.ordinal();
+        return word(tierStarts[t] + random.nextInt(tierStarts[t + 1] - tierStarts[t]));
+    }
+
+    /**
+     * Picks a random word of a tier within a length range, e.g. for practice drills
+     *
+     * @param tier The tier
+     * @param minLength Shortest acceptable length
+     * @param maxLength Longest acceptable length
+     * @param random Random number generator
+     * @return The word, or null if the tier has no word of such a length
+     */
+    public String randomWord(Tier tier, int minLength, int maxLength, Random random) {
+        int[] starts = lengthStarts[tier.ordinal()];
+        int from = starts[Math.max(0, Math.min(minLength, starts.length - 1))];
+        int to = starts[Math.max(0, Math.min(maxLength + 1, starts.length - 1))];
+        if (from >= to) {
+            return null;
+        }
+        return word(from + random.nextInt(to - from));
+    }
+
+    /**
+     * Gets the total number of letters stored
+     *
+     * @return Size of the arena in chars
+     */
+    public int getCharCount() {
+        return arena.length;
+    }
+
+    @Override
+    public String getSource() {
+        return source;
+    }
+}
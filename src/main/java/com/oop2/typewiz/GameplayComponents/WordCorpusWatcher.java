@@ -0,0 +1,124 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.oop2.typewiz.util.GameLogger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Reloads a word corpus directory whenever one of its files changes.
+ * Changes are picked up by a {@link WatchService} on a daemon thread, which waits until the
+ * directory has been quiet for a moment (editors often write a file in several steps), loads
+ * the whole corpus and hands it to a consumer. The game keeps using the old corpus until
+ * the new one is complete; a directory that fails to load is logged and ignored.
+ */
+public class WordCorpusWatcher implements AutoCloseable {
+    private static final GameLogger LOG = GameLogger.getLogger(WordCorpusWatcher.class);
+    private static final long QUIET_MILLIS = 250; // Time without further changes before reloading
+
+    private final Path directory;
+    private final Consumer<WordCorpus> onReload;
+    private final WatchService watchService;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    /**
+     * Starts watching a directory
+     *
+     * @param directory Directory with easy.txt, medium.txt and hard.txt
+     * @param onReload Receives each successfully reloaded corpus, on the watcher thread
+     * @throws IOException If the directory cannot be watched
+     */
+    public WordCorpusWatcher(Path directory, Consumer<WordCorpus> onReload) throws IOException {
+        this.directory = directory;
+        this.onReload = onReload;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+
+        thread = new Thread(this::run, "WordCorpusWatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                WatchKey key = watchService.take();
+                boolean changed = drain(key);
+                // Collect the rest of a burst of changes before reloading
+                while ((key = watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(key);
+                }
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed
+        }
+    }
+
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed = true;
+            } else if (event.context() instanceof Path file && isWordList(file)) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private static boolean isWordList(Path file) {
+        String name = file.getFileName().toString();
+        for (WordCorpus.Tier tier : WordCorpus.Tier.values()) {
+            if (tier.fileName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void reload() {
+        try {
+            long start = System.nanoTime();
+            WordCorpus corpus = WordCorpus.load(directory);
+            onReload.accept(corpus);
+            LOG.info(() -> "Reloaded " + corpus.size() + " words from " + directory
+                    + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Could not reload words from " + directory + ", keeping the current words", e);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Stops watching the directory
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOG.warn("Could not close the word list watcher", e);
+        }
+        thread.interrupt();
+    }
+}
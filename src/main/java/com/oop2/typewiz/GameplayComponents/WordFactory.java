@@ -1,91 +1,70 @@
 package com.oop2.typewiz.GameplayComponents;
 
-import java.util.Arrays;
+import com.oop2.typewiz.util.GameLogger;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A factory class for generating words of varying difficulty based on game progression.
  * Implements the Factory Method design pattern.
+ *
+ * The words come from a {@link WordSource}: the lists bundled in {@code assets/data/words},
+ * or, if the system property {@code typewiz.wordsDir} names a directory, the lists in that
+ * directory. A user directory is watched and reloaded while the game runs; the new words
+ * replace the old ones in a single step, so a spawn never sees a half-loaded corpus.
+ * For large practice corpora, {@code typewiz.dictionary} names a {@link MappedDictionary}
+ * file instead, which is used in place of both.
  */
 public class WordFactory {
+    private static final GameLogger LOG = GameLogger.getLogger(WordFactory.class);
+    private static final String WORDS_DIRECTORY = System.getProperty("typewiz.wordsDir");
+    private static final String DICTIONARY_FILE = System.getProperty("typewiz.dictionary");
+    // Corpora up to this size get every layout measured up front, larger ones on first use
+    private static final int MAX_PRECOMPUTED_LAYOUTS = 2000;
+    // Measured layouts kept at most; a dictionary of millions of words never repeats enough to cache them all
+    private static final int MAX_CACHED_LAYOUTS = 10_000;
+
     // Singleton instance
     private static WordFactory instance;
 
     // Random number generator
     private final Random random = new Random();
 
-    // Word categories
-    private final List<String> easyWords = Arrays.asList(
-            // Original programming words
-            "code", "java", "type", "game", "block",
-            "keyboard", "screen", "input", "output", "variable",
-            "function", "class", "method", "array", "string",
-
-            // Original magical words
-            "winter", "wizard", "magic", "spell", "potion",
-            "frost", "snow", "ice", "cold",
-
-            // New magical words
-            "wand", "book", "rune", "mana", "fire",
-            "wind", "earth", "water", "light", "dark",
-            "staff", "orb", "ring", "cape", "brew",
-            "charm", "scroll", "tome", "sage", "mage",
-            "witch", "power", "aura", "glow", "beam",
-            "spark", "flame", "storm", "cloud", "star",
-
-            // New programming words
-            "loop", "data", "byte", "list", "void",
-            "main", "test", "debug", "run", "code"
-    );
-
-    private final List<String> mediumWords = Arrays.asList(
-            // Original programming words
-            "variable", "function", "method", "algorithm", "interface",
-            "inheritance", "polymorphism", "abstraction", "encapsulation", "iteration",
-            "recursion", "exception", "debugging", "framework", "compiler",
-            "library", "component", "parameter", "structure", "observer",
-
-            // New magical words
-            "enchantment", "conjuration", "divination", "illusion", "necromancy",
-            "alchemy", "familiar", "grimoire", "talisman", "arcane-art",
-            "elemental", "sorcery", "mystical", "ethereal", "celestial",
-            "prophecy", "ritual", "crystal", "ancient", "mystic-rune",
-            "dragon-scale", "fairy-dust", "mana-pool", "soul-gem", "void-stone",
-
-            // New programming words
-            "boolean", "integer", "floating", "string-builder", "array-list",
-            "hash-map", "linked-list", "stack-frame", "heap-memory", "binary-tree",
-            "data-type", "code-block", "namespace", "package", "module"
-    );
-
-    private final List<String> hardWords = Arrays.asList(
-            // Original programming words
-            "synchronization", "multithreading", "serialization", "optimization", "implementation",
-            "initialization", "authentication", "configuration", "virtualization", "documentation",
-            "architecture", "dependency", "infrastructure", "persistence", "transaction",
-            "asynchronous", "development", "integration", "management", "deployment",
-
-            // New magical words
-            "transmutation", "teleportation", "levitation-mastery", "mind-control",
-            "dragon-summoning", "phoenix-rebirth", "time-manipulation", "reality-bending",
-            "elemental-mastery", "arcane-projection", "astral-projection", "soul-binding",
-            "ancient-incantation", "forbidden-magic", "dimensional-rift", "ethereal-plane",
-            "mystical-convergence", "archmage-ritual", "celestial-alignment", "void-walking",
-
-            // New programming words
-            "object-oriented", "polymorphic-type", "abstract-factory", "design-pattern",
-            "dependency-injection", "aspect-oriented", "memory-management", "garbage-collection",
-            "concurrency-control", "transaction-isolation", "distributed-system", "microservice",
-            "reactive-programming", "functional-paradigm", "event-sourcing", "message-queue",
-            "circuit-breaker", "service-discovery", "load-balancing", "fault-tolerance"
-    );
+    // Current words, swapped whole on reload
+    private volatile WordSource corpus;
+    // Label layouts of the current words; a layout depends only on its word, so words
+    // still on screen after a reload can be measured again in the new map
+    private volatile Map<String, WordLayout> layouts = new ConcurrentHashMap<>();
+    private WordCorpusWatcher watcher;
 
     /**
      * Private constructor for singleton pattern
      */
     private WordFactory() {
         // Private constructor to prevent direct instantiation
+        WordSource loaded = null;
+        if (DICTIONARY_FILE != null) {
+            Path file = Path.of(DICTIONARY_FILE);
+            try {
+                loaded = MappedDictionary.open(file);
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Could not open the dictionary " + file + ", using the built-in words", e);
+            }
+        } else if (WORDS_DIRECTORY != null) {
+            Path directory = Path.of(WORDS_DIRECTORY);
+            try {
+                loaded = WordCorpus.load(directory);
+                watchDirectory(directory);
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Could not load words from " + directory + ", using the built-in words", e);
+            }
+        }
+        setCorpus(loaded != null ? loaded : WordCorpus.loadResources());
     }
 
     /**
@@ -110,20 +89,20 @@ public class WordFactory {
 
         if (currentWave <= 3) {
             // Early waves - mostly easy words
-            if (rand < 0.7) return getRandomEasyWord();
-            else return getRandomMediumWord();
+            if (rand < 0.7) return getRandomWord(WordCorpus.Tier.EASY);
+            else return getRandomWord(WordCorpus.Tier.MEDIUM);
         }
         else if (currentWave <= 6) {
             // Middle waves - mix of easy and medium words
-            if (rand < 0.3) return getRandomEasyWord();
-            else if (rand < 0.8) return getRandomMediumWord();
-            else return getRandomHardWord();
+            if (rand < 0.3) return getRandomWord(WordCorpus.Tier.EASY);
+            else if (rand < 0.8) return getRandomWord(WordCorpus.Tier.MEDIUM);
+            else return getRandomWord(WordCorpus.Tier.HARD);
         }
         else {
             // Late waves - mostly medium and hard words
-            if (rand < 0.1) return getRandomEasyWord();
-            else if (rand < 0.5) return getRandomMediumWord();
-            else return getRandomHardWord();
+            if (rand < 0.1) return getRandomWord(WordCorpus.Tier.EASY);
+            else if (rand < 0.5) return getRandomWord(WordCorpus.Tier.MEDIUM);
+            else return getRandomWord(WordCorpus.Tier.HARD);
         }
     }
 
@@ -132,7 +111,7 @@ public class WordFactory {
      * @return A random easy word
      */
     public String getRandomEasyWord() {
-        return getRandomWord(easyWords);
+        return getRandomWord(WordCorpus.Tier.EASY);
     }
 
     /**
@@ -140,7 +119,7 @@ public class WordFactory {
      * @return A random medium word
      */
     public String getRandomMediumWord() {
-        return getRandomWord(mediumWords);
+        return getRandomWord(WordCorpus.Tier.MEDIUM);
     }
 
     /**
@@ -148,17 +127,80 @@ public class WordFactory {
      * @return A random hard word
      */
     public String getRandomHardWord() {
-        return getRandomWord(hardWords);
+        return getRandomWord(WordCorpus.Tier.HARD);
     }
 
     /**
-     * Gets a random word from a specific word list
-     * @param wordList The list to select from
+     * Gets a random word from a specific tier
+     * @param tier The tier to select from
      * @return A randomly selected word
      */
-    private String getRandomWord(List<String> wordList) {
-        int index = random.nextInt(wordList.size());
-        return wordList.get(index);
+    public String getRandomWord(WordCorpus.Tier tier) {
+        return corpus.randomWord(tier, random);
+    }
+
+    /**
+     * Replaces the words in use. Safe to call from any thread: words picked after this
+     * returns come from the new corpus, and nothing waits for the swap.
+     * @param newCorpus The new words
+     */
+    public void setCorpus(WordSource newCorpus) {
+        Map<String, WordLayout> newLayouts = new ConcurrentHashMap<>();
+        if (newCorpus.size() <= MAX_PRECOMPUTED_LAYOUTS) {
+            for (WordCorpus.Tier tier : WordCorpus.Tier.values()) {
+                for (String word : newCorpus.words(tier)) {
+                    newLayouts.computeIfAbsent(word, WordLayout::measure);
+                }
+            }
+        }
+        layouts = newLayouts;
+        corpus = newCorpus;
+        LOG.info(() -> "Using " + newCorpus.size() + " words from " + newCorpus.getSource());
+    }
+
+    public WordSource getCorpus() {
+        return corpus;
+    }
+
+    /**
+     * Reloads the words from a directory whenever its word lists change,
+     * replacing any directory watched before
+     * @param directory Directory with easy.txt, medium.txt and hard.txt
+     * @throws IOException If the directory cannot be watched
+     */
+    public synchronized void watchDirectory(Path directory) throws IOException {
+        stopWatching();
+        watcher = new WordCorpusWatcher(directory, this::setCorpus);
+    }
+
+    /**
+     * Stops reloading the watched directory, if any
+     */
+    public synchronized void stopWatching() {
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
+    }
+
+    /**
+     * Gets the label layout of a word. Layouts of small corpora are measured when the
+     * corpus is loaded; any other word is measured on first use and then cached, until the
+     * cache is full and starts over.
+     *
+     * @param word The word
+     * @return The word's layout
+     */
+    public WordLayout getLayout(String word) {
+        Map<String, WordLayout> cache = layouts;
+        WordLayout layout = cache.get(word);
+        if (layout == null) {
+            if (cache.size() >= MAX_CACHED_LAYOUTS) {
+                cache.clear();
+            }
+            layout = cache.computeIfAbsent(word, WordLayout::measure);
+        }
+        return layout;
     }
 
     /**
@@ -166,7 +208,7 @@ public class WordFactory {
      * @return List of easy words
      */
     public List<String> getEasyWords() {
-        return easyWords;
+        return corpus.words(WordCorpus.Tier.EASY);
     }
 
     /**
@@ -174,7 +216,7 @@ public class WordFactory {
      * @return List of medium words
      */
     public List<String> getMediumWords() {
-        return mediumWords;
+        return corpus.words(WordCorpus.Tier.MEDIUM);
     }
 
     /**
@@ -182,6 +224,6 @@ public class WordFactory {
      * @return List of hard words
      */
     public List<String> getHardWords() {
-        return hardWords;
+        return corpus.words(WordCorpus.Tier.HARD);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.oop2.typewiz.util.GameLogger;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Size and font of an enemy word label, measured once per word.
+ * Each letter is its own {@code Text} node laid out side by side, so the label is exactly
+ * as wide as the sum of the glyph advances plus the spacing between them. The advances come
+ * from the real font metrics and are measured once per character and font.
+ * Instances are immutable and cached by {@link WordFactory#getLayout(String)}.
+ *
+ * Where the platform cannot lay out text (e.g. a server without native font libraries),
+ * widths fall back to an estimate of 0.6 times the font size per glyph.
+ */
+public final class WordLayout {
+    private static final GameLogger LOG = GameLogger.getLogger(WordLayout.class);
+    public static final String FONT_FAMILY = "Arial";
+    public static final double FONT_SIZE = 40;
+    public static final double LONG_WORD_SCALE = 0.8;  // Font scale for words longer than LONG_WORD_LENGTH
+    public static final int LONG_WORD_LENGTH = 8;
+    public static final double LETTER_SPACING = 2;
+    public static final double PADDING = 15;           // Space between the letters and the label edge
+
+    private static final Font WORD_FONT = WordStyles.font(FONT_FAMILY, FONT_SIZE);
+    private static final Font LONG_WORD_FONT = WordStyles.font(FONT_FAMILY, FONT_SIZE * LONG_WORD_SCALE);
+
+    // Advances of the printable ASCII characters per font, measured on first use
+    private static final char FIRST_CACHED = ' ';
+    private static final char LAST_CACHED = '~';
+    private static final Map<Font, double[]> ADVANCES = new ConcurrentHashMap<>();
+    private static final double ESTIMATED_ADVANCE = 0.6; // Glyph width per point of font size without metrics
+    private static volatile boolean metricsUnavailable;
+
+    private final String word;
+    private final char[] chars;
+    private final double[] glyphWidths;
+    private final Font font;
+    private final double fontScale;
+    private final double textWidth;
+    private final double backgroundWidth;
+    private final double backgroundHeight;
+
+    private WordLayout(String word) {
+        this.word = word;
+        this.chars = word.toCharArray();
+        this.fontScale = chars.length > LONG_WORD_LENGTH ? LONG_WORD_SCALE : 1.0;
+        this.font = fontScale == 1.0 ? WORD_FONT : LONG_WORD_FONT;
+
+        glyphWidths = new double[chars.length];
+        double width = 0;
+        for (int i = 0; i < chars.length; i++) {
+            glyphWidths[i] = advance(font, chars[i]);
+            width += glyphWidths[i];
+        }
+        this.textWidth = width + LETTER_SPACING * Math.max(0, chars.length - 1);
+        this.backgroundWidth = textWidth + PADDING * 2;
+        this.backgroundHeight = font.getSize() + PADDING * 1.5;
+    }
+
+    /**
+     * Measures a word. Use {@link WordFactory#getLayout(String)} to get a cached layout instead.
+     *
+     * @param word The word
+     * @return The word's layout
+     */
+    static WordLayout measure(String word) {
+        return new WordLayout(word);
+    }
+
+    private static double advance(Font font, char c) {
+        if (c < FIRST_CACHED || c > LAST_CACHED) {
+            return measureAdvance(font, c);
+        }
+        double[] advances = ADVANCES.computeIfAbsent(font, f -> {
+            double[] table = new double[LAST_CACHED - FIRST_CACHED + 1];
+            for (char ch = FIRST_CACHED; ch <= LAST_CACHED; ch++) {
+                table[ch - FIRST_CACHED] = measureAdvance(f, ch);
+            }
+            return table;
+        });
+        return advances[c - FIRST_CACHED];
+    }
+
+    private static double measureAdvance(Font font, char c) {
+        if (!metricsUnavailable) {
+            try {
+                Text probe = new Text(String.valueOf(c));
+                probe.setFont(font);
+                return probe.getLayoutBounds().getWidth();
+            } catch (LinkageError | RuntimeException e) {
+                metricsUnavailable = true;
+                LOG.warn("Font metrics unavailable, estimating word widths", e);
+            }
+        }
+        return font.getSize() * ESTIMATED_ADVANCE;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public int length() {
+        return chars.length;
+    }
+
+    public char charAt(int index) {
+        return chars[index];
+    }
+
+    /**
+     * Gets the width of one letter in the layout's font
+     *
+     * @param index Position of the letter
+     * @return The glyph advance in pixels
+     */
+    public double getGlyphWidth(int index) {
+        return glyphWidths[index];
+    }
+
+    /**
+     * Gets the font, which is smaller for long words
+     *
+     * @return The shared font
+     */
+    public Font getFont() {
+        return font;
+    }
+
+    /**
+     * Gets the font size relative to {@link #FONT_SIZE}
+     *
+     * @return 1 for normal words, {@link #LONG_WORD_SCALE} for long ones
+     */
+    public double getFontScale() {
+        return fontScale;
+    }
+
+    /**
+     * Gets the width of the letters and the spacing between them
+     *
+     * @return Width in pixels
+     */
+    public double getTextWidth() {
+        return textWidth;
+    }
+
+    public double getBackgroundWidth() {
+        return backgroundWidth;
+    }
+
+    public double getBackgroundHeight() {
+        return backgroundHeight;
+    }
+}
@@ -0,0 +1,71 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Words that {@link WordFactory} can draw from, grouped into difficulty tiers.
+ * Implemented by the text-file {@link WordCorpus} and the memory-mapped {@link MappedDictionary}.
+ */
+public interface WordSource {
+    /**
+     * Gets the number of words in all tiers
+     *
+     * @return The word count
+     */
+    int size();
+
+    /**
+     * Gets the number of words in a tier
+     *
+     * @param tier The tier
+     * @return The word count
+     */
+    int size(WordCorpus.Tier tier);
+
+    /**
+     * Gets a word of a tier
+     *
+     * @param tier The tier
+     * @param index Position of the word within the tier
+     * @return The word
+     */
+    String get(WordCorpus.Tier tier, int index);
+
+    /**
+     * Picks a random word of a tier
+     *
+     * @param tier The tier
+     * @param random Random number generator
+     * @return The word
+     */
+    String randomWord(WordCorpus.Tier tier, Random random);
+
+    /**
+     * Gets where the words were loaded from
+     *
+     * @return A file, directory or resource path
+     */
+    String getSource();
+
+    /**
+     * Gets a read-only view of a tier. Each access creates the word's {@code String}.
+     *
+     * @param tier The tier
+     * @return The words
+     */
+    default List<String> words(WordCorpus.Tier tier) {
+        return new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                return WordSource.this.get(tier, index);
+            }
+
+            @Override
+            public int size() {
+                return WordSource.this.size(tier);
+            }
+        };
+    }
+}
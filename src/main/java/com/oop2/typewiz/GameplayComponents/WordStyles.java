@@ -0,0 +1,180 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import javafx.scene.effect.DropShadow;
+import javafx.scene.effect.Effect;
+import javafx.scene.effect.Glow;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.Stop;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fonts, paints and effects for enemy words and word blocks, created once and shared
+ * by every entity. Styles are looked up by row theme, letter state or font size, so
+ * restyling a letter only swaps references and allocates nothing.
+ *
+ * The returned instances are shared: never modify them, pick a different style instead.
+ */
+public final class WordStyles {
+    /**
+     * How far a letter of the targeted word has been typed
+     */
+    public enum LetterState {
+        DEFAULT(Color.WHITE, createLetterShadow()),
+        SELECTED(Color.LIME, new Glow(0.5)),
+        TYPED(Color.DEEPSKYBLUE, new Glow(0.7)),
+        COMPLETE(Color.DEEPSKYBLUE, new Glow(0.8));
+
+        private final Color fill;
+        private final Effect effect;
+
+        LetterState(Color fill, Effect effect) {
+            this.fill = fill;
+            this.effect = effect;
+        }
+
+        public Color getFill() {
+            return fill;
+        }
+
+        public Effect getEffect() {
+            return effect;
+        }
+
+        /**
+         * Gives a letter this state's fill and effect
+         *
+         * @param letter The letter node
+         */
+        public void applyTo(Text letter) {
+            letter.setFill(fill);
+            letter.setEffect(effect);
+        }
+    }
+
+    // Enemy word labels
+    public static final Color LETTER_OUTLINE = Color.rgb(0, 0, 0, 0.8);
+    public static final Color LABEL_BORDER = Color.rgb(255, 215, 0, 0.8);
+    public static final DropShadow LABEL_SHADOW = createLabelShadow();
+    public static final LinearGradient CONNECTION_LINE = new LinearGradient(
+            0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
+            new Stop(0, Color.rgb(255, 255, 255, 0.1)),
+            new Stop(1, Color.rgb(255, 255, 255, 0.4)));
+
+    // Word blocks
+    public static final Color BLOCK_STROKE = Color.rgb(255, 215, 0, 0.6);
+    public static final DropShadow BLOCK_LETTER_GLOW = createShadow(Color.rgb(255, 215, 0, 0.7), 5, 0.3);
+
+    private static final LinearGradient[] LABEL_FILLS = {
+            // Purple theme for row 0
+            labelGradient(Color.rgb(75, 0, 130, 0.9), Color.rgb(128, 0, 128, 0.9)),
+            // Blue theme for row 1
+            labelGradient(Color.rgb(0, 0, 139, 0.9), Color.rgb(65, 105, 225, 0.9)),
+            // Cyan theme for row 2
+            labelGradient(Color.rgb(0, 139, 139, 0.9), Color.rgb(0, 206, 209, 0.9)),
+            // Teal theme for row 3
+            labelGradient(Color.rgb(0, 128, 128, 0.9), Color.rgb(32, 178, 170, 0.9))
+    };
+    private static final LinearGradient[] BLOCK_FILLS = {
+            blockGradient(Color.rgb(45, 0, 75, 0.8), Color.rgb(75, 0, 130, 0.8)),     // Purple
+            blockGradient(Color.rgb(25, 25, 112, 0.8), Color.rgb(65, 105, 225, 0.8)), // Blue
+            blockGradient(Color.rgb(0, 75, 130, 0.8), Color.rgb(0, 150, 200, 0.8)),   // Cyan
+            blockGradient(Color.rgb(0, 100, 100, 0.8), Color.rgb(0, 128, 128, 0.8))   // Teal
+    };
+    private static final DropShadow[] BLOCK_GLOWS = {
+            createShadow(Color.rgb(138, 43, 226, 0.6), 10, 0.3),
+            createShadow(Color.rgb(65, 105, 225, 0.6), 10, 0.3),
+            createShadow(Color.rgb(0, 150, 200, 0.6), 10, 0.3),
+            createShadow(Color.rgb(0, 128, 128, 0.6), 10, 0.3)
+    };
+
+    // Bold fonts by family and size
+    private static final Map<String, Font> FONTS = new ConcurrentHashMap<>();
+
+    private WordStyles() {
+    }
+
+    /**
+     * Gets the shared bold font of a family and size
+     *
+     * @param family Font family, e.g. "Arial"
+     * @param size Point size
+     * @return The font, created on first use
+     */
+    public static Font font(String family, double size) {
+        return FONTS.computeIfAbsent(family + '@' + size, key -> Font.font(family, FontWeight.BOLD, size));
+    }
+
+    /**
+     * Gets the background of an enemy word label
+     *
+     * @param row The enemy's row; the themes repeat every four rows
+     * @return The row's gradient
+     */
+    public static Paint labelFill(int row) {
+        return LABEL_FILLS[Math.floorMod(row, LABEL_FILLS.length)];
+    }
+
+    /**
+     * Gets the background of a word block
+     *
+     * @param row The block's row; any row without a theme of its own gets the last one
+     * @return The row's gradient
+     */
+    public static Paint blockFill(int row) {
+        return BLOCK_FILLS[themeIndex(row, BLOCK_FILLS.length)];
+    }
+
+    /**
+     * Gets the glow around a word block
+     *
+     * @param row The block's row; any row without a theme of its own gets the last one
+     * @return The row's glow
+     */
+    public static Effect blockGlow(int row) {
+        return BLOCK_GLOWS[themeIndex(row, BLOCK_GLOWS.length)];
+    }
+
+    private static int themeIndex(int row, int themes) {
+        return row >= 0 && row < themes ? row : themes - 1;
+    }
+
+    private static LinearGradient labelGradient(Color edge, Color middle) {
+        return new LinearGradient(0, 0, 1, 0, true, CycleMethod.NO_CYCLE,
+                new Stop(0, edge), new Stop(0.5, middle), new Stop(1, edge));
+    }
+
+    private static LinearGradient blockGradient(Color start, Color end) {
+        return new LinearGradient(0, 0, 1, 1, true, CycleMethod.NO_CYCLE,
+                new Stop(0, start), new Stop(1, end));
+    }
+
+    private static DropShadow createShadow(Color color, double radius, double spread) {
+        DropShadow shadow = new DropShadow();
+        shadow.setColor(color);
+        shadow.setRadius(radius);
+        shadow.setSpread(spread);
+        return shadow;
+    }
+
+    private static DropShadow createLabelShadow() {
+        // Drop shadow under the word background
+        DropShadow shadow = createShadow(Color.rgb(0, 0, 0, 0.6), 10, 0.4);
+        shadow.setOffsetY(3);
+        return shadow;
+    }
+
+    private static DropShadow createLetterShadow() {
+        // White halo with a soft glow behind each letter
+        DropShadow shadow = createShadow(Color.rgb(255, 255, 255, 0.5), 5, 0.5);
+        shadow.setInput(new Glow(0.3));
+        return shadow;
+    }
+}
@@ -0,0 +1,195 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.almasb.fxgl.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Prefix trie over the words of the active enemies.
+ * Every node knows which enemies have a word starting with its prefix, so typed input
+ * can be matched against all enemies by stepping one node per keystroke.
+ * Nodes are unlinked once no enemy uses them; callers holding on to a node can check
+ * {@link Node#isAttached()} and look their prefix up again.
+ */
+public class WordTrie {
+    private Node root;
+
+    /**
+     * Creates an empty trie
+     */
+    public WordTrie() {
+        root = new Node(null, '\0');
+    }
+
+    /**
+     * Gets the root node, which stands for empty input
+     *
+     * @return The root node
+     */
+    public Node getRoot() {
+        return root;
+    }
+
+    /**
+     * Adds an enemy's word
+     *
+     * @param word The enemy's word
+     * @param entity The enemy
+     */
+    public void insert(String word, Entity entity) {
+        if (word == null || word.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            Node child = node.children.get(c);
+            if (child == null) {
+                child = new Node(node, c);
+                node.children.put(c, child);
+            }
+            child.entities.add(entity);
+            node = child;
+        }
+        node.completed.add(entity);
+    }
+
+    /**
+     * Removes an enemy's word, unlinking nodes no other enemy uses
+     *
+     * @param word The word the enemy was added with
+     * @param entity The enemy
+     */
+    public void remove(String word, Entity entity) {
+        if (word == null || word.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            Node child = node.children.get(word.charAt(i));
+            if (child == null) {
+                return;
+            }
+            child.entities.remove(entity);
+            if (child.entities.isEmpty() && child.attached) {
+                // Every enemy below this node passes through it, so the whole branch is unused
+                node.children.remove(child.key);
+                child.attached = false;
+            }
+            node = child;
+        }
+        node.completed.remove(entity);
+    }
+
+    /**
+     * Finds the node for a prefix
+     *
+     * @param prefix The typed prefix
+     * @return The node, or null if no enemy word starts with the prefix
+     */
+    public Node find(CharSequence prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Removes all words. Nodes handed out before are no longer attached.
+     */
+    public void clear() {
+        detach(root);
+        root = new Node(null, '\0');
+    }
+
+    private static void detach(Node node) {
+        node.attached = false;
+        for (Node child : node.children.values()) {
+            detach(child);
+        }
+    }
+
+    /**
+     * A prefix in the trie
+     */
+    public static final class Node {
+        private final Node parent;
+        private final char key;
+        private final Map<Character, Node> children;
+        // Enemies whose word starts with this prefix, in insertion order
+        private final Set<Entity> entities;
+        // Enemies whose word is exactly this prefix
+        private final List<Entity> completed;
+        private boolean attached;
+
+        private Node(Node parent, char key) {
+            this.parent = parent;
+            this.key = key;
+            this.children = new HashMap<>(4);
+            this.entities = new LinkedHashSet<>();
+            this.completed = new ArrayList<>(1);
+            this.attached = true;
+        }
+
+        /**
+         * Steps to the node for this prefix plus one character
+         *
+         * @param c The next character
+         * @return The child node, or null if no enemy word continues with c
+         */
+        public Node getChild(char c) {
+            return children.get(c);
+        }
+
+        public Node getParent() {
+            return parent;
+        }
+
+        /**
+         * Checks whether the node is still part of the trie
+         *
+         * @return false once every enemy using this prefix has been removed
+         */
+        public boolean isAttached() {
+            return attached;
+        }
+
+        /**
+         * Checks whether an enemy's word starts with this prefix
+         *
+         * @param entity The enemy
+         * @return true if the enemy is below this node
+         */
+        public boolean contains(Entity entity) {
+            return entities.contains(entity);
+        }
+
+        /**
+         * Gets the enemy that was added first among those matching this prefix
+         *
+         * @return A matching enemy, or null if there is none
+         */
+        public Entity getFirstEntity() {
+            return entities.isEmpty() ? null : entities.iterator().next();
+        }
+
+        /**
+         * Gets an enemy whose word is exactly this prefix
+         *
+         * @param preferred Enemy to return if its word matches
+         * @return The preferred enemy if it matches, another matching enemy, or null
+         */
+        public Entity getCompletedEntity(Entity preferred) {
+            if (completed.isEmpty()) {
+                return null;
+            }
+            return preferred != null && completed.contains(preferred) ? preferred : completed.get(0);
+        }
+    }
+}
@@ -104,7 +104,8 @@ public class MainMenuScreen extends FXGLMenu {
             FXGL.getSceneService().pushSubScene(new DifficultyMenuScreen(() -> FXGL.getSceneService().popSubScene(),
                     () -> runStartGameThread(Difficulty.APPRENTICE),
                     () -> runStartGameThread(Difficulty.WIZARD),
-                    () -> runStartGameThread(Difficulty.ARCHMAGE)));
+                    () -> runStartGameThread(Difficulty.ARCHMAGE),
+                    () -> runStartGameThread(Difficulty.ENDLESS)));
         });
 
 
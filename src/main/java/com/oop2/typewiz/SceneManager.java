@@ -24,7 +24,8 @@ public class SceneManager {
                         () -> showScreen(TypeWizApp.ScreenType.MAIN_MENU),
                         () -> startGame(Difficulty.APPRENTICE),
                         () -> startGame(Difficulty.WIZARD),
-                        () -> startGame(Difficulty.ARCHMAGE)
+                        () -> startGame(Difficulty.ARCHMAGE),
+                        () -> startGame(Difficulty.ENDLESS)
                 ).getContentRoot();
             }
             default -> throw new IllegalStateException("Unexpected screen: " + screenType);
@@ -12,7 +12,6 @@ import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
-import javafx.scene.text.Text;
 import javafx.util.Duration;
 
 import java.util.ArrayList;
@@ -54,6 +53,7 @@ public class TypeWizApp extends GameApplication {
     private WaveManager waveManager;           // Model
     private PlayerManager playerManager;       // Model
     private InputManager inputManager;         // Controller
+    private GameHud hud;                       // View
 
     public static ImageCursor CLOSED_BOOK_CURSOR;
     public static ImageCursor OPEN_BOOK_CURSOR;
@@ -121,12 +121,10 @@ public class TypeWizApp extends GameApplication {
         UIFactory.createWizard();
 
         // Initialize animations for entities
-        GargoyleFactory.initializeAnimations();
-        GrimougeFactory.initializeAnimations();
-        VyleyeFactory.initializeAnimations();
+        EnemyFactory.initializeAnimations();
 
         // Set up UI elements
-        UIFactory.createUI(this);
+        hud = UIFactory.createUI(playerManager, waveManager.getMaxWaves());
     }
 
     /**
@@ -140,41 +138,44 @@ public class TypeWizApp extends GameApplication {
         }
 
         // Set parameters based on difficulty
-        int maxWaves;
         int maxActiveEntities;
-        int[] waveSpawnsPerWave;
-        double[] waveSpeedMultipliers;
-        int[] minSpawnsPerGroupByWave;
-        int[] maxSpawnsPerGroupByWave;
-        double[] spawnDelayMultipliers;
+        WaveProgression progression;
 
         switch (difficulty) {
             case APPRENTICE -> {
-                maxWaves = 5;
                 maxActiveEntities = 5;
-                waveSpawnsPerWave = new int[]{4, 5, 6, 7, 8};
-                waveSpeedMultipliers = new double[]{0.4, 0.4, 0.4, 0.5, 0.6};
-                minSpawnsPerGroupByWave = new int[]{1, 1, 1, 1, 1};
-                maxSpawnsPerGroupByWave = new int[]{1, 1, 2, 2, 2};
-                spawnDelayMultipliers = new double[]{1.5, 1.5, 1.4, 1.3, 1.3};
+                progression = new TableWaveProgression(
+                        5,
+                        new int[]{4, 5, 6, 7, 8},
+                        new double[]{0.4, 0.4, 0.4, 0.5, 0.6},
+                        new int[]{1, 1, 1, 1, 1},
+                        new int[]{1, 1, 2, 2, 2},
+                        new double[]{1.5, 1.5, 1.4, 1.3, 1.3});
             }
             case WIZARD -> {
-                maxWaves = 8;
                 maxActiveEntities = 14;
-                waveSpawnsPerWave = new int[]{8, 10, 12, 14, 16, 18, 20, 22};
-                waveSpeedMultipliers = new double[]{0.8, 0.9, 1.0, 1.1, 1.2, 1.3, 1.4, 1.5};
-                minSpawnsPerGroupByWave = new int[]{1, 1, 2, 2, 2, 3, 3, 3};
-                maxSpawnsPerGroupByWave = new int[]{2, 2, 3, 3, 4, 4, 5, 5};
-                spawnDelayMultipliers = new double[]{1.0, 0.95, 0.9, 0.85, 0.8, 0.75, 0.7, 0.65};
+                progression = new TableWaveProgression(
+                        8,
+                        new int[]{8, 10, 12, 14, 16, 18, 20, 22},
+                        new double[]{0.8, 0.9, 1.0, 1.1, 1.2, 1.3, 1.4, 1.5},
+                        new int[]{1, 1, 2, 2, 2, 3, 3, 3},
+                        new int[]{2, 2, 3, 3, 4, 4, 5, 5},
+                        new double[]{1.0, 0.95, 0.9, 0.85, 0.8, 0.75, 0.7, 0.65});
             }
             case ARCHMAGE -> {
-                maxWaves = 12;
                 maxActiveEntities = 18;
-                waveSpawnsPerWave = new int[]{10, 12, 14, 16, 18, 20, 22, 24, 26, 28, 30, 32};
-                waveSpeedMultipliers = new double[]{1.0, 1.1, 1.2, 1.3, 1.4, 1.5, 1.6, 1.7, 1.8, 1.9, 2.0, 2.2};
-                minSpawnsPerGroupByWave = new int[]{1, 2, 2, 2, 3, 3, 3, 4, 4, 4, 5, 5};
-                maxSpawnsPerGroupByWave = new int[]{2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8};
-                spawnDelayMultipliers = new double[]{0.9, 0.85, 0.8, 0.75, 0.7, 0.65, 0.6, 0.55, 0.5, 0.45, 0.4, 0.35};
+                progression = new TableWaveProgression(
+                        12,
+                        new int[]{10, 12, 14, 16, 18, 20, 22, 24, 26, 28, 30, 32},
+                        new double[]{1.0, 1.1, 1.2, 1.3, 1.4, 1.5, 1.6, 1.7, 1.8, 1.9, 2.0, 2.2},
+                        new int[]{1, 2, 2, 2, 3, 3, 3, 4, 4, 4, 5, 5},
+                        new int[]{2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8},
+                        new double[]{0.9, 0.85, 0.8, 0.75, 0.7, 0.65, 0.6, 0.55, 0.5, 0.45, 0.4, 0.35});
+            }
+            case ENDLESS -> {
+                DifficultySettings endless = DifficultySettings.forDifficulty(difficulty);
+                maxActiveEntities = endless.getMaxActiveEntities();
+                progression = endless.getProgression();
             }
             default -> throw new IllegalStateException("Unknown difficulty: " + difficulty);
         }
@@ -189,12 +190,7 @@ public class TypeWizApp extends GameApplication {
             stateManager,
             this::getRandomWordForWave,
             FXGL.getAppHeight(),
-            maxWaves,
-            waveSpawnsPerWave,
-            waveSpeedMultipliers,
-            minSpawnsPerGroupByWave,
-            maxSpawnsPerGroupByWave,
-            spawnDelayMultipliers
+            progression
         );
         FXGL.getWorldProperties().setValue("playerManager", playerManager);
         FXGL.getWorldProperties().setValue("inputManager", inputManager);
@@ -334,6 +330,18 @@ public class TypeWizApp extends GameApplication {
 
     @Override
     protected void onUpdate(double tpf) {
+        updateGameplay(tpf);
+
+        // Push this frame's HUD changes in one batch
+        hud.setFrameTime(tpf);
+        hud.flush();
+    }
+
+    /**
+     * Runs the game logic of one frame while the game is being played
+     * @param tpf Time per frame
+     */
+    private void updateGameplay(double tpf) {
         // Skip update if game is not active
         if (!stateManager.isInState(GameStateManager.GameState.PLAYING)) {
             return;
@@ -361,9 +369,6 @@ public class TypeWizApp extends GameApplication {
 
         // Process entity removals
         entityManager.processRemovals();
-
-        // Update performance display
-        UIFactory.updatePerformanceDisplay(tpf);
     }
 
     /**
@@ -413,7 +418,7 @@ public class TypeWizApp extends GameApplication {
         waveManager.reset();
 
         // Recreate UI elements
-        UIFactory.createUI(this);
+        hud = UIFactory.createUI(playerManager, waveManager.getMaxWaves());
 
         // Reset UI to wave 1
         updateWaveUI(1);
@@ -449,26 +454,8 @@ public class TypeWizApp extends GameApplication {
      * @param wave Current wave number
      */
     private void updateWaveUI(int wave) {
-        // Find the top bar HBox in the UI
-        for (Node node : FXGL.getGameScene().getUINodes()) {
-            if (node instanceof HBox) {
-                HBox topBar = (HBox) node;
-
-                // Check if this is the top bar by looking for wave display
-                for (Node child : topBar.getChildren()) {
-                    if (child instanceof VBox) {
-                        VBox box = (VBox) child;
-                        if (!box.getChildren().isEmpty() && box.getChildren().get(0) instanceof Text) {
-                            Text label = (Text) box.getChildren().get(0);
-                            if (label.getText().equals("WAVE")) {
-                                // Found the wave display, update it
-                                UIFactory.updateWave(topBar, wave);
-                                return;
-                            }
-                        }
-                    }
-                }
-            }
+        if (hud != null) {
+            hud.setWave(wave);
         }
     }
 
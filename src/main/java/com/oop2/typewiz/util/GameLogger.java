@@ -0,0 +1,244 @@
+package com.oop2.typewiz.util;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Level-gated logger for game code that runs on the FX thread.
+ * Messages below the current level cost a single comparison; messages passed as a
+ * {@link Supplier} are only built when they will actually be written. Records go into
+ * a fixed-size ring buffer and are written to the console by a background thread
+ * (warnings and errors to standard error),
+ * so a slow terminal never stalls a frame. If the buffer is full, records below WARN are
+ * dropped and counted instead of blocking the caller; warnings and errors are written directly.
+ *
+ * The level is read from the system property {@code typewiz.logLevel} (default INFO).
+ */
+public final class GameLogger {
+
+    public enum Level {
+        TRACE, DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    private static final int BUFFER_SIZE = 4096; // Must be a power of two
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS", Locale.ROOT).withZone(ZoneId.systemDefault());
+
+    private static volatile Level level = parseLevel(System.getProperty("typewiz.logLevel"));
+    private static final RingBuffer BUFFER = new RingBuffer(BUFFER_SIZE);
+
+    private final String name;
+
+    private GameLogger(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets a logger named after a class
+     *
+     * @param owner The class that logs
+     * @return A logger for that class
+     */
+    public static GameLogger getLogger(Class<?> owner) {
+        return new GameLogger(owner.getSimpleName());
+    }
+
+    /**
+     * Sets the minimum level that is written, for all loggers
+     *
+     * @param newLevel The new level
+     */
+    public static void setLevel(Level newLevel) {
+        level = newLevel;
+    }
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the number of records dropped because the buffer was full
+     *
+     * @return The dropped record count
+     */
+    public static long getDroppedCount() {
+        return BUFFER.dropped.get();
+    }
+
+    public boolean isEnabled(Level messageLevel) {
+        return messageLevel.compareTo(level) >= 0;
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
+    public void debug(String message) {
+        log(Level.DEBUG, message, null);
+    }
+
+    public void debug(Supplier<String> message) {
+        if (isEnabled(Level.DEBUG)) {
+            BUFFER.publish(Level.DEBUG, name, message.get(), null);
+        }
+    }
+
+    public void info(String message) {
+        log(Level.INFO, message, null);
+    }
+
+    public void info(Supplier<String> message) {
+        if (isEnabled(Level.INFO)) {
+            BUFFER.publish(Level.INFO, name, message.get(), null);
+        }
+    }
+
+    public void warn(String message) {
+        log(Level.WARN, message, null);
+    }
+
+    public void warn(String message, Throwable error) {
+        log(Level.WARN, message, error);
+    }
+
+    public void error(String message, Throwable error) {
+        log(Level.ERROR, message, error);
+    }
+
+    private void log(Level messageLevel, String message, Throwable error) {
+        if (isEnabled(messageLevel)) {
+            BUFFER.publish(messageLevel, name, message, error);
+        }
+    }
+
+    private static Level parseLevel(String value) {
+        if (value == null) {
+            return Level.INFO;
+        }
+        try {
+            return Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+
+    /**
+     * Multi-producer, single-consumer ring of preallocated records.
+     * Producers claim a sequence number, fill the slot and publish it; the writer
+     * thread consumes slots strictly in sequence order.
+     */
+    private static final class RingBuffer implements Runnable {
+        private final Record[] records;
+        private final AtomicLongArray published; // Sequence number stored in each slot once it is filled
+        private final int mask;
+        private final AtomicLong claimed = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private volatile long consumed;
+        private final Thread writer;
+
+        RingBuffer(int size) {
+            records = new Record[size];
+            published = new AtomicLongArray(size);
+            for (int i = 0; i < size; i++) {
+                records[i] = new Record();
+                published.set(i, -1);
+            }
+            mask = size - 1;
+
+            writer = new Thread(this, "GameLogger");
+            writer.setDaemon(true);
+            writer.start();
+            // Write out whatever is still buffered when the game exits
+            Runtime.getRuntime().addShutdownHook(new Thread(this::drain, "GameLogger-flush"));
+        }
+
+        void publish(Level level, String logger, String message, Throwable error) {
+            long sequence;
+            do {
+                sequence = claimed.get();
+                if (sequence - consumed >= records.length) {
+                    if (level.compareTo(Level.WARN) >= 0) {
+                        write(System.currentTimeMillis(), level, logger, message, error);
+                    } else {
+                        dropped.incrementAndGet();
+                    }
+                    return;
+                }
+            } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+            int slot = (int) (sequence & mask);
+            Record record = records[slot];
+            record.time = System.currentTimeMillis();
+            record.level = level;
+            record.logger = logger;
+            record.message = message;
+            record.error = error;
+            published.set(slot, sequence);
+
+            if (level.compareTo(Level.WARN) >= 0) {
+                LockSupport.unpark(writer);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                if (!drain()) {
+                    LockSupport.parkNanos(5_000_000L);
+                }
+            }
+        }
+
+        /**
+         * Writes every published record
+         *
+         * @return true if anything was written
+         */
+        synchronized boolean drain() {
+            long sequence = consumed;
+            boolean wrote = false;
+            while (true) {
+                int slot = (int) (sequence & mask);
+                if (published.get(slot) != sequence) {
+                    break;
+                }
+                Record record = records[slot];
+                write(record.time, record.level, record.logger, record.message, record.error);
+                record.message = null;
+                record.error = null;
+                sequence++;
+                consumed = sequence;
+                wrote = true;
+            }
+            if (wrote) {
+                System.out.flush();
+                System.err.flush();
+            }
+            return wrote;
+        }
+
+        private static void write(long time, Level level, String logger, String message, Throwable error) {
+            PrintStream out = level.compareTo(Level.WARN) >= 0 ? System.err : System.out;
+            out.println(TIME_FORMAT.format(Instant.ofEpochMilli(time)) + " " + level
+                    + " [" + logger + "] " + message);
+            if (error != null) {
+                error.printStackTrace(out);
+            }
+        }
+    }
+
+    private static final class Record {
+        long time;
+        Level level;
+        String logger;
+        String message;
+        Throwable error;
+    }
+}
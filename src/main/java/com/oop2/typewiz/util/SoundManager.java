@@ -13,6 +13,7 @@ public class SoundManager {
     private Music currentBGM;
     private double bgmVolume = 0.4;
     private double sfxVolume = 0.6;
+    private boolean muted;
 
     // BGM files
     private static final String MENU_BGM = "bgm.mp3";
@@ -117,6 +118,7 @@ public class SoundManager {
     }
 
     public void playTypingSound(boolean correct) {
+        if (muted) return;
         try {
             if (correct) {
                 // Play random typing sound
@@ -132,6 +134,7 @@ public class SoundManager {
     }
 
     public void playEnemyDefeat() {
+        if (muted) return;
         try {
             FXGL.getAudioPlayer().playSound(FXGL.getAssetLoader().loadSound(ENEMY_DEFEAT));
         } catch (Exception e) {
@@ -140,6 +143,7 @@ public class SoundManager {
     }
 
     public void playGameOver() {
+        if (muted) return;
         try {
             FXGL.getAudioPlayer().playSound(FXGL.getAssetLoader().loadSound(GAME_OVER));
         } catch (Exception e) {
@@ -148,6 +152,7 @@ public class SoundManager {
     }
 
     public void playVictory() {
+        if (muted) return;
         try {
             FXGL.getAudioPlayer().playSound(FXGL.getAssetLoader().loadSound(VICTORY));
         } catch (Exception e) {
@@ -156,6 +161,7 @@ public class SoundManager {
     }
 
     public void playWaveAnnounce() {
+        if (muted) return;
         try {
             FXGL.getAudioPlayer().playSound(FXGL.getAssetLoader().loadSound(WAVE_ANNOUNCE));
         } catch (Exception e) {
@@ -164,6 +170,7 @@ public class SoundManager {
     }
 
     public void playWingFlap() {
+        if (muted) return;
         try {
             FXGL.getAudioPlayer().playSound(FXGL.getAssetLoader().loadSound(WING_FLAP));
         } catch (Exception e) {
@@ -172,6 +179,7 @@ public class SoundManager {
     }
 
     public void playButtonHover() {
+        if (muted) return;
         try {
             FXGL.getAudioPlayer().playSound(FXGL.getAssetLoader().loadSound(BUTTON_HOVER));
         } catch (Exception e) {
@@ -180,6 +188,7 @@ public class SoundManager {
     }
 
     public void playButtonClick() {
+        if (muted) return;
         try {
             FXGL.getAudioPlayer().playSound(FXGL.getAssetLoader().loadSound(BUTTON_CLICK));
         } catch (Exception e) {
@@ -188,6 +197,7 @@ public class SoundManager {
     }
 
     public void playSpacebarComplete() {
+        if (muted) return;
         try {
             FXGL.getAudioPlayer().playSound(FXGL.getAssetLoader().loadSound(SPACEBAR_COMPLETE));
         } catch (Exception e) {
@@ -196,6 +206,7 @@ public class SoundManager {
     }
 
     public void playShiftCycle() {
+        if (muted) return;
         try {
             FXGL.getAudioPlayer().playSound(FXGL.getAssetLoader().loadSound(SHIFT_CYCLE));
         } catch (Exception e) {
@@ -203,6 +214,15 @@ public class SoundManager {
         }
     }
 
+    /**
+     * Mutes or unmutes sound effects, e.g. for headless runs without an audio device
+     *
+     * @param muted Whether sound effects should be skipped
+     */
+    public void setMuted(boolean muted) {
+        this.muted = muted;
+    }
+
     public void setMusicVolume(double volume) {
         bgmVolume = Math.max(0.0, Math.min(1.0, volume));
         FXGL.getSettings().setGlobalMusicVolume(bgmVolume);
@@ -243,6 +263,7 @@ public class SoundManager {
     }
 
     public void playDamage() {
+        if (muted) return;
         try {
             FXGL.getAudioPlayer().playSound(FXGL.getAssetLoader().loadSound(DAMAGE));
         } catch (Exception e) {
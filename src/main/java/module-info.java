@@ -6,6 +6,7 @@ open module TypeWiz {
     requires javafx.graphics;
     requires javafx.base;
     requires javafx.media;
+    requires jdk.management;
 
     // Ensure explicit visibility for FXGL entity classes
     requires com.almasb.fxgl.core;
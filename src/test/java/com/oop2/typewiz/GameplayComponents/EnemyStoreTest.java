@@ -0,0 +1,221 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.almasb.fxgl.entity.Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the slot and urgency bookkeeping of {@link EnemyStore}.
+ * Enemies are plain entities, so FXGL does not need to be running.
+ */
+class EnemyStoreTest {
+    private static final double SCREEN_WIDTH = 1000;
+
+    private EnemyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new EnemyStore(SCREEN_WIDTH);
+    }
+
+    private Entity add(double x, boolean movingRight) {
+        Entity enemy = new Entity();
+        enemy.setX(x);
+        enemy.setProperty("movingRight", movingRight);
+        store.add(enemy, 50, 100);
+        return enemy;
+    }
+
+    /**
+     * Checks that urgencyOrder and urgencyRank are inverse permutations of the slots,
+     * that the order runs from the shortest distance to exit to the longest and that
+     * every slot holds a distinct stored entity
+     */
+    private void assertConsistent() {
+        for (int rank = 0; rank < store.size; rank++) {
+            int slot = store.urgencyOrder[rank];
+            assertTrue(slot >= 0 && slot < store.size, "slot " + slot + " at rank " + rank);
+            assertEquals(rank, store.urgencyRank[slot], "rank of slot " + slot);
+            if (rank > 0) {
+                assertTrue(store.distanceToExit[store.urgencyOrder[rank - 1]] <= store.distanceToExit[slot],
+                        "order at rank " + rank);
+            }
+        }
+        for (int i = 0; i < store.size; i++) {
+            assertTrue(store.contains(store.entities[i]), "slot " + i);
+            for (int j = i + 1; j < store.size; j++) {
+                assertFalse(store.entities[i] == store.entities[j], "slots " + i + " and " + j);
+            }
+        }
+    }
+
+    private List<Entity> cycle() {
+        List<Entity> order = new ArrayList<>();
+        Entity current = store.getMostUrgent();
+        for (int i = 0; i < store.size(); i++) {
+            order.add(current);
+            current = store.getNextByUrgency(current);
+        }
+        assertSame(store.getMostUrgent(), current, "cycle wraps around");
+        return order;
+    }
+
+    @Test
+    void addKeepsEnemiesRankedByDistanceToExit() {
+        Entity far = add(700, false);      // 700 from the left edge
+        Entity near = add(100, false);     // 100
+        Entity right = add(800, true);     // 200 from the right edge
+        Entity middle = add(400, true);    // 600
+
+        assertConsistent();
+        assertSame(near, store.getMostUrgent());
+        assertEquals(List.of(near, right, middle, far), cycle());
+    }
+
+    @Test
+    void removingMidOrderClosesTheGap() {
+        Entity a = add(100, false);
+        Entity b = add(200, false);
+        Entity c = add(300, false);
+        Entity d = add(400, false);
+        Entity e = add(500, false);
+
+        store.remove(c);
+
+        assertEquals(4, store.size());
+        assertFalse(store.contains(c));
+        assertConsistent();
+        assertEquals(List.of(a, b, d, e), cycle());
+    }
+
+    @Test
+    void removingAnEnemyMovesTheLastSlotIntoItsPlace() {
+        Entity a = add(300, false);
+        Entity b = add(100, false);
+        Entity c = add(200, false);
+
+        store.remove(a);
+
+        assertEquals(2, store.size());
+        assertSame(c, store.entities[0]);
+        assertEquals(200, store.x[0]);
+        assertNull(store.entities[2]);
+        assertConsistent();
+        assertEquals(List.of(b, c), cycle());
+    }
+
+    @Test
+    void removingTheLastSlot() {
+        Entity a = add(300, false);
+        Entity b = add(200, false);
+        Entity c = add(100, false); // Last slot and most urgent
+
+        store.remove(c);
+
+        assertEquals(2, store.size());
+        assertNull(store.entities[2]);
+        assertConsistent();
+        assertEquals(List.of(b, a), cycle());
+
+        // Last slot and least urgent
+        store.remove(a);
+        assertEquals(1, store.size());
+        assertConsistent();
+        assertSame(b, store.getMostUrgent());
+        assertSame(b, store.getNextByUrgency(b));
+    }
+
+    @Test
+    void removingEveryEnemyEmptiesTheStore() {
+        Entity a = add(100, false);
+        Entity b = add(200, true);
+
+        store.remove(b);
+        store.remove(a);
+        store.remove(a);
+
+        assertEquals(0, store.size());
+        assertNull(store.getMostUrgent());
+        assertNull(store.getNextByUrgency(a));
+    }
+
+    @Test
+    void cyclingAfterARemoveSkipsTheRemovedEnemy() {
+        Entity a = add(100, false);
+        Entity b = add(200, false);
+        Entity c = add(300, false);
+        Entity d = add(400, false);
+
+        assertSame(c, store.getNextByUrgency(b));
+        store.remove(b);
+
+        assertConsistent();
+        assertSame(c, store.getNextByUrgency(a));
+        assertSame(d, store.getNextByUrgency(c));
+        assertSame(a, store.getNextByUrgency(d));
+        // A target that is gone falls back to the most urgent enemy
+        assertSame(a, store.getNextByUrgency(b));
+    }
+
+    @Test
+    void sortByUrgencyFollowsMovement() {
+        Entity a = add(100, false);
+        Entity b = add(200, false);
+        Entity c = add(300, true); // 700 from the right edge
+
+        store.x[store.urgencyOrder[0]] = 250; // a falls behind b
+        store.x[store.urgencyOrder[2]] = 950; // c is now 50 from its edge
+        store.sortByUrgency();
+
+        assertConsistent();
+        assertEquals(List.of(c, b, a), cycle());
+    }
+
+    @Test
+    void sortAfterARemoveKeepsTheBookkeeping() {
+        List<Entity> enemies = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            enemies.add(add(100 + 80 * i, i % 2 == 0));
+        }
+        store.remove(enemies.get(4));
+        store.remove(enemies.get(9));
+        for (int i = 0; i < store.size; i++) {
+            store.x[i] += store.movingRight[i] ? 60 : -60;
+        }
+        store.sortByUrgency();
+
+        assertEquals(8, store.size());
+        assertConsistent();
+        assertEquals(8, cycle().size());
+    }
+
+    @Test
+    void addingTwiceIsIgnored() {
+        Entity a = add(100, false);
+        store.add(a, 50, 100);
+
+        assertEquals(1, store.size());
+        assertConsistent();
+    }
+
+    @Test
+    void clearEmptiesTheStore() {
+        Entity a = add(100, false);
+        add(200, false);
+
+        store.clear();
+
+        assertEquals(0, store.size());
+        assertFalse(store.contains(a));
+        assertNull(store.getMostUrgent());
+    }
+}
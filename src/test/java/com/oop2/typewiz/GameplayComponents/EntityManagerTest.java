@@ -0,0 +1,85 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.almasb.fxgl.entity.Entity;
+import com.oop2.typewiz.util.SoundManager;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for {@link EntityManager} with real enemies in a {@link HeadlessEnvironment},
+ * covering what happens to the player's target when its enemy goes back to the pool.
+ */
+class EntityManagerTest {
+    private static final double SCREEN_WIDTH = 1280;
+    private static final double SCREEN_HEIGHT = 720;
+    private static final double TPF = 1.0 / 60.0;
+
+    private HeadlessEnvironment environment;
+    private EntityManager entityManager;
+    private InputManager inputManager;
+    private Game.EntityType type;
+
+    @BeforeEach
+    void setUp() {
+        environment = new HeadlessEnvironment(SCREEN_WIDTH, SCREEN_HEIGHT);
+        GameEnvironment.set(environment);
+        SoundManager.getInstance().setMuted(true);
+
+        GameStateManager stateManager = new GameStateManager();
+        // Empty pools, so the enemy that escapes is the next one handed out
+        entityManager = new EntityManager(SCREEN_WIDTH, SCREEN_HEIGHT, 10, false);
+        PlayerManager playerManager = new PlayerManager();
+        inputManager = new InputManager(entityManager, playerManager, stateManager);
+        environment.setManagers(playerManager, inputManager);
+        stateManager.startPlaying(null);
+        type = EnemyFactory.getArchetypes().get(0).getType();
+    }
+
+    private Entity spawn(String word, double x) {
+        Entity enemy = entityManager.getFromPool(type);
+        // Spawning from the left puts the enemy at x, heading right
+        EnemyFactory.spawnEnemy(enemy, 0, 300, false, x);
+        EnemyFactory.configureEnemyWord(enemy, word, 300);
+        entityManager.addActiveEntity(enemy);
+        return enemy;
+    }
+
+    private void type(String keys) {
+        for (char c : keys.toCharArray()) {
+            inputManager.handleKeyTyped(new KeyEvent(KeyEvent.KEY_TYPED, String.valueOf(c), "", KeyCode.UNDEFINED,
+                    false, false, false, false));
+        }
+    }
+
+    @Test
+    void escapingTargetWithNothingLeftDropsTheSelection() {
+        Entity enemy = spawn("spell", SCREEN_WIDTH - 1);
+        inputManager.selectWordBlock(enemy);
+        type("sp");
+        assertEquals("sp", inputManager.getCurrentInput());
+
+        // One long frame carries the enemy past the right edge
+        entityManager.updateEntities(1.0, 1.0);
+        entityManager.processRemovals();
+        environment.advance(TPF);
+
+        assertFalse(entityManager.hasActiveEnemies());
+        assertNull(inputManager.getSelectedWordBlock());
+        assertEquals(0, inputManager.getCurrentInputLength());
+
+        // The same entity comes back from the pool with a new word
+        Entity respawned = spawn("frost", 400);
+        assertSame(enemy, respawned);
+        type("f");
+
+        assertSame(respawned, inputManager.getSelectedWordBlock());
+        assertEquals("f", inputManager.getCurrentInput());
+    }
+}
@@ -0,0 +1,200 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link MappedDictionaryBuilder} and {@link MappedDictionary}: what is written
+ * comes back, words land in the right tier, random picks follow the frequencies and
+ * damaged files are rejected when opened.
+ */
+class MappedDictionaryTest {
+    @TempDir
+    Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("words.twd");
+    }
+
+    private static MappedDictionaryBuilder sampleBuilder() {
+        MappedDictionaryBuilder builder = new MappedDictionaryBuilder(0.3, 0.6);
+        builder.add("cat", 5, 0.1);
+        builder.add("dog", 20, 0.2);
+        builder.add("wizard", 3, 0.4);
+        builder.add("spell", 7, 0.5);
+        builder.add("incantation", 2, 0.9);
+        return builder;
+    }
+
+    private static int readInt(Path file, long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(buffer, position);
+            return buffer.getInt(0);
+        }
+    }
+
+    private static void writeInt(Path file, long position, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, value), position);
+        }
+    }
+
+    private static long entry(int index) {
+        return MappedDictionary.HEADER_BYTES + (long) index * MappedDictionary.ENTRY_BYTES;
+    }
+
+    @Test
+    void roundTripKeepsWordsAndScores() throws IOException {
+        sampleBuilder().write(file);
+        MappedDictionary dictionary = MappedDictionary.open(file);
+
+        assertEquals(5, dictionary.size());
+        assertEquals(file.toString(), dictionary.getSource());
+        // Most frequent first within a tier
+        assertEquals("dog", dictionary.get(WordCorpus.Tier.EASY, 0));
+        assertEquals("cat", dictionary.get(WordCorpus.Tier.EASY, 1));
+        assertEquals("spell", dictionary.get(WordCorpus.Tier.MEDIUM, 0));
+        assertEquals("wizard", dictionary.get(WordCorpus.Tier.MEDIUM, 1));
+        assertEquals("incantation", dictionary.get(WordCorpus.Tier.HARD, 0));
+        assertEquals(20f, dictionary.getFrequency(WordCorpus.Tier.EASY, 0));
+        assertEquals(0.4f, dictionary.getDifficulty(WordCorpus.Tier.MEDIUM, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> dictionary.get(WordCorpus.Tier.HARD, 1));
+    }
+
+    @Test
+    void roundTripKeepsNonAsciiWords() throws IOException {
+        MappedDictionaryBuilder builder = new MappedDictionaryBuilder(0.3, 0.6);
+        builder.add("caf\u00e9", 1, 0.1);
+        builder.add("\u00fcber", 1, 0.5);
+        builder.add("se\u00f1orita", 1, 0.9);
+        builder.write(file);
+        MappedDictionary dictionary = MappedDictionary.open(file);
+
+        assertEquals("caf\u00e9", dictionary.get(WordCorpus.Tier.EASY, 0));
+        assertEquals("\u00fcber", dictionary.get(WordCorpus.Tier.MEDIUM, 0));
+        assertEquals("se\u00f1orita", dictionary.get(WordCorpus.Tier.HARD, 0));
+    }
+
+    @Test
+    void tierLimitsAreExclusive() throws IOException {
+        MappedDictionaryBuilder builder = new MappedDictionaryBuilder(0.3, 0.6);
+        builder.add("below", 1, 0.29);
+        builder.add("easymax", 1, 0.3);
+        builder.add("mediummax", 1, 0.6);
+        builder.write(file);
+        MappedDictionary dictionary = MappedDictionary.open(file);
+
+        assertEquals(1, dictionary.size(WordCorpus.Tier.EASY));
+        assertEquals(1, dictionary.size(WordCorpus.Tier.MEDIUM));
+        assertEquals(1, dictionary.size(WordCorpus.Tier.HARD));
+        assertEquals("below", dictionary.get(WordCorpus.Tier.EASY, 0));
+        assertEquals("easymax", dictionary.get(WordCorpus.Tier.MEDIUM, 0));
+        assertEquals("mediummax", dictionary.get(WordCorpus.Tier.HARD, 0));
+    }
+
+    @Test
+    void repeatedWordsAddUpTheirFrequencies() throws IOException {
+        MappedDictionaryBuilder builder = sampleBuilder();
+        builder.add("cat", 30, 0.1);
+        assertEquals(5, builder.size());
+        builder.write(file);
+        MappedDictionary dictionary = MappedDictionary.open(file);
+
+        assertEquals("cat", dictionary.get(WordCorpus.Tier.EASY, 0));
+        assertEquals(35f, dictionary.getFrequency(WordCorpus.Tier.EASY, 0));
+    }
+
+    @Test
+    void emptyTierIsNotWritten() {
+        MappedDictionaryBuilder builder = new MappedDictionaryBuilder(0.3, 0.6);
+        builder.add("cat", 1, 0.1);
+        builder.add("incantation", 1, 0.9);
+        assertThrows(IllegalStateException.class, () -> builder.write(file));
+    }
+
+    @Test
+    void randomWordFollowsFrequencies() throws IOException {
+        MappedDictionaryBuilder builder = new MappedDictionaryBuilder(0.3, 0.6);
+        double[] frequencies = {1, 2, 3, 4, 10};
+        double total = 0;
+        for (int i = 0; i < frequencies.length; i++) {
+            builder.add("easy" + i, frequencies[i], 0.1);
+            total += frequencies[i];
+        }
+        builder.add("medium", 1, 0.5);
+        builder.add("hard", 1, 0.9);
+        builder.write(file);
+        MappedDictionary dictionary = MappedDictionary.open(file);
+
+        int samples = 200_000;
+        Random random = new Random(7);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < samples; i++) {
+            counts.merge(dictionary.randomWord(WordCorpus.Tier.EASY, random), 1, Integer::sum);
+        }
+        assertEquals(frequencies.length, counts.size());
+        for (int i = 0; i < frequencies.length; i++) {
+            double expected = frequencies[i] / total;
+            double actual = counts.getOrDefault("easy" + i, 0) / (double) samples;
+            assertEquals(expected, actual, 0.005, "share of easy" + i);
+        }
+        assertEquals("medium", dictionary.randomWord(WordCorpus.Tier.MEDIUM, random));
+    }
+
+    @Test
+    void rejectsOffsetPastTheData() throws IOException {
+        sampleBuilder().write(file);
+        int dataSize = readInt(file, 16);
+        writeInt(file, entry(1), dataSize + 1);
+
+        IOException e = assertThrows(IOException.class, () -> MappedDictionary.open(file));
+        assertTrue(e.getMessage().startsWith("Corrupt dictionary index"), e.getMessage());
+    }
+
+    @Test
+    void rejectsOffsetsOutOfOrder() throws IOException {
+        sampleBuilder().write(file);
+        writeInt(file, entry(3), 0);
+
+        IOException e = assertThrows(IOException.class, () -> MappedDictionary.open(file));
+        assertTrue(e.getMessage().startsWith("Corrupt dictionary index"), e.getMessage());
+    }
+
+    @Test
+    void rejectsAliasOutsideItsTier() throws IOException {
+        sampleBuilder().write(file);
+        // Index 1 is the second easy word; the easy tier has two words
+        writeInt(file, entry(1) + 16, 2); // alias field
+
+        IOException e = assertThrows(IOException.class, () -> MappedDictionary.open(file));
+        assertTrue(e.getMessage().startsWith("Corrupt dictionary index"), e.getMessage());
+    }
+
+    @Test
+    void rejectsWordsLongerThanTheHeaderAllows() throws IOException {
+        sampleBuilder().write(file);
+        // maxWordBytes, shorter than "incantation"
+        writeInt(file, 12, 6);
+
+        IOException e = assertThrows(IOException.class, () -> MappedDictionary.open(file));
+        assertTrue(e.getMessage().startsWith("Corrupt dictionary index"), e.getMessage());
+    }
+}
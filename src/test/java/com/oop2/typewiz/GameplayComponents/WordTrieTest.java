@@ -0,0 +1,179 @@
+package com.oop2.typewiz.GameplayComponents;
+
+import com.almasb.fxgl.entity.Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link WordTrie}: prefix lookup, removal with unlinking of unused nodes,
+ * and what a caller holding on to a node sees afterwards.
+ */
+class WordTrieTest {
+    private WordTrie trie;
+    private Entity fire;
+    private Entity fireball;
+    private Entity frost;
+
+    @BeforeEach
+    void setUp() {
+        trie = new WordTrie();
+        fire = new Entity();
+        fireball = new Entity();
+        frost = new Entity();
+        trie.insert("fire", fire);
+        trie.insert("fireball", fireball);
+        trie.insert("frost", frost);
+    }
+
+    @Test
+    void sharedPrefixMatchesEveryEnemy() {
+        WordTrie.Node f = trie.find("f");
+        assertTrue(f.contains(fire));
+        assertTrue(f.contains(fireball));
+        assertTrue(f.contains(frost));
+
+        WordTrie.Node fir = trie.find("fir");
+        assertTrue(fir.contains(fire));
+        assertTrue(fir.contains(fireball));
+        assertFalse(fir.contains(frost));
+        assertSame(fire, fir.getFirstEntity());
+
+        assertNull(trie.find("fix"));
+        assertSame(trie.getRoot(), trie.find(""));
+    }
+
+    @Test
+    void steppingMatchesFind() {
+        WordTrie.Node node = trie.getRoot();
+        for (char c : "fireb".toCharArray()) {
+            node = node.getChild(c);
+        }
+        assertSame(trie.find("fireb"), node);
+        assertSame(trie.find("fire"), node.getParent());
+        assertNull(node.getChild('x'));
+    }
+
+    @Test
+    void completedWordIsFoundOnlyAtItsFullLength() {
+        assertSame(fire, trie.find("fire").getCompletedEntity(null));
+        assertNull(trie.find("fir").getCompletedEntity(null));
+        assertSame(fireball, trie.find("fireball").getCompletedEntity(fire));
+    }
+
+    @Test
+    void removeKeepsNodesOtherEnemiesUse() {
+        WordTrie.Node fir = trie.find("fir");
+        WordTrie.Node fireb = trie.find("fireb");
+
+        trie.remove("fireball", fireball);
+
+        assertTrue(fir.isAttached());
+        assertFalse(fir.contains(fireball));
+        assertSame(fire, fir.getFirstEntity());
+        assertFalse(fireb.isAttached());
+        assertNull(trie.find("fireb"));
+        assertSame(fire, trie.find("fire").getCompletedEntity(null));
+    }
+
+    @Test
+    void removingTheCurrentTargetDetachesItsPrefix() {
+        // The player has typed "fr" at frost
+        WordTrie.Node typed = trie.find("fr");
+        assertSame(frost, typed.getFirstEntity());
+
+        trie.remove("frost", frost);
+
+        assertFalse(typed.isAttached());
+        assertFalse(typed.contains(frost));
+        assertNull(typed.getFirstEntity());
+        assertNull(trie.find("fr"));
+        assertTrue(trie.find("f").isAttached());
+        assertFalse(trie.find("f").contains(frost));
+    }
+
+    @Test
+    void removingTheCurrentTargetFallsBackToAnotherMatch() {
+        // The player has typed "fire" at fireball
+        WordTrie.Node typed = trie.find("fire");
+
+        trie.remove("fireball", fireball);
+
+        assertTrue(typed.isAttached());
+        assertSame(fire, typed.getFirstEntity());
+        assertSame(fire, typed.getCompletedEntity(fireball));
+    }
+
+    @Test
+    void sameWordOnTwoEnemies() {
+        Entity twin = new Entity();
+        trie.insert("frost", twin);
+        WordTrie.Node node = trie.find("frost");
+
+        assertSame(frost, node.getFirstEntity());
+        assertSame(frost, node.getCompletedEntity(null));
+        assertSame(twin, node.getCompletedEntity(twin));
+
+        trie.remove("frost", frost);
+
+        assertTrue(node.isAttached());
+        assertFalse(node.contains(frost));
+        assertSame(twin, node.getFirstEntity());
+        assertSame(twin, node.getCompletedEntity(frost));
+
+        trie.remove("frost", twin);
+
+        assertFalse(node.isAttached());
+        assertNull(trie.find("fr"));
+    }
+
+    @Test
+    void removingAWordThatIsNotThereChangesNothing() {
+        trie.remove("fireworks", fire);
+        trie.remove("", fire);
+        trie.remove(null, fire);
+
+        assertNotNull(trie.find("fireb"));
+        assertSame(fire, trie.find("fire").getCompletedEntity(null));
+    }
+
+    @Test
+    void emptyWordsAreIgnored() {
+        Entity blank = new Entity();
+        trie.insert("", blank);
+        trie.insert(null, blank);
+
+        assertFalse(trie.getRoot().contains(blank));
+        assertNull(trie.getRoot().getCompletedEntity(null));
+    }
+
+    @Test
+    void reinsertingAfterRemoveBuildsNewNodes() {
+        WordTrie.Node old = trie.find("fro");
+        trie.remove("frost", frost);
+        trie.insert("frost", frost);
+
+        WordTrie.Node fresh = trie.find("fro");
+        assertFalse(old.isAttached());
+        assertTrue(fresh.isAttached());
+        assertSame(frost, fresh.getFirstEntity());
+    }
+
+    @Test
+    void clearDetachesEveryNode() {
+        WordTrie.Node root = trie.getRoot();
+        WordTrie.Node prefix = trie.find("fire");
+
+        trie.clear();
+
+        assertFalse(root.isAttached());
+        assertFalse(prefix.isAttached());
+        assertTrue(trie.getRoot().isAttached());
+        assertNull(trie.find("f"));
+    }
+}